@@ -0,0 +1,37 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty;
+
+/**
+ * Contract that meters must implement to receive the connection pool metrics of the Netty-based
+ * {@link com.azure.core.http.HttpClient}. A meter is plugged in with
+ * {@link NettyAsyncHttpClientBuilder#connectionPoolMeter(ConnectionPoolMeter)}.
+ *
+ * <p>Hosts are identified as {@code host:port}. Methods are called on the threads that acquire and release
+ * connections, often I/O threads, and must not block.</p>
+ *
+ * @see InMemoryConnectionPoolMeter
+ */
+public interface ConnectionPoolMeter {
+    /**
+     * Records the time taken to acquire a connection to a host, measured from the moment the request asked for a
+     * connection until the pool handed one out, which includes waiting for a connection to be released and
+     * establishing a new connection.
+     *
+     * @param host The host the connection was acquired for.
+     * @param durationNanos The duration in nanoseconds.
+     * @param failed Whether the acquisition failed or timed out instead of producing a connection.
+     */
+    void recordAcquire(String host, long durationNanos, boolean failed);
+
+    /**
+     * Records the connection counts of a host, called every time one of them changes.
+     *
+     * @param host The host whose counts changed.
+     * @param active The number of connections currently used by requests.
+     * @param idle The number of open connections waiting in the pool to be reused.
+     * @param pendingAcquires The number of requests waiting for a connection.
+     */
+    void recordConnections(String host, int active, int idle, int pendingAcquires);
+}
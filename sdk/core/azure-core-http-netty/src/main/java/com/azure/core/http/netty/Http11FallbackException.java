@@ -0,0 +1,15 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty;
+
+/**
+ * Signals that a host selected HTTP/1.1 during ALPN negotiation, so its requests must be sent over HTTP/1.1.
+ */
+final class Http11FallbackException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    Http11FallbackException() {
+        super("The host did not negotiate HTTP/2.", null, false, false);
+    }
+}
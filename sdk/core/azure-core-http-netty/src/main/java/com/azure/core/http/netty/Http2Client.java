@@ -0,0 +1,143 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty;
+
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.logging.ClientLogger;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import reactor.core.publisher.Mono;
+
+import javax.net.ssl.SSLException;
+import java.net.URL;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Sends requests over HTTP/2 to the hosts that support it, and over HTTP/1.1 to the others.
+ *
+ * <p>HTTPS hosts are probed with ALPN on their first request. Hosts that select HTTP/1.1 are remembered, and all
+ * their requests, including the one that probed them, are sent with the HTTP/1.1 client.</p>
+ */
+final class Http2Client {
+    /*
+     * Runs the HTTP/2 connections of the clients that are not given an event loop group, created on first use.
+     */
+    private static volatile EventLoopGroup sharedEventLoopGroup;
+
+    private final ClientLogger logger = new ClientLogger(Http2Client.class);
+
+    private final Http2Options options;
+    private final EventLoopGroup eventLoopGroup;
+    private final SslContext sslContext;
+    private final Map<String, Http2HostPool> pools = new ConcurrentHashMap<>();
+    private final Set<String> http11Hosts = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates an Http2Client.
+     *
+     * @param options the HTTP/2 options
+     * @param eventLoopGroup the event loops running the connections, or null to use a shared group
+     */
+    Http2Client(Http2Options options, EventLoopGroup eventLoopGroup) {
+        this.options = options;
+        this.eventLoopGroup = eventLoopGroup;
+        this.sslContext = createSslContext();
+    }
+
+    /**
+     * Creates an Http2Client.
+     *
+     * @param options the HTTP/2 options
+     * @param eventLoopGroup the event loops running the connections, or null to use a shared group
+     * @param sslContext the SSL context of HTTPS connections, which must negotiate HTTP/2 with ALPN, or null to send
+     * HTTPS requests over HTTP/1.1
+     */
+    Http2Client(Http2Options options, EventLoopGroup eventLoopGroup, SslContext sslContext) {
+        this.options = options;
+        this.eventLoopGroup = eventLoopGroup;
+        this.sslContext = sslContext;
+    }
+
+    /**
+     * Sends the request over HTTP/2 if its host supports it.
+     *
+     * @param request the request
+     * @param http11 sends a request over HTTP/1.1
+     * @return a Mono emitting the response
+     */
+    Mono<HttpResponse> send(HttpRequest request, Function<HttpRequest, Mono<HttpResponse>> http11) {
+        final URL url = request.getUrl();
+        final String scheme = url.getProtocol().toLowerCase(Locale.ROOT);
+        final boolean secure = "https".equals(scheme);
+        if (secure ? sslContext == null : !("http".equals(scheme) && options.isPriorKnowledge())) {
+            return http11.apply(request);
+        }
+
+        final int port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+        final String key = scheme + "://" + url.getHost() + ":" + port;
+        if (http11Hosts.contains(key)) {
+            return http11.apply(request);
+        }
+
+        final Http2HostPool pool = pools.computeIfAbsent(key, ignored ->
+            new Http2HostPool(getEventLoopGroup(), secure ? sslContext : null, options, url.getHost(), port));
+        return pool.acquire()
+            .flatMap(stream -> Http2StreamHandler.send(stream, request))
+            .onErrorResume(Http11FallbackException.class, e -> {
+                http11Hosts.add(key);
+                pools.remove(key, pool);
+                return http11.apply(request);
+            });
+    }
+
+    private EventLoopGroup getEventLoopGroup() {
+        if (eventLoopGroup != null) {
+            return eventLoopGroup;
+        }
+
+        EventLoopGroup group = sharedEventLoopGroup;
+        if (group == null) {
+            synchronized (Http2Client.class) {
+                group = sharedEventLoopGroup;
+                if (group == null) {
+                    group = new NioEventLoopGroup(0, new DefaultThreadFactory("azure-http2", true));
+                    sharedEventLoopGroup = group;
+                }
+            }
+        }
+        return group;
+    }
+
+    private SslContext createSslContext() {
+        try {
+            return SslContextBuilder.forClient()
+                .sslProvider(SslProvider.JDK)
+                .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+                .applicationProtocolConfig(new ApplicationProtocolConfig(
+                    ApplicationProtocolConfig.Protocol.ALPN,
+                    ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                    ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                    ApplicationProtocolNames.HTTP_2,
+                    ApplicationProtocolNames.HTTP_1_1))
+                .build();
+        } catch (SSLException | UnsupportedOperationException e) {
+            // The JDK does not support ALPN, HTTPS requests keep using HTTP/1.1.
+            logger.warning("ALPN is not available, HTTPS requests will be sent over HTTP/1.1.", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,363 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http2.DefaultHttp2WindowUpdateFrame;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2GoAwayFrame;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2SettingsFrame;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.Promise;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The HTTP/2 connections to a single host, and the streams opened on them.
+ *
+ * <p>Streams are opened on the least loaded connection that has not reached the stream limit of the server. Another
+ * connection is opened when all of them have, up to {@link Http2Options#getMaxConnectionsPerHost()}. Streams over
+ * {@link Http2Options#getMaxConcurrentStreams()} wait, in arrival order, for a stream of the host to close.</p>
+ *
+ * <p>All fields are guarded by the instance lock, sinks are completed and streams opened outside of it.</p>
+ */
+final class Http2HostPool {
+    private final EventLoopGroup eventLoopGroup;
+    private final SslContext sslContext;
+    private final Http2Options options;
+    private final String host;
+    private final int port;
+
+    private final List<PooledConnection> connections = new ArrayList<>();
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private int connecting;
+    private int activeStreams;
+
+    /**
+     * Creates the pool of a host.
+     *
+     * @param eventLoopGroup the event loops running the connections
+     * @param sslContext the ALPN-enabled SSL context for HTTPS hosts, or null for cleartext HTTP/2
+     * @param options the HTTP/2 options
+     * @param host the host name
+     * @param port the port
+     */
+    Http2HostPool(EventLoopGroup eventLoopGroup, SslContext sslContext, Http2Options options, String host, int port) {
+        this.eventLoopGroup = eventLoopGroup;
+        this.sslContext = sslContext;
+        this.options = options;
+        this.host = host;
+        this.port = port;
+    }
+
+    /**
+     * Opens a stream to the host, waiting for a connection or for other streams to complete if needed.
+     *
+     * <p>Fails with {@link Http11FallbackException} if the host selected HTTP/1.1 during protocol negotiation.</p>
+     *
+     * @return a Mono emitting the opened stream channel
+     */
+    Mono<Http2StreamChannel> acquire() {
+        return Mono.create(sink -> {
+            final Waiter waiter = new Waiter(sink);
+            // A MonoSink only accepts a single cancellation callback.
+            sink.onCancel(() -> {
+                waiter.cancelled = true;
+                synchronized (this) {
+                    waiters.remove(waiter);
+                }
+            });
+
+            final PooledConnection connection;
+            boolean connect = false;
+            synchronized (this) {
+                connection = activeStreams < options.getMaxConcurrentStreams() ? findAvailableConnection() : null;
+                if (connection != null) {
+                    connection.activeStreams++;
+                    activeStreams++;
+                } else {
+                    waiters.addLast(waiter);
+                    connect = shouldConnect();
+                }
+            }
+
+            if (connection != null) {
+                openStream(connection, waiter);
+            }
+            if (connect) {
+                connect();
+            }
+        });
+    }
+
+    private PooledConnection findAvailableConnection() {
+        PooledConnection best = null;
+        for (PooledConnection connection : connections) {
+            if (connection.isAvailable() && (best == null || connection.activeStreams < best.activeStreams)) {
+                best = connection;
+            }
+        }
+        return best;
+    }
+
+    private boolean shouldConnect() {
+        if (activeStreams < options.getMaxConcurrentStreams() && connecting == 0
+            && connections.size() < options.getMaxConnectionsPerHost()) {
+            connecting++;
+            return true;
+        }
+        return false;
+    }
+
+    private void openStream(PooledConnection connection, Waiter waiter) {
+        new Http2StreamChannelBootstrap(connection.channel)
+            .option(ChannelOption.AUTO_READ, false)
+            .handler(new ChannelInboundHandlerAdapter())
+            .open()
+            .addListener(future -> {
+                if (!future.isSuccess()) {
+                    release(connection);
+                    waiter.sink.error(future.cause());
+                    return;
+                }
+
+                final Http2StreamChannel stream = (Http2StreamChannel) future.getNow();
+                stream.closeFuture().addListener(ignored -> release(connection));
+                if (waiter.cancelled) {
+                    stream.close();
+                } else {
+                    waiter.sink.success(stream);
+                }
+            });
+    }
+
+    private void release(PooledConnection connection) {
+        synchronized (this) {
+            connection.activeStreams--;
+            activeStreams--;
+        }
+        drainWaiters();
+    }
+
+    private void drainWaiters() {
+        while (true) {
+            final Waiter waiter;
+            final PooledConnection connection;
+            boolean connect = false;
+            synchronized (this) {
+                if (waiters.isEmpty()) {
+                    return;
+                }
+                connection = activeStreams < options.getMaxConcurrentStreams() ? findAvailableConnection() : null;
+                if (connection == null) {
+                    waiter = null;
+                    connect = shouldConnect();
+                } else {
+                    waiter = waiters.pollFirst();
+                    connection.activeStreams++;
+                    activeStreams++;
+                }
+            }
+
+            if (connection == null) {
+                if (connect) {
+                    connect();
+                }
+                return;
+            }
+            openStream(connection, waiter);
+        }
+    }
+
+    private void failWaiters(Throwable error) {
+        final List<Waiter> failed;
+        synchronized (this) {
+            if (!connections.isEmpty() && !(error instanceof Http11FallbackException)) {
+                // The existing connections serve the waiters once their streams complete.
+                return;
+            }
+            failed = new ArrayList<>(waiters);
+            waiters.clear();
+        }
+        failed.forEach(waiter -> waiter.sink.error(error));
+    }
+
+    private void connect() {
+        final Promise<Channel> ready = eventLoopGroup.next().newPromise();
+        ready.addListener(future -> {
+            synchronized (this) {
+                connecting--;
+            }
+            if (future.isSuccess()) {
+                onConnected((Channel) future.getNow());
+            } else {
+                failWaiters(future.cause());
+            }
+        });
+
+        new Bootstrap()
+            .group(eventLoopGroup)
+            .channel(NioSocketChannel.class)
+            .option(ChannelOption.TCP_NODELAY, true)
+            .handler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel channel) {
+                    channel.closeFuture().addListener(ignored ->
+                        ready.tryFailure(new IOException("The connection to " + host + " was closed.")));
+                    if (sslContext == null) {
+                        configureHttp2(channel.pipeline(), ready);
+                        return;
+                    }
+
+                    channel.pipeline().addLast(sslContext.newHandler(channel.alloc(), host, port));
+                    channel.pipeline().addLast(new ApplicationProtocolNegotiationHandler(
+                        ApplicationProtocolNames.HTTP_1_1) {
+                        @Override
+                        protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+                            if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                                configureHttp2(ctx.pipeline(), ready);
+                            } else {
+                                ready.tryFailure(new Http11FallbackException());
+                                ctx.close();
+                            }
+                        }
+
+                        @Override
+                        protected void handshakeFailure(ChannelHandlerContext ctx, Throwable cause) {
+                            ready.tryFailure(cause);
+                            ctx.close();
+                        }
+                    });
+                }
+            })
+            .connect(host, port)
+            .addListener(future -> {
+                if (!future.isSuccess()) {
+                    ready.tryFailure(future.cause());
+                }
+            });
+    }
+
+    private void configureHttp2(ChannelPipeline pipeline, Promise<Channel> ready) {
+        final Http2FrameCodec codec = Http2FrameCodecBuilder.forClient()
+            .initialSettings(Http2Settings.defaultSettings()
+                .pushEnabled(false)
+                .initialWindowSize(options.getInitialWindowSize()))
+            .build();
+        pipeline.addLast(codec, new Http2MultiplexHandler(new ChannelInboundHandlerAdapter()),
+            new ConnectionHandler(codec, ready));
+    }
+
+    private void onConnected(Channel channel) {
+        final PooledConnection connection = new PooledConnection(channel,
+            channel.pipeline().get(Http2FrameCodec.class), channel.pipeline().get(ConnectionHandler.class));
+        synchronized (this) {
+            connections.add(connection);
+        }
+        channel.closeFuture().addListener(ignored -> {
+            synchronized (this) {
+                connections.remove(connection);
+            }
+            drainWaiters();
+        });
+        drainWaiters();
+    }
+
+    /**
+     * A stream acquisition, waiting for a connection or for the streams of the host to complete.
+     */
+    private static final class Waiter {
+        private final MonoSink<Http2StreamChannel> sink;
+        private volatile boolean cancelled;
+
+        Waiter(MonoSink<Http2StreamChannel> sink) {
+            this.sink = sink;
+        }
+    }
+
+    /**
+     * A connection of the pool and the number of streams this pool opened on it.
+     */
+    private static final class PooledConnection {
+        private final Channel channel;
+        private final Http2FrameCodec codec;
+        private final ConnectionHandler handler;
+        private int activeStreams;
+
+        PooledConnection(Channel channel, Http2FrameCodec codec, ConnectionHandler handler) {
+            this.channel = channel;
+            this.codec = codec;
+            this.handler = handler;
+        }
+
+        boolean isAvailable() {
+            // The local endpoint's limit is the SETTINGS_MAX_CONCURRENT_STREAMS sent by the server.
+            return channel.isActive() && !handler.goAwayReceived
+                && activeStreams < codec.connection().local().maxActiveStreams();
+        }
+    }
+
+    /**
+     * Completes the connection once the server's settings arrive, enlarges the connection flow control window and
+     * stops new streams from being opened once the server sends GOAWAY.
+     */
+    private final class ConnectionHandler extends ChannelInboundHandlerAdapter {
+        private final Http2FrameCodec codec;
+        private final Promise<Channel> ready;
+        private volatile boolean goAwayReceived;
+
+        ConnectionHandler(Http2FrameCodec codec, Promise<Channel> ready) {
+            this.codec = codec;
+            this.ready = ready;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            try {
+                if (msg instanceof Http2SettingsFrame && !ready.isDone()) {
+                    final int increment = options.getConnectionWindowSize() - Http2CodecUtil.DEFAULT_WINDOW_SIZE;
+                    if (increment > 0) {
+                        ctx.writeAndFlush(new DefaultHttp2WindowUpdateFrame(increment));
+                    }
+                    ready.trySuccess(ctx.channel());
+                } else if (msg instanceof Http2GoAwayFrame) {
+                    goAwayReceived = true;
+                    // Let the waiters move to another connection, this one closes once its streams complete.
+                    ctx.channel().eventLoop().execute(Http2HostPool.this::drainWaiters);
+                }
+            } finally {
+                ReferenceCountUtil.release(msg);
+            }
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            ready.tryFailure(cause);
+            ctx.close();
+        }
+    }
+}
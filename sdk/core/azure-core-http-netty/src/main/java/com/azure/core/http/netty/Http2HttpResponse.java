@@ -0,0 +1,98 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import io.netty.buffer.ByteBuf;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A response received on an HTTP/2 stream.
+ */
+final class Http2HttpResponse extends HttpResponse implements NettyHttpResponseBody {
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final Http2StreamHandler stream;
+
+    Http2HttpResponse(HttpRequest request, int statusCode, HttpHeaders headers, Http2StreamHandler stream) {
+        super(request);
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.stream = stream;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    @Override
+    public String getHeaderValue(String name) {
+        return headers.getValue(name);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public Flux<ByteBuffer> getBody() {
+        // Copy the content to the heap so the pooled buffers are released as soon as they are received.
+        return stream.body().map(buffer -> {
+            final ByteBuffer copy = ByteBuffer.allocate(buffer.readableBytes());
+            buffer.readBytes(copy);
+            buffer.release();
+            copy.flip();
+            return copy;
+        });
+    }
+
+    @Override
+    public Flux<ByteBuf> getBodyAsByteBuf() {
+        return stream.body();
+    }
+
+    @Override
+    public Mono<byte[]> getBodyAsByteArray() {
+        return stream.body()
+            .collect(ByteArrayOutputStream::new, Http2HttpResponse::accept)
+            .map(ByteArrayOutputStream::toByteArray);
+    }
+
+    @Override
+    public Mono<String> getBodyAsString() {
+        return getBodyAsString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Mono<String> getBodyAsString(Charset charset) {
+        return getBodyAsByteArray().map(bytes -> new String(bytes, charset));
+    }
+
+    @Override
+    public void close() {
+        stream.discard();
+    }
+
+    private static void accept(ByteArrayOutputStream outputStream, ByteBuf buffer) {
+        try {
+            buffer.readBytes(outputStream, buffer.readableBytes());
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        } finally {
+            buffer.release();
+        }
+    }
+}
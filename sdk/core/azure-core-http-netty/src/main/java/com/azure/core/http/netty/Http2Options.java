@@ -0,0 +1,153 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty;
+
+import com.azure.core.util.logging.ClientLogger;
+
+/**
+ * The HTTP/2 configuration of the Netty-based {@link com.azure.core.http.HttpClient}.
+ *
+ * <p>HTTPS requests negotiate the protocol with ALPN. Requests to hosts that select HTTP/2 are sent as concurrent
+ * streams multiplexed over a few connections per host, instead of one connection per in-flight request. Hosts that
+ * only support HTTP/1.1 are remembered and served by the HTTP/1.1 connection pool. Plain HTTP requests use HTTP/1.1
+ * unless {@link #setPriorKnowledge(boolean) prior knowledge} is enabled.</p>
+ */
+public class Http2Options {
+    private static final int DEFAULT_MAX_CONCURRENT_STREAMS = 100;
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 1;
+    private static final int DEFAULT_INITIAL_WINDOW_SIZE = 1024 * 1024;
+    private static final int DEFAULT_CONNECTION_WINDOW_SIZE = 16 * 1024 * 1024;
+
+    private final ClientLogger logger = new ClientLogger(Http2Options.class);
+
+    private int maxConcurrentStreams = DEFAULT_MAX_CONCURRENT_STREAMS;
+    private int maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+    private int initialWindowSize = DEFAULT_INITIAL_WINDOW_SIZE;
+    private int connectionWindowSize = DEFAULT_CONNECTION_WINDOW_SIZE;
+    private boolean priorKnowledge;
+
+    /**
+     * Creates HTTP/2 options allowing 100 concurrent streams per host over a single connection, with a 1 MiB stream
+     * flow control window and a 16 MiB connection flow control window.
+     */
+    public Http2Options() {
+    }
+
+    /**
+     * Gets the maximum number of concurrent streams, i.e. in-flight requests, to a single host.
+     *
+     * @return The maximum number of concurrent streams per host.
+     */
+    public int getMaxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    /**
+     * Sets the maximum number of concurrent streams, i.e. in-flight requests, to a single host. Requests over the
+     * limit wait for a stream to complete. The server may impose a lower limit on each connection.
+     *
+     * @param maxConcurrentStreams The maximum number of concurrent streams per host.
+     * @return The updated Http2Options object.
+     * @throws IllegalArgumentException If {@code maxConcurrentStreams} is less than 1.
+     */
+    public Http2Options setMaxConcurrentStreams(int maxConcurrentStreams) {
+        this.maxConcurrentStreams = requirePositive(maxConcurrentStreams, "maxConcurrentStreams");
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of HTTP/2 connections opened to a single host.
+     *
+     * @return The maximum number of connections per host.
+     */
+    public int getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    /**
+     * Sets the maximum number of HTTP/2 connections opened to a single host. Another connection is only opened when
+     * the existing ones carry as many streams as the server allows.
+     *
+     * @param maxConnectionsPerHost The maximum number of connections per host.
+     * @return The updated Http2Options object.
+     * @throws IllegalArgumentException If {@code maxConnectionsPerHost} is less than 1.
+     */
+    public Http2Options setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+        this.maxConnectionsPerHost = requirePositive(maxConnectionsPerHost, "maxConnectionsPerHost");
+        return this;
+    }
+
+    /**
+     * Gets the flow control window of each stream, in bytes.
+     *
+     * @return The stream flow control window.
+     */
+    public int getInitialWindowSize() {
+        return initialWindowSize;
+    }
+
+    /**
+     * Sets the flow control window of each stream, in bytes. This is the amount of response content the server may
+     * send on a stream before the client has consumed it.
+     *
+     * @param initialWindowSize The stream flow control window.
+     * @return The updated Http2Options object.
+     * @throws IllegalArgumentException If {@code initialWindowSize} is less than 1.
+     */
+    public Http2Options setInitialWindowSize(int initialWindowSize) {
+        this.initialWindowSize = requirePositive(initialWindowSize, "initialWindowSize");
+        return this;
+    }
+
+    /**
+     * Gets the flow control window of each connection, in bytes.
+     *
+     * @return The connection flow control window.
+     */
+    public int getConnectionWindowSize() {
+        return connectionWindowSize;
+    }
+
+    /**
+     * Sets the flow control window of each connection, in bytes. This is the amount of response content the server
+     * may send over all the streams of a connection before the client has consumed it. Values below the HTTP/2
+     * default of 65,535 bytes leave the default in place.
+     *
+     * @param connectionWindowSize The connection flow control window.
+     * @return The updated Http2Options object.
+     * @throws IllegalArgumentException If {@code connectionWindowSize} is less than 1.
+     */
+    public Http2Options setConnectionWindowSize(int connectionWindowSize) {
+        this.connectionWindowSize = requirePositive(connectionWindowSize, "connectionWindowSize");
+        return this;
+    }
+
+    /**
+     * Gets whether plain HTTP requests are sent over HTTP/2 without negotiation.
+     *
+     * @return Whether plain HTTP requests use HTTP/2.
+     */
+    public boolean isPriorKnowledge() {
+        return priorKnowledge;
+    }
+
+    /**
+     * Sets whether plain HTTP requests are sent over HTTP/2 without negotiation (h2c with prior knowledge). Only
+     * enable this for hosts known to accept HTTP/2 over cleartext connections.
+     *
+     * @param priorKnowledge Whether plain HTTP requests use HTTP/2.
+     * @return The updated Http2Options object.
+     */
+    public Http2Options setPriorKnowledge(boolean priorKnowledge) {
+        this.priorKnowledge = priorKnowledge;
+        return this;
+    }
+
+    private int requirePositive(int value, String name) {
+        if (value < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'" + name + "' must be at least 1."));
+        }
+        return value;
+    }
+}
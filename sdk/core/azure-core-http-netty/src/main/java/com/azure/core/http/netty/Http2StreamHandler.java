@@ -0,0 +1,333 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty;
+
+import com.azure.core.http.HttpHeader;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2ResetFrame;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.util.ReferenceCountUtil;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Sends a request on an HTTP/2 stream and receives its response.
+ *
+ * <p>The request body is written one buffer at a time, the next buffer is requested once the previous one was
+ * written, so the stream flow control window of the server bounds the buffered content. The stream channel does not
+ * read automatically: response content is only read from the stream while the body subscriber has demand, and the
+ * stream flow control window is only replenished as content is read.</p>
+ *
+ * <p>Apart from the request body, all the state is accessed on the event loop of the stream.</p>
+ */
+final class Http2StreamHandler extends ChannelInboundHandlerAdapter {
+    private final Http2StreamChannel channel;
+    private final HttpRequest request;
+    private final MonoSink<HttpResponse> responseSink;
+    private final Queue<ByteBuf> buffers = new ArrayDeque<>();
+
+    private HttpResponse response;
+    private FluxSink<ByteBuf> bodySink;
+    private boolean bodySubscribed;
+    private boolean bodyDone;
+    private boolean endOfStream;
+    private Throwable error;
+
+    private Http2StreamHandler(Http2StreamChannel channel, HttpRequest request, MonoSink<HttpResponse> responseSink) {
+        this.channel = channel;
+        this.request = request;
+        this.responseSink = responseSink;
+    }
+
+    /**
+     * Sends the request on the stream.
+     *
+     * @param channel the stream to send the request on
+     * @param request the request
+     * @return a Mono emitting the response once its headers are received
+     */
+    static Mono<HttpResponse> send(Http2StreamChannel channel, HttpRequest request) {
+        return Mono.create(sink -> {
+            final Http2StreamHandler handler = new Http2StreamHandler(channel, request, sink);
+            sink.onCancel(() -> {
+                if (handler.response == null) {
+                    channel.close();
+                }
+            });
+            channel.eventLoop().execute(handler::start);
+        });
+    }
+
+    private void start() {
+        channel.pipeline().addLast(this);
+        final boolean hasBody = request.getBody() != null;
+        channel.writeAndFlush(new DefaultHttp2HeadersFrame(toHttp2Headers(request), !hasBody))
+            .addListener(future -> {
+                if (!future.isSuccess()) {
+                    fail(future.cause());
+                }
+            });
+        if (hasBody) {
+            request.getBody().subscribe(new BodyWriter());
+        }
+        channel.read();
+    }
+
+    /**
+     * Gets the response content. Only a single subscription is allowed.
+     *
+     * @return the response content, each buffer of which must be released by the subscriber
+     */
+    Flux<ByteBuf> body() {
+        return Flux.create(sink -> channel.eventLoop().execute(() -> {
+            if (bodySubscribed) {
+                sink.error(new IllegalStateException("The response body can only be subscribed to once."));
+                return;
+            }
+            bodySubscribed = true;
+            bodySink = sink;
+            sink.onRequest(n -> channel.eventLoop().execute(this::drain));
+            sink.onDispose(() -> channel.eventLoop().execute(this::discard));
+            drain();
+        }));
+    }
+
+    /**
+     * Releases the content received so far and resets the stream if the response has not been fully received.
+     */
+    void discard() {
+        if (!channel.eventLoop().inEventLoop()) {
+            channel.eventLoop().execute(this::discard);
+            return;
+        }
+
+        bodyDone = true;
+        releaseBuffers();
+        if (!endOfStream) {
+            channel.close();
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        try {
+            if (msg instanceof Http2HeadersFrame) {
+                onHeaders((Http2HeadersFrame) msg);
+            } else if (msg instanceof Http2DataFrame) {
+                final Http2DataFrame frame = (Http2DataFrame) msg;
+                if (frame.content().isReadable() && !bodyDone) {
+                    buffers.offer(frame.content().retain());
+                }
+                endOfStream = frame.isEndStream();
+                drain();
+            } else if (msg instanceof Http2ResetFrame) {
+                fail(new IOException("The stream was reset with error code "
+                    + ((Http2ResetFrame) msg).errorCode() + "."));
+            }
+        } finally {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        if (response == null || (!endOfStream && buffers.isEmpty() && hasDemand())) {
+            ctx.read();
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        if (!endOfStream) {
+            fail(new IOException("The stream was closed before the response was received."));
+        }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        fail(cause);
+    }
+
+    private void onHeaders(Http2HeadersFrame frame) {
+        endOfStream = frame.isEndStream();
+        if (response != null) {
+            // Trailers, which are not exposed.
+            drain();
+            return;
+        }
+
+        final int statusCode = HttpResponseStatus.parseLine(frame.headers().status()).code();
+        if (statusCode >= 100 && statusCode < 200) {
+            return;
+        }
+
+        response = new Http2HttpResponse(request, statusCode, toHttpHeaders(frame.headers()), this);
+        responseSink.success(response);
+    }
+
+    private void drain() {
+        if (bodySink == null || bodyDone) {
+            return;
+        }
+
+        while (!buffers.isEmpty() && bodySink.requestedFromDownstream() > 0) {
+            bodySink.next(buffers.poll());
+        }
+
+        if (buffers.isEmpty()) {
+            if (error != null) {
+                bodyDone = true;
+                bodySink.error(error);
+            } else if (endOfStream) {
+                bodyDone = true;
+                bodySink.complete();
+            } else if (hasDemand()) {
+                channel.read();
+            }
+        }
+    }
+
+    private boolean hasDemand() {
+        return bodySink != null && !bodyDone && bodySink.requestedFromDownstream() > 0;
+    }
+
+    private void fail(Throwable throwable) {
+        if (!channel.eventLoop().inEventLoop()) {
+            channel.eventLoop().execute(() -> fail(throwable));
+            return;
+        }
+
+        if (error != null || (endOfStream && buffers.isEmpty())) {
+            return;
+        }
+        error = throwable;
+        if (response == null) {
+            responseSink.error(throwable);
+        } else if (bodySink != null) {
+            releaseBuffers();
+            drain();
+        }
+        channel.close();
+    }
+
+    private void releaseBuffers() {
+        ByteBuf buffer;
+        while ((buffer = buffers.poll()) != null) {
+            buffer.release();
+        }
+    }
+
+    private static Http2Headers toHttp2Headers(HttpRequest request) {
+        final URL url = request.getUrl();
+        final String path = url.getFile();
+        final Http2Headers headers = new DefaultHttp2Headers()
+            .method(request.getHttpMethod().toString())
+            .scheme(url.getProtocol())
+            .authority(url.getPort() == -1 ? url.getHost() : url.getHost() + ":" + url.getPort())
+            .path(path.isEmpty() ? "/" : path);
+
+        for (HttpHeader header : request.getHeaders()) {
+            if (header.getValue() == null) {
+                continue;
+            }
+
+            // HTTP/2 header names are lowercase, and connection-specific headers are not allowed.
+            final String name = header.getName().toLowerCase(Locale.ROOT);
+            switch (name) {
+                case "connection":
+                case "host":
+                case "keep-alive":
+                case "proxy-connection":
+                case "transfer-encoding":
+                case "upgrade":
+                    break;
+                case "te":
+                    if ("trailers".equalsIgnoreCase(header.getValue())) {
+                        headers.add(name, header.getValue());
+                    }
+                    break;
+                default:
+                    headers.add(name, header.getValue());
+                    break;
+            }
+        }
+        return headers;
+    }
+
+    private static HttpHeaders toHttpHeaders(Http2Headers http2Headers) {
+        final HttpHeaders headers = new HttpHeaders();
+        for (Map.Entry<CharSequence, CharSequence> entry : http2Headers) {
+            final String name = entry.getKey().toString();
+            if (name.startsWith(":")) {
+                continue;
+            }
+
+            final String existing = headers.getValue(name);
+            final String value = entry.getValue().toString();
+            headers.put(name, existing == null ? value : existing + "," + value);
+        }
+        return headers;
+    }
+
+    /**
+     * Writes the request body to the stream, requesting the next buffer once the previous one has been written.
+     */
+    private final class BodyWriter extends BaseSubscriber<ByteBuffer> {
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            subscription.request(1);
+        }
+
+        @Override
+        protected void hookOnNext(ByteBuffer buffer) {
+            channel.writeAndFlush(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(buffer))).addListener(future -> {
+                if (future.isSuccess()) {
+                    request(1);
+                } else {
+                    cancel();
+                    fail(future.cause());
+                }
+            });
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            channel.writeAndFlush(new DefaultHttp2DataFrame(true)).addListener(future -> {
+                if (!future.isSuccess()) {
+                    fail(future.cause());
+                }
+            });
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            fail(throwable);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty;
+
+import com.azure.core.util.metrics.LatencyHistogram;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link ConnectionPoolMeter} that keeps the latest connection counts and a {@link LatencyHistogram} of acquire
+ * latencies for every host. Failed acquisitions are recorded in the same histograms as successful ones.
+ */
+public final class InMemoryConnectionPoolMeter implements ConnectionPoolMeter {
+    private final Map<String, HostMetrics> hosts = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordAcquire(String host, long durationNanos, boolean failed) {
+        getHostMetrics(host).acquireLatency.record(durationNanos);
+    }
+
+    @Override
+    public void recordConnections(String host, int active, int idle, int pendingAcquires) {
+        final HostMetrics metrics = getHostMetrics(host);
+        metrics.active = active;
+        metrics.idle = idle;
+        metrics.pendingAcquires = pendingAcquires;
+    }
+
+    /**
+     * @return the hosts connections were acquired for, as {@code host:port}
+     */
+    public Set<String> getHosts() {
+        return Collections.unmodifiableSet(hosts.keySet());
+    }
+
+    /**
+     * @param host the host, as {@code host:port}
+     * @return the latencies of acquiring a connection to the host, or null if none was acquired
+     */
+    public LatencyHistogram getAcquireLatency(String host) {
+        final HostMetrics metrics = hosts.get(host);
+        return metrics == null ? null : metrics.acquireLatency;
+    }
+
+    /**
+     * @param host the host, as {@code host:port}
+     * @return the number of connections to the host currently used by requests
+     */
+    public int getActiveConnections(String host) {
+        final HostMetrics metrics = hosts.get(host);
+        return metrics == null ? 0 : metrics.active;
+    }
+
+    /**
+     * @param host the host, as {@code host:port}
+     * @return the number of open connections to the host waiting in the pool to be reused
+     */
+    public int getIdleConnections(String host) {
+        final HostMetrics metrics = hosts.get(host);
+        return metrics == null ? 0 : metrics.idle;
+    }
+
+    /**
+     * @param host the host, as {@code host:port}
+     * @return the number of requests waiting for a connection to the host
+     */
+    public int getPendingAcquires(String host) {
+        final HostMetrics metrics = hosts.get(host);
+        return metrics == null ? 0 : metrics.pendingAcquires;
+    }
+
+    private HostMetrics getHostMetrics(String host) {
+        HostMetrics metrics = hosts.get(host);
+        if (metrics == null) {
+            metrics = hosts.computeIfAbsent(host, ignored -> new HostMetrics());
+        }
+        return metrics;
+    }
+
+    private static final class HostMetrics {
+        private final LatencyHistogram acquireLatency = new LatencyHistogram();
+        private volatile int active;
+        private volatile int idle;
+        private volatile int pendingAcquires;
+    }
+}
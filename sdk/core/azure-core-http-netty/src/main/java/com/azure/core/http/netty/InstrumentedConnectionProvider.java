@@ -0,0 +1,187 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty;
+
+import com.azure.core.util.logging.ClientLogger;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.channel.BootstrapHandlers;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ConnectionProvider} that counts the active, idle and pending connections of every host of the provider it
+ * decorates, reports them and the acquire latencies to a {@link ConnectionPoolMeter}, and bounds the number of
+ * requests waiting for a connection to a host.
+ *
+ * <p>A connection is active from the moment it is acquired until it is released back to the pool or closed, and idle
+ * while it is open in the pool. Acquisitions are pending until the pool hands out a connection or fails.</p>
+ */
+final class InstrumentedConnectionProvider implements ConnectionProvider {
+    private static final AttributeKey<AtomicBoolean> ACTIVE = AttributeKey.newInstance("azure-connection-active");
+
+    private final ClientLogger logger = new ClientLogger(InstrumentedConnectionProvider.class);
+
+    private final ConnectionProvider provider;
+    private final ConnectionPoolMeter meter;
+    private final int maxPendingAcquires;
+    private final Map<String, HostConnections> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an InstrumentedConnectionProvider.
+     *
+     * @param provider the decorated connection provider
+     * @param meter the meter receiving the metrics, or null to only bound pending acquires
+     * @param maxPendingAcquires the maximum number of pending acquires per host, or 0 for no limit
+     */
+    InstrumentedConnectionProvider(ConnectionProvider provider, ConnectionPoolMeter meter, int maxPendingAcquires) {
+        this.provider = provider;
+        this.meter = meter;
+        this.maxPendingAcquires = maxPendingAcquires;
+    }
+
+    @Override
+    public Mono<? extends Connection> acquire(Bootstrap bootstrap) {
+        final HostConnections host = hosts.computeIfAbsent(toHost(bootstrap.config().remoteAddress()),
+            HostConnections::new);
+
+        // Released connections are reported to the observer of the bootstrap they were acquired with.
+        final ConnectionObserver observer = BootstrapHandlers.connectionObserver(bootstrap);
+        BootstrapHandlers.connectionObserver(bootstrap, observer.then((connection, state) -> {
+            if (state == ConnectionObserver.State.RELEASED) {
+                host.onReleased(connection.channel());
+            }
+        }));
+
+        return Mono.defer(() -> {
+            if (host.pendingAcquires.incrementAndGet() > maxPendingAcquires && maxPendingAcquires > 0) {
+                host.pendingAcquires.decrementAndGet();
+                return Mono.error(logger.logExceptionAsError(new IllegalStateException(String.format(
+                    "Too many pending connection acquires for '%s', the limit is %d.", host.name,
+                    maxPendingAcquires))));
+            }
+            host.report();
+
+            final long start = System.nanoTime();
+            final AtomicBoolean pending = new AtomicBoolean(true);
+            return provider.acquire(bootstrap)
+                .doOnNext(connection -> {
+                    if (pending.compareAndSet(true, false)) {
+                        host.pendingAcquires.decrementAndGet();
+                    }
+                    host.onAcquired(connection.channel());
+                    if (meter != null) {
+                        meter.recordAcquire(host.name, System.nanoTime() - start, false);
+                    }
+                })
+                .doFinally(signal -> {
+                    if (pending.compareAndSet(true, false)) {
+                        host.pendingAcquires.decrementAndGet();
+                        host.report();
+                        if (meter != null) {
+                            meter.recordAcquire(host.name, System.nanoTime() - start, true);
+                        }
+                    }
+                });
+        });
+    }
+
+    @Override
+    public void disposeWhen(SocketAddress address) {
+        provider.disposeWhen(address);
+    }
+
+    @Override
+    public Mono<Void> disposeLater() {
+        return provider.disposeLater();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return provider.isDisposed();
+    }
+
+    @Override
+    public int maxConnections() {
+        return provider.maxConnections();
+    }
+
+    private static String toHost(SocketAddress address) {
+        if (address instanceof Supplier) {
+            // reactor-netty's HTTP client sets an address that supplies the address of the current request URI.
+            final Object supplied = ((Supplier<?>) address).get();
+            if (supplied instanceof SocketAddress) {
+                address = (SocketAddress) supplied;
+            }
+        }
+        if (address instanceof InetSocketAddress) {
+            final InetSocketAddress inetAddress = (InetSocketAddress) address;
+            return inetAddress.getHostString() + ":" + inetAddress.getPort();
+        }
+        return String.valueOf(address);
+    }
+
+    /**
+     * The connection counts of a host.
+     */
+    private final class HostConnections {
+        private final String name;
+        private final AtomicInteger open = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger pendingAcquires = new AtomicInteger();
+
+        HostConnections(String name) {
+            this.name = name;
+        }
+
+        void onAcquired(Channel channel) {
+            AtomicBoolean isActive = channel.attr(ACTIVE).get();
+            if (isActive == null) {
+                // First time the connection is handed out, count it as open until it is closed.
+                isActive = new AtomicBoolean();
+                channel.attr(ACTIVE).set(isActive);
+                open.incrementAndGet();
+                final AtomicBoolean connectionActive = isActive;
+                channel.closeFuture().addListener(ignored -> {
+                    open.decrementAndGet();
+                    if (connectionActive.compareAndSet(true, false)) {
+                        active.decrementAndGet();
+                    }
+                    report();
+                });
+            }
+            if (isActive.compareAndSet(false, true)) {
+                active.incrementAndGet();
+            }
+            report();
+        }
+
+        void onReleased(Channel channel) {
+            final AtomicBoolean isActive = channel.attr(ACTIVE).get();
+            if (isActive != null && isActive.compareAndSet(true, false)) {
+                active.decrementAndGet();
+                report();
+            }
+        }
+
+        void report() {
+            if (meter != null) {
+                final int currentActive = active.get();
+                meter.recordConnections(name, currentActive, Math.max(0, open.get() - currentActive),
+                    pendingAcquires.get());
+            }
+        }
+    }
+}
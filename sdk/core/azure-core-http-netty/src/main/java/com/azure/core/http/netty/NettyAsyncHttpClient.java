@@ -9,6 +9,7 @@ import com.azure.core.http.HttpHeaders;
 import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.http.ProxyOptions;
+import com.azure.core.http.netty.implementation.ReadOnlyNettyHttpHeaders;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -39,6 +40,7 @@ import java.util.function.BiFunction;
  */
 class NettyAsyncHttpClient implements HttpClient {
     final reactor.netty.http.client.HttpClient nettyClient;
+    private final Http2Client http2Client;
 
     /**
      * Creates default NettyAsyncHttpClient.
@@ -53,7 +55,19 @@ class NettyAsyncHttpClient implements HttpClient {
      * @param nettyClient the reactor-netty http client
      */
     NettyAsyncHttpClient(reactor.netty.http.client.HttpClient nettyClient) {
+        this(nettyClient, null);
+    }
+
+    /**
+     * Creates NettyAsyncHttpClient with provided http client, sending requests over HTTP/2 to the hosts that
+     * support it.
+     *
+     * @param nettyClient the reactor-netty http client, used for HTTP/1.1 requests
+     * @param http2Client the HTTP/2 client, or null to only use HTTP/1.1
+     */
+    NettyAsyncHttpClient(reactor.netty.http.client.HttpClient nettyClient, Http2Client http2Client) {
         this.nettyClient = nettyClient;
+        this.http2Client = http2Client;
     }
 
     /** {@inheritDoc} */
@@ -63,6 +77,10 @@ class NettyAsyncHttpClient implements HttpClient {
         Objects.requireNonNull(request.getUrl(), "'request.getUrl()' cannot be null.");
         Objects.requireNonNull(request.getUrl().getProtocol(), "'request.getUrl().getProtocol()' cannot be null.");
 
+        return http2Client == null ? sendHttp11(request) : http2Client.send(request, this::sendHttp11);
+    }
+
+    private Mono<HttpResponse> sendHttp11(final HttpRequest request) {
         return nettyClient
             .request(HttpMethod.valueOf(request.getHttpMethod().toString()))
             .uri(request.getUrl().toString())
@@ -106,9 +124,10 @@ class NettyAsyncHttpClient implements HttpClient {
             Mono.just(new ReactorNettyHttpResponse(reactorNettyResponse, reactorNettyConnection, restRequest));
     }
 
-    static class ReactorNettyHttpResponse extends HttpResponse {
+    static class ReactorNettyHttpResponse extends HttpResponse implements NettyHttpResponseBody {
         private final HttpClientResponse reactorNettyResponse;
         private final Connection reactorNettyConnection;
+        private volatile HttpHeaders headers;
 
         ReactorNettyHttpResponse(HttpClientResponse reactorNettyResponse, Connection reactorNettyConnection,
                                  HttpRequest httpRequest) {
@@ -129,8 +148,11 @@ class NettyAsyncHttpClient implements HttpClient {
 
         @Override
         public HttpHeaders getHeaders() {
-            HttpHeaders headers = new HttpHeaders();
-            reactorNettyResponse.responseHeaders().forEach(e -> headers.put(e.getKey(), e.getValue()));
+            HttpHeaders headers = this.headers;
+            if (headers == null) {
+                headers = new ReadOnlyNettyHttpHeaders(reactorNettyResponse.responseHeaders());
+                this.headers = headers;
+            }
             return headers;
         }
 
@@ -143,6 +165,16 @@ class NettyAsyncHttpClient implements HttpClient {
             }).map(ByteBuf::nioBuffer);
         }
 
+        @Override
+        public Flux<ByteBuf> getBodyAsByteBuf() {
+            // Retain each buffer so it outlives reactor-netty's release after emission, the subscriber now owns it.
+            return bodyIntern().retain().doFinally(s -> {
+                if (!reactorNettyConnection.isDisposed()) {
+                    reactorNettyConnection.channel().eventLoop().execute(reactorNettyConnection::dispose);
+                }
+            });
+        }
+
         @Override
         public Mono<byte[]> getBodyAsByteArray() {
             return bodyIntern().aggregate().asByteArray().doFinally(s -> {
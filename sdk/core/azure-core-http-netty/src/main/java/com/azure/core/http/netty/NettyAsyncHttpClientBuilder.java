@@ -5,11 +5,17 @@ package com.azure.core.http.netty;
 
 import com.azure.core.http.ProxyOptions;
 import com.azure.core.util.logging.ClientLogger;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.nio.NioEventLoopGroup;
+import reactor.netty.http.HttpResources;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.tcp.ProxyProvider;
 
+import java.time.Duration;
+
 /**
  * Builder class responsible for creating instances of {@link NettyAsyncHttpClient}.
  *
@@ -21,6 +27,12 @@ import reactor.netty.tcp.ProxyProvider;
  * @see HttpClient
  */
 public class NettyAsyncHttpClientBuilder {
+    /*
+     * Shared by all clients built with pooled direct buffers enabled so they draw from the same arenas.
+     */
+    private static final ByteBufAllocator POOLED_DIRECT_ALLOCATOR = new PooledByteBufAllocator(true);
+    private static final String CONNECTION_POOL_NAME = "azure-sdk";
+
     private final ClientLogger logger = new ClientLogger(NettyAsyncHttpClientBuilder.class);
 
     private ProxyOptions proxyOptions;
@@ -28,6 +40,12 @@ public class NettyAsyncHttpClientBuilder {
     private boolean enableWiretap;
     private int port = 80;
     private NioEventLoopGroup nioEventLoopGroup;
+    private boolean pooledDirectBuffers;
+    private Http2Options http2Options;
+    private int maxConnectionsPerHost;
+    private int maxPendingAcquires;
+    private Duration maxIdleTime;
+    private ConnectionPoolMeter connectionPoolMeter;
 
     /**
      * Creates a new builder instance, where a builder is capable of generating multiple instances of
@@ -45,8 +63,9 @@ public class NettyAsyncHttpClientBuilder {
      */
     public com.azure.core.http.HttpClient build() {
         HttpClient nettyHttpClient;
-        if (this.connectionProvider != null) {
-            nettyHttpClient = HttpClient.create(this.connectionProvider);
+        ConnectionProvider provider = createConnectionProvider();
+        if (provider != null) {
+            nettyHttpClient = HttpClient.create(provider);
         } else {
             nettyHttpClient = HttpClient.create();
         }
@@ -58,6 +77,10 @@ public class NettyAsyncHttpClientBuilder {
                     tcpConfig = tcpConfig.runOn(nioEventLoopGroup);
                 }
 
+                if (pooledDirectBuffers) {
+                    tcpConfig = tcpConfig.option(ChannelOption.ALLOCATOR, POOLED_DIRECT_ALLOCATOR);
+                }
+
                 if (proxyOptions != null) {
                     ProxyProvider.Proxy nettyProxy;
                     switch (proxyOptions.getType()) {
@@ -88,7 +111,35 @@ public class NettyAsyncHttpClientBuilder {
                 }
                 return tcpConfig;
             });
-        return new NettyAsyncHttpClient(nettyHttpClient);
+
+        // HTTP/2 connections are opened directly, requests through a proxy keep using HTTP/1.1.
+        final Http2Client http2Client = http2Options == null || proxyOptions != null
+            ? null
+            : new Http2Client(http2Options, nioEventLoopGroup);
+        return new NettyAsyncHttpClient(nettyHttpClient, http2Client);
+    }
+
+    private ConnectionProvider createConnectionProvider() {
+        ConnectionProvider provider = this.connectionProvider;
+        if (maxConnectionsPerHost > 0 || maxIdleTime != null) {
+            if (provider != null) {
+                logger.warning("A connection provider is set, 'maxConnectionsPerHost' and 'maxIdleTime' are ignored.");
+            } else {
+                final int maxConnections = maxConnectionsPerHost > 0
+                    ? maxConnectionsPerHost
+                    : ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS;
+                provider = maxIdleTime == null
+                    ? ConnectionProvider.fixed(CONNECTION_POOL_NAME, maxConnections)
+                    : ConnectionProvider.fixed(CONNECTION_POOL_NAME, maxConnections,
+                        ConnectionProvider.DEFAULT_POOL_ACQUIRE_TIMEOUT, maxIdleTime);
+            }
+        }
+
+        if (connectionPoolMeter != null || maxPendingAcquires > 0) {
+            provider = new InstrumentedConnectionProvider(provider == null ? HttpResources.get() : provider,
+                connectionPoolMeter, maxPendingAcquires);
+        }
+        return provider;
     }
 
     /**
@@ -154,4 +205,98 @@ public class NettyAsyncHttpClientBuilder {
         this.nioEventLoopGroup = nioEventLoopGroup;
         return this;
     }
+
+    /**
+     * Enables allocating the channel buffers from a pooled direct {@link ByteBufAllocator}.
+     *
+     * <p>Outgoing heap buffers are copied into pooled direct buffers by the channel instead of temporary ones, and
+     * response content is received into pooled direct buffers. Combined with
+     * {@link NettyHttpResponseBody#getBodyAsByteBuf()} large uploads and downloads avoid heap churn, provided the
+     * caller releases the buffers it receives.</p>
+     *
+     * @param pooledDirectBuffers Flag indicating whether pooled direct buffers are used
+     * @return the updated NettyAsyncHttpClientBuilder object
+     */
+    public NettyAsyncHttpClientBuilder pooledDirectBuffers(boolean pooledDirectBuffers) {
+        this.pooledDirectBuffers = pooledDirectBuffers;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of connections the pool opens to a single host. Requests over the limit wait for a
+     * connection to be released. Ignored if a {@link #connectionProvider(ConnectionProvider) connection provider}
+     * is set.
+     *
+     * @param maxConnectionsPerHost The maximum number of connections per host.
+     * @return the updated NettyAsyncHttpClientBuilder object
+     * @throws IllegalArgumentException If {@code maxConnectionsPerHost} is less than 1.
+     */
+    public NettyAsyncHttpClientBuilder maxConnectionsPerHost(int maxConnectionsPerHost) {
+        if (maxConnectionsPerHost < 1) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'maxConnectionsPerHost' must be at least 1."));
+        }
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of requests waiting for a connection to a single host. Requests over the limit fail
+     * immediately with an {@link IllegalStateException} instead of queueing behind the others.
+     *
+     * @param maxPendingAcquires The maximum number of pending connection acquires per host.
+     * @return the updated NettyAsyncHttpClientBuilder object
+     * @throws IllegalArgumentException If {@code maxPendingAcquires} is less than 1.
+     */
+    public NettyAsyncHttpClientBuilder maxPendingAcquires(int maxPendingAcquires) {
+        if (maxPendingAcquires < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxPendingAcquires' must be at least 1."));
+        }
+        this.maxPendingAcquires = maxPendingAcquires;
+        return this;
+    }
+
+    /**
+     * Sets how long a connection may stay idle in the pool. Connections idle for longer are closed instead of being
+     * reused, when the pool next hands out a connection to their host. Ignored if a
+     * {@link #connectionProvider(ConnectionProvider) connection provider} is set.
+     *
+     * @param maxIdleTime The maximum idle time, or null to keep idle connections until the server closes them.
+     * @return the updated NettyAsyncHttpClientBuilder object
+     * @throws IllegalArgumentException If {@code maxIdleTime} is zero or negative.
+     */
+    public NettyAsyncHttpClientBuilder maxIdleTime(Duration maxIdleTime) {
+        if (maxIdleTime != null && (maxIdleTime.isZero() || maxIdleTime.isNegative())) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxIdleTime' must be positive."));
+        }
+        this.maxIdleTime = maxIdleTime;
+        return this;
+    }
+
+    /**
+     * Sets the {@link ConnectionPoolMeter meter} receiving the active, idle and pending connection counts of every
+     * host, and the time requests wait to acquire a connection.
+     *
+     * @param connectionPoolMeter The connection pool meter, or null to not meter the pool.
+     * @return the updated NettyAsyncHttpClientBuilder object
+     */
+    public NettyAsyncHttpClientBuilder connectionPoolMeter(ConnectionPoolMeter connectionPoolMeter) {
+        this.connectionPoolMeter = connectionPoolMeter;
+        return this;
+    }
+
+    /**
+     * Enables HTTP/2 for the hosts that support it, using the given {@link Http2Options options}.
+     *
+     * <p>HTTPS requests negotiate the protocol with ALPN, the requests to hosts that select HTTP/2 are multiplexed
+     * as streams over a few connections per host. Requests to the other hosts, and all requests when a
+     * {@link #proxy(ProxyOptions) proxy} is configured, are sent over HTTP/1.1.</p>
+     *
+     * @param http2Options The HTTP/2 options, or null to only use HTTP/1.1.
+     * @return the updated NettyAsyncHttpClientBuilder object
+     */
+    public NettyAsyncHttpClientBuilder http2(Http2Options http2Options) {
+        this.http2Options = http2Options;
+        return this;
+    }
 }
@@ -0,0 +1,24 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty;
+
+import io.netty.buffer.ByteBuf;
+import reactor.core.publisher.Flux;
+
+/**
+ * Implemented by responses of the Netty-based {@link com.azure.core.http.HttpClient} to expose the response content
+ * as the underlying Netty {@link ByteBuf buffers}, without copying them into {@link java.nio.ByteBuffer} instances.
+ *
+ * <p>Ownership of every emitted {@link ByteBuf} is handed to the subscriber, which must call
+ * {@link ByteBuf#release()} once done with it. Failing to release the buffers leaks memory from the Netty buffer
+ * pool.</p>
+ */
+public interface NettyHttpResponseBody {
+    /**
+     * Get the publisher emitting response content chunks as retained Netty {@link ByteBuf buffers}.
+     *
+     * @return The response's content as a stream of {@link ByteBuf}, each of which must be released by the caller.
+     */
+    Flux<ByteBuf> getBodyAsByteBuf();
+}
@@ -0,0 +1,110 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty.implementation;
+
+import com.azure.core.http.HttpHeader;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.util.logging.ClientLogger;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Read-only {@link HttpHeaders} view over the headers of a Netty response.
+ *
+ * <p>Lookups by name are served by the Netty headers directly. The {@link HttpHeader} collection backing iteration,
+ * {@link #stream()} and {@link #toMap()} is only built on first use and then cached, as response headers do not
+ * change once received.</p>
+ */
+public final class ReadOnlyNettyHttpHeaders extends HttpHeaders {
+    private final ClientLogger logger = new ClientLogger(ReadOnlyNettyHttpHeaders.class);
+
+    private final io.netty.handler.codec.http.HttpHeaders nettyHeaders;
+    private volatile Map<String, HttpHeader> materializedHeaders;
+
+    /**
+     * Creates a read-only view over the provided Netty headers.
+     *
+     * @param nettyHeaders the Netty headers to wrap
+     */
+    public ReadOnlyNettyHttpHeaders(io.netty.handler.codec.http.HttpHeaders nettyHeaders) {
+        this.nettyHeaders = nettyHeaders;
+    }
+
+    @Override
+    public int getSize() {
+        return materialize().size();
+    }
+
+    @Override
+    public HttpHeaders put(String name, String value) {
+        throw logger.logExceptionAsError(new UnsupportedOperationException("Response headers are read-only."));
+    }
+
+    @Override
+    public HttpHeader get(String name) {
+        final String value = getValue(name);
+        return value == null ? null : new HttpHeader(name, value);
+    }
+
+    @Override
+    public HttpHeader remove(String name) {
+        throw logger.logExceptionAsError(new UnsupportedOperationException("Response headers are read-only."));
+    }
+
+    @Override
+    public String getValue(String name) {
+        final List<String> values = nettyHeaders.getAll(name);
+        if (values.isEmpty()) {
+            return null;
+        }
+        // The last value of a repeated header wins, as when the headers are copied with HttpHeaders.put.
+        return values.get(values.size() - 1);
+    }
+
+    @Override
+    public String[] getValues(String name) {
+        final String value = getValue(name);
+        return value == null ? null : value.split(",");
+    }
+
+    @Override
+    public Map<String, String> toMap() {
+        final Map<String, String> result = new HashMap<>();
+        for (final HttpHeader header : materialize().values()) {
+            result.put(header.getName(), header.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<HttpHeader> iterator() {
+        return materialize().values().iterator();
+    }
+
+    @Override
+    public Stream<HttpHeader> stream() {
+        return materialize().values().stream();
+    }
+
+    private Map<String, HttpHeader> materialize() {
+        Map<String, HttpHeader> headers = materializedHeaders;
+        if (headers == null) {
+            headers = new LinkedHashMap<>();
+            for (final String name : nettyHeaders.names()) {
+                headers.put(name.toLowerCase(Locale.ROOT), new HttpHeader(name, getValue(name)));
+            }
+            headers = Collections.unmodifiableMap(headers);
+            // Concurrent first calls may each build the map, any of them is equivalent.
+            materializedHeaders = headers;
+        }
+        return headers;
+    }
+}
@@ -11,6 +11,7 @@ module com.azure.http.netty {
     requires io.netty.handler;
     requires io.netty.codec;
     requires io.netty.codec.http;
+    requires io.netty.codec.http2;
     requires org.reactivestreams;
 
     exports com.azure.core.http.netty;
@@ -0,0 +1,338 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.util.ReferenceCountUtil;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Http2Tests {
+    private static final int LARGE_BODY_SIZE = 1024 * 1024;
+    private static final byte[] LARGE_BODY = new byte[LARGE_BODY_SIZE];
+
+    private static final AtomicInteger CONNECTIONS = new AtomicInteger();
+    private static final AtomicInteger ACTIVE_STREAMS = new AtomicInteger();
+    private static final AtomicInteger MAX_ACTIVE_STREAMS = new AtomicInteger();
+
+    private static EventLoopGroup serverGroup;
+    private static int h2Port;
+    private static int limitedH2Port;
+    private static int h2cPort;
+    private static int http11Port;
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        serverGroup = new NioEventLoopGroup(2);
+        h2Port = startServer(createServerSslContext(ApplicationProtocolNames.HTTP_2), true, 100);
+        limitedH2Port = startServer(createServerSslContext(ApplicationProtocolNames.HTTP_2), true, 2);
+        h2cPort = startServer(null, true, 100);
+        http11Port = startServer(createServerSslContext(ApplicationProtocolNames.HTTP_1_1), false, 0);
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        if (serverGroup != null) {
+            serverGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Before
+    public void before() {
+        CONNECTIONS.set(0);
+        ACTIVE_STREAMS.set(0);
+        MAX_ACTIVE_STREAMS.set(0);
+    }
+
+    @Test
+    public void concurrentRequestsShareOneConnection() throws Exception {
+        final HttpClient client = createClient(new Http2Options());
+        final URL url = new URL("https://localhost:" + h2Port + "/slow");
+
+        final List<String> bodies = Flux.range(0, 50)
+            .flatMap(i -> client.send(new HttpRequest(HttpMethod.GET, url)).flatMap(HttpResponse::getBodyAsString))
+            .collectList()
+            .block();
+
+        Assert.assertEquals(50, bodies.size());
+        bodies.forEach(body -> Assert.assertEquals("hello", body));
+        Assert.assertEquals(1, CONNECTIONS.get());
+        Assert.assertTrue(MAX_ACTIVE_STREAMS.get() > 1);
+    }
+
+    @Test
+    public void maxConcurrentStreamsIsRespected() throws Exception {
+        final HttpClient client = createClient(new Http2Options().setMaxConcurrentStreams(4));
+        final URL url = new URL("https://localhost:" + h2Port + "/slow");
+
+        final Long count = Flux.range(0, 20)
+            .flatMap(i -> client.send(new HttpRequest(HttpMethod.GET, url)).flatMap(HttpResponse::getBodyAsString))
+            .count()
+            .block();
+
+        Assert.assertEquals(20, count.longValue());
+        Assert.assertEquals(4, MAX_ACTIVE_STREAMS.get());
+    }
+
+    @Test
+    public void serverStreamLimitOpensAnotherConnection() throws Exception {
+        final HttpClient client = createClient(new Http2Options().setMaxConnectionsPerHost(2));
+        final URL url = new URL("https://localhost:" + limitedH2Port + "/slow");
+
+        final Long count = Flux.range(0, 20)
+            .flatMap(i -> client.send(new HttpRequest(HttpMethod.GET, url)).flatMap(HttpResponse::getBodyAsString))
+            .count()
+            .block();
+
+        Assert.assertEquals(20, count.longValue());
+        Assert.assertEquals(2, CONNECTIONS.get());
+        Assert.assertTrue(MAX_ACTIVE_STREAMS.get() <= 4);
+    }
+
+    @Test
+    public void fallsBackToHttp11WhenNotNegotiated() throws Exception {
+        final HttpClient client = createClient(new Http2Options());
+        final URL url = new URL("https://localhost:" + http11Port + "/hello");
+
+        for (int i = 0; i < 3; i++) {
+            final HttpResponse response = client.send(new HttpRequest(HttpMethod.GET, url)).block();
+            Assert.assertFalse(response instanceof Http2HttpResponse);
+            Assert.assertEquals(200, response.getStatusCode());
+            Assert.assertEquals("hello-http1", response.getBodyAsString().block());
+        }
+    }
+
+    @Test
+    public void priorKnowledgeUsesCleartextHttp2() throws Exception {
+        final HttpClient client = createClient(new Http2Options().setPriorKnowledge(true));
+        final URL url = new URL("http://localhost:" + h2cPort + "/hello");
+
+        final HttpResponse response = client.send(new HttpRequest(HttpMethod.GET, url)).block();
+
+        Assert.assertTrue(response instanceof Http2HttpResponse);
+        Assert.assertEquals(200, response.getStatusCode());
+        Assert.assertEquals("5", response.getHeaderValue("content-length"));
+        Assert.assertEquals("hello", response.getBodyAsString().block());
+    }
+
+    @Test
+    public void largeUploadAndDownloadAreFlowControlled() throws Exception {
+        final HttpClient client = createClient(new Http2Options().setInitialWindowSize(16 * 1024)
+            .setConnectionWindowSize(32 * 1024));
+
+        final Flux<ByteBuffer> body = Flux.range(0, LARGE_BODY_SIZE / 8192)
+            .map(i -> ByteBuffer.wrap(LARGE_BODY, i * 8192, 8192));
+        final HttpRequest upload = new HttpRequest(HttpMethod.POST, new URL("https://localhost:" + h2Port + "/echo"))
+            .setBody(body);
+        Assert.assertEquals(Integer.toString(LARGE_BODY_SIZE),
+            client.send(upload).flatMap(HttpResponse::getBodyAsString).block());
+
+        final HttpRequest download = new HttpRequest(HttpMethod.GET, new URL("https://localhost:" + h2Port + "/large"));
+        final Long received = client.send(download)
+            .flatMapMany(response -> ((NettyHttpResponseBody) response).getBodyAsByteBuf())
+            .map(buffer -> {
+                final int size = buffer.readableBytes();
+                buffer.release();
+                return (long) size;
+            })
+            .reduce(0L, Long::sum)
+            .block();
+        Assert.assertEquals(LARGE_BODY_SIZE, received.longValue());
+    }
+
+    /*
+     * Creates a client trusting the self-signed certificate of the test servers, over HTTP/1.1 and HTTP/2.
+     */
+    private static HttpClient createClient(Http2Options options) throws SSLException {
+        final SslContext http11SslContext = SslContextBuilder.forClient()
+            .trustManager(InsecureTrustManagerFactory.INSTANCE)
+            .build();
+        final SslContext http2SslContext = SslContextBuilder.forClient()
+            .sslProvider(SslProvider.JDK)
+            .trustManager(InsecureTrustManagerFactory.INSTANCE)
+            .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+            .applicationProtocolConfig(new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1))
+            .build();
+
+        return new NettyAsyncHttpClient(
+            reactor.netty.http.client.HttpClient.create().secure(spec -> spec.sslContext(http11SslContext)),
+            new Http2Client(options, null, http2SslContext));
+    }
+
+    private static SslContext createServerSslContext(String protocol) throws Exception {
+        final KeyStore keyStore = KeyStore.getInstance("JKS");
+        try (InputStream stream = WireMockServer.class.getClassLoader().getResourceAsStream("keystore")) {
+            keyStore.load(stream, "password".toCharArray());
+        }
+        final KeyManagerFactory keyManagerFactory =
+            KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, "password".toCharArray());
+
+        return SslContextBuilder.forServer(keyManagerFactory)
+            .sslProvider(SslProvider.JDK)
+            .applicationProtocolConfig(new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT, protocol))
+            .build();
+    }
+
+    private static int startServer(SslContext sslContext, boolean http2, int maxConcurrentStreams)
+        throws InterruptedException {
+        final Channel server = new ServerBootstrap()
+            .group(serverGroup)
+            .channel(NioServerSocketChannel.class)
+            .childHandler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel channel) {
+                    CONNECTIONS.incrementAndGet();
+                    if (sslContext != null) {
+                        channel.pipeline().addLast(sslContext.newHandler(channel.alloc()));
+                    }
+                    if (http2) {
+                        channel.pipeline().addLast(Http2FrameCodecBuilder.forServer()
+                                .initialSettings(Http2Settings.defaultSettings()
+                                    .maxConcurrentStreams(maxConcurrentStreams))
+                                .build(),
+                            new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
+                                @Override
+                                protected void initChannel(Channel stream) {
+                                    stream.pipeline().addLast(new Http2StreamServerHandler());
+                                }
+                            }));
+                    } else {
+                        channel.pipeline().addLast(new HttpServerCodec(), new HttpObjectAggregator(1024),
+                            new Http11ServerHandler());
+                    }
+                }
+            })
+            .bind(0)
+            .sync()
+            .channel();
+        return ((InetSocketAddress) server.localAddress()).getPort();
+    }
+
+    /**
+     * Responds to "/slow" after a delay, to "/echo" with the size of the request body, to "/large" with 1 MiB and to
+     * any other path with "hello".
+     */
+    private static final class Http2StreamServerHandler extends ChannelInboundHandlerAdapter {
+        private String path;
+        private long received;
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            try {
+                if (msg instanceof Http2HeadersFrame) {
+                    final Http2HeadersFrame frame = (Http2HeadersFrame) msg;
+                    path = frame.headers().path().toString();
+                    MAX_ACTIVE_STREAMS.accumulateAndGet(ACTIVE_STREAMS.incrementAndGet(), Math::max);
+                    if (frame.isEndStream()) {
+                        respond(ctx);
+                    }
+                } else if (msg instanceof Http2DataFrame) {
+                    final Http2DataFrame frame = (Http2DataFrame) msg;
+                    received += frame.content().readableBytes();
+                    if (frame.isEndStream()) {
+                        respond(ctx);
+                    }
+                }
+            } finally {
+                ReferenceCountUtil.release(msg);
+            }
+        }
+
+        private void respond(ChannelHandlerContext ctx) {
+            if ("/slow".equals(path)) {
+                ctx.executor().schedule(() -> write(ctx, "hello".getBytes(StandardCharsets.UTF_8)), 50,
+                    TimeUnit.MILLISECONDS);
+            } else if ("/echo".equals(path)) {
+                write(ctx, Long.toString(received).getBytes(StandardCharsets.UTF_8));
+            } else if ("/large".equals(path)) {
+                write(ctx, LARGE_BODY);
+            } else {
+                write(ctx, "hello".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        private void write(ChannelHandlerContext ctx, byte[] body) {
+            ACTIVE_STREAMS.decrementAndGet();
+            ctx.write(new DefaultHttp2HeadersFrame(new DefaultHttp2Headers()
+                .status(HttpResponseStatus.OK.codeAsText())
+                .setInt(HttpHeaderNames.CONTENT_LENGTH, body.length)));
+            for (int offset = 0; offset < body.length; offset += 16384) {
+                final ByteBuf chunk = Unpooled.wrappedBuffer(body, offset, Math.min(16384, body.length - offset));
+                ctx.write(new DefaultHttp2DataFrame(chunk, offset + 16384 >= body.length));
+            }
+            ctx.flush();
+        }
+    }
+
+    private static final class Http11ServerHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            ReferenceCountUtil.release((FullHttpRequest) msg);
+            final FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                Unpooled.copiedBuffer("hello-http1", StandardCharsets.UTF_8));
+            response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+            ctx.writeAndFlush(response);
+        }
+    }
+}
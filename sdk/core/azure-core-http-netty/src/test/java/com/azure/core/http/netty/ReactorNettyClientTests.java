@@ -32,6 +32,7 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -54,6 +55,8 @@ public class ReactorNettyClientTests {
                 .willReturn(WireMock.aResponse().withBody("error").withStatus(500)));
         server.stubFor(
                 WireMock.post("/shortPost").willReturn(WireMock.aResponse().withBody(SHORT_BODY)));
+        server.stubFor(WireMock.get("/slow")
+                .willReturn(WireMock.aResponse().withBody(SHORT_BODY).withFixedDelay(200)));
         server.start();
         // ResourceLeakDetector.setLevel(Level.PARANOID);
     }
@@ -75,6 +78,71 @@ public class ReactorNettyClientTests {
         checkBodyReceived(LONG_BODY, "/long");
     }
 
+    @Test
+    public void testResponseBodyAsByteBufIsRetained() {
+        HttpClient client = new NettyAsyncHttpClientBuilder().pooledDirectBuffers(true).build();
+        HttpRequest request = new HttpRequest(HttpMethod.GET, url(server, "/short"));
+        NettyHttpResponseBody response = (NettyHttpResponseBody) client.send(request).block();
+
+        List<ByteBuf> buffers = response.getBodyAsByteBuf().collectList().block();
+
+        StringBuilder body = new StringBuilder();
+        for (ByteBuf bb : buffers) {
+            // The transport released its reference, the only remaining one belongs to the subscriber.
+            Assert.assertEquals(1, bb.refCnt());
+            body.append(bb.toString(StandardCharsets.UTF_8));
+            Assert.assertTrue(bb.release());
+        }
+        Assert.assertEquals(SHORT_BODY, body.toString());
+    }
+
+    @Test
+    public void testConnectionPoolMeterCountsConnections() {
+        InMemoryConnectionPoolMeter meter = new InMemoryConnectionPoolMeter();
+        HttpClient client = new NettyAsyncHttpClientBuilder()
+                .maxConnectionsPerHost(2)
+                .connectionPoolMeter(meter)
+                .build();
+
+        List<String> bodies = Flux.range(0, 6)
+                .flatMap(i -> client.send(new HttpRequest(HttpMethod.GET, url(server, "/slow")))
+                        .flatMap(HttpResponse::getBodyAsString))
+                .collectList()
+                .block();
+
+        Assert.assertEquals(6, bodies.size());
+        Assert.assertEquals(1, meter.getHosts().size());
+        String host = meter.getHosts().iterator().next();
+        Assert.assertEquals("localhost:" + server.port(), host);
+        Assert.assertEquals(6, meter.getAcquireLatency(host).getCount());
+        Assert.assertEquals(0, meter.getActiveConnections(host));
+        Assert.assertEquals(0, meter.getPendingAcquires(host));
+        Assert.assertEquals(2, meter.getIdleConnections(host));
+    }
+
+    @Test
+    public void testMaxPendingAcquiresRejectsExcessRequests() {
+        HttpClient client = new NettyAsyncHttpClientBuilder()
+                .maxConnectionsPerHost(1)
+                .maxPendingAcquires(1)
+                .build();
+
+        List<String> results = Flux.range(0, 4)
+                .flatMap(i -> client.send(new HttpRequest(HttpMethod.GET, url(server, "/slow")))
+                        .flatMap(HttpResponse::getBodyAsString)
+                        .onErrorResume(IllegalStateException.class, e -> Mono.just("rejected")))
+                .collectList()
+                .block();
+
+        Assert.assertTrue(results.contains(SHORT_BODY));
+        Assert.assertTrue(results.contains("rejected"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxConnectionsPerHost() {
+        new NettyAsyncHttpClientBuilder().maxConnectionsPerHost(0);
+    }
+
     @Test
     public void testMultipleSubscriptionsEmitsError() {
         HttpResponse response = getResponse("/short");
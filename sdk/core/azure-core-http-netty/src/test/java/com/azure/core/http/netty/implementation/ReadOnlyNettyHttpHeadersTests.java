@@ -0,0 +1,85 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.netty.implementation;
+
+import com.azure.core.http.HttpHeader;
+import com.azure.core.http.HttpHeaders;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ReadOnlyNettyHttpHeadersTests {
+    @Test
+    public void lookupIsCaseInsensitive() {
+        HttpHeaders headers = new ReadOnlyNettyHttpHeaders(new DefaultHttpHeaders()
+            .add("x-ms-request-id", "abc")
+            .add("Content-Type", "application/json"));
+
+        assertEquals("abc", headers.getValue("X-MS-REQUEST-ID"));
+        assertEquals("application/json", headers.get("content-type").getValue());
+        assertNull(headers.getValue("missing"));
+        assertNull(headers.get("missing"));
+        assertEquals(2, headers.getSize());
+    }
+
+    @Test
+    public void repeatedHeaderKeepsLastValue() {
+        HttpHeaders headers = new ReadOnlyNettyHttpHeaders(new DefaultHttpHeaders()
+            .add("Vary", "Accept")
+            .add("Vary", "Origin"));
+
+        assertEquals("Origin", headers.getValue("vary"));
+        assertEquals("Origin", headers.get("Vary").getValue());
+        assertArrayEquals(new String[] {"Origin"}, headers.getValues("vary"));
+        assertEquals("Origin", headers.toMap().get("Vary"));
+        assertEquals(1, headers.getSize());
+    }
+
+    @Test
+    public void multipleValuesInOneHeaderAreSplit() {
+        HttpHeaders headers = new ReadOnlyNettyHttpHeaders(new DefaultHttpHeaders().add("Vary", "Accept,Origin"));
+
+        assertArrayEquals(new String[] {"Accept", "Origin"}, headers.getValues("vary"));
+    }
+
+    @Test
+    public void iterationAndMapPreserveNames() {
+        HttpHeaders headers = new ReadOnlyNettyHttpHeaders(new DefaultHttpHeaders()
+            .add("ETag", "\"0x1\"")
+            .add("x-ms-meta-Name", "value"));
+
+        int count = 0;
+        for (HttpHeader header : headers) {
+            assertEquals(header.getValue(), headers.getValue(header.getName()));
+            count++;
+        }
+        assertEquals(2, count);
+
+        Map<String, String> map = headers.toMap();
+        assertEquals("\"0x1\"", map.get("ETag"));
+        assertEquals("value", map.get("x-ms-meta-Name"));
+    }
+
+    @Test
+    public void iterationIsCached() {
+        HttpHeaders headers = new ReadOnlyNettyHttpHeaders(new DefaultHttpHeaders().add("a", "b"));
+        assertSame(headers.iterator().next(), headers.iterator().next());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void putIsNotSupported() {
+        new ReadOnlyNettyHttpHeaders(new DefaultHttpHeaders()).put("a", "b");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void removeIsNotSupported() {
+        new ReadOnlyNettyHttpHeaders(new DefaultHttpHeaders()).remove("a");
+    }
+}
@@ -0,0 +1,96 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.okhttp;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * An okhttp3.RequestBody that streams a Flux of ByteBuffer to the connection as OkHttp writes the request.
+ *
+ * <p>OkHttp writes request bodies on its dispatcher threads with blocking I/O, so the Flux is consumed as a blocking
+ * stream that requests a few buffers at a time. Only those buffers are held in memory, no matter the size of the
+ * body. When the length of the content is known the body is sent with a Content-Length, otherwise with chunked
+ * transfer encoding.</p>
+ *
+ * <p>The body is one-shot: OkHttp does not silently replay it, retries are left to the pipeline's RetryPolicy.</p>
+ */
+final class FluxRequestBody extends RequestBody {
+    // The number of buffers requested from the Flux ahead of the buffer being written.
+    private static final int PREFETCH = 4;
+
+    private final Flux<ByteBuffer> content;
+    private final MediaType mediaType;
+    private final long contentLength;
+    private volatile Throwable contentError;
+
+    /**
+     * Creates a FluxRequestBody.
+     *
+     * @param content the content of the body
+     * @param mediaType the media type of the content
+     * @param contentLength the length of the content, or -1 if it is unknown
+     */
+    FluxRequestBody(Flux<ByteBuffer> content, MediaType mediaType, long contentLength) {
+        this.content = content;
+        this.mediaType = mediaType;
+        this.contentLength = contentLength;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return mediaType;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public boolean isOneShot() {
+        return true;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        // Closing the stream cancels the subscription if the write fails or the call is cancelled.
+        try (Stream<ByteBuffer> buffers = content.toStream(PREFETCH)) {
+            final Iterator<ByteBuffer> iterator = buffers.iterator();
+            while (hasNext(iterator)) {
+                final ByteBuffer buffer = iterator.next();
+                while (buffer.hasRemaining()) {
+                    sink.write(buffer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the error the content ended with, which OkHttp only reports wrapped in an IOException.
+     *
+     * @return the error the content ended with, or null if it did not end in error
+     */
+    Throwable getContentError() {
+        return contentError;
+    }
+
+    private boolean hasNext(Iterator<ByteBuffer> iterator) throws IOException {
+        try {
+            return iterator.hasNext();
+        } catch (RuntimeException e) {
+            final Throwable error = Exceptions.unwrap(e);
+            contentError = error;
+            throw error instanceof IOException ? (IOException) error : new IOException(error);
+        }
+    }
+}
@@ -29,7 +29,6 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.Function;
 
 /**
@@ -37,8 +36,6 @@ import java.util.function.Function;
  */
 class OkHttpAsyncHttpClient implements HttpClient {
     private final OkHttpClient httpClient;
-    //
-    private static final Mono<okio.ByteString> EMPTY_BYTE_STRING_MONO = Mono.just(okio.ByteString.EMPTY);
     private static final MediaType MEDIA_TYPE_OCTET_STREAM = MediaType.parse("application/octet-stream");
 
     OkHttpAsyncHttpClient(OkHttpClient httpClient) {
@@ -50,16 +47,8 @@ class OkHttpAsyncHttpClient implements HttpClient {
         return Mono.create(sink -> sink.onRequest(value -> {
             // Using MonoSink::onRequest for back pressure support.
 
-            // The blocking behavior toOkHttpRequest(r).subscribe call:
-            //
-            // The okhttp3.Request emitted by toOkHttpRequest(r) is chained from the body of request Flux<ByteBuffer>:
-            //   1. If Flux<ByteBuffer> synchronous and send(r) caller does not apply subscribeOn then
-            //      subscribe block on caller thread.
-            //   2. If Flux<ByteBuffer> synchronous and send(r) caller apply subscribeOn then
-            //      does not block caller thread but block on scheduler thread.
-            //   3. If Flux<ByteBuffer> asynchronous then subscribe does not block caller thread
-            //      but block on the thread backing flux. This ignore any subscribeOn applied to send(r)
-            //
+            // toOkHttpRequest(r) does not subscribe to the body of the request, the Flux<ByteBuffer> is streamed
+            // by the OkHttp dispatcher thread that executes the call.
             toOkHttpRequest(request).subscribe(okHttpRequest -> {
                 Call call = httpClient.newCall(okHttpRequest);
                 call.enqueue(new OkHttpCallback(sink, request));
@@ -106,51 +95,38 @@ class OkHttpAsyncHttpClient implements HttpClient {
     /**
      * Create a Mono of okhttp3.RequestBody from the given java.nio.ByteBuffer Flux.
      *
+     * The content is not buffered, the returned body streams it to the connection when OkHttp sends the request.
+     *
      * @param bbFlux stream of java.nio.ByteBuffer representing request content
      * @param headers the headers associated with the original request
      * @return the Mono emitting okhttp3.RequestBody
      */
     private static Mono<RequestBody> toOkHttpRequestBody(Flux<ByteBuffer> bbFlux, HttpHeaders headers) {
-        Mono<okio.ByteString> bsMono = bbFlux == null
-            ? EMPTY_BYTE_STRING_MONO
-            : toByteString(bbFlux);
-
-        return bsMono.map(bs -> {
-            String contentType = headers.getValue("Content-Type");
-            if (contentType == null) {
-                return RequestBody.create(bs, MEDIA_TYPE_OCTET_STREAM);
-            } else {
-                return RequestBody.create(bs, MediaType.parse(contentType));
-            }
-        });
+        String contentType = headers.getValue("Content-Type");
+        MediaType mediaType = contentType == null ? MEDIA_TYPE_OCTET_STREAM : MediaType.parse(contentType);
+        if (bbFlux == null) {
+            return Mono.just(RequestBody.create(ByteString.EMPTY, mediaType));
+        }
+
+        return Mono.just(new FluxRequestBody(bbFlux, mediaType, getContentLength(headers)));
     }
 
     /**
-     * Aggregate Flux of java.nio.ByteBuffer to single okio.ByteString.
-     *
-     * Pooled okio.Buffer type is used to buffer emitted ByteBuffer instances.
-     * Content of each ByteBuffer will be written (i.e copied) to the internal okio.Buffer slots.
-     * Once the stream terminates, the contents of all slots get copied to one single byte array
-     * and okio.ByteString will be created referring this byte array.
-     * Finally the initial okio.Buffer will be returned to the pool.
+     * Gets the length of the request content from the Content-Length header.
      *
-     * @param bbFlux the Flux of ByteBuffer to aggregate
-     * @return a mono emitting aggregated ByteString
+     * @param headers the headers associated with the original request
+     * @return the content length, or -1 to send the content with chunked transfer encoding
      */
-    private static Mono<ByteString> toByteString(Flux<ByteBuffer> bbFlux) {
-        Objects.requireNonNull(bbFlux, "'bbFlux' cannot be null.");
-        return Mono.using(okio.Buffer::new,
-            buffer -> bbFlux.reduce(buffer, (b, byteBuffer) -> {
-                try {
-                    b.write(byteBuffer);
-                    return b;
-                } catch (IOException ioe) {
-                    throw Exceptions.propagate(ioe);
-                }
-            })
-            .map(b -> ByteString.of(b.readByteArray())),
-            okio.Buffer::clear)
-            .switchIfEmpty(EMPTY_BYTE_STRING_MONO);
+    private static long getContentLength(HttpHeaders headers) {
+        String contentLength = headers.getValue("Content-Length");
+        if (contentLength == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException ignored) {
+            return -1;
+        }
     }
 
     private static class OkHttpCallback implements okhttp3.Callback {
@@ -164,7 +140,12 @@ class OkHttpAsyncHttpClient implements HttpClient {
 
         @Override
         public void onFailure(okhttp3.Call call, IOException e) {
-            sink.error(e);
+            // Report the error of the request content itself rather than the IOException OkHttp wrapped it in.
+            RequestBody body = call.request().body();
+            Throwable contentError = body instanceof FluxRequestBody
+                ? ((FluxRequestBody) body).getContentError()
+                : null;
+            sink.error(contentError != null ? contentError : e);
         }
 
         @Override
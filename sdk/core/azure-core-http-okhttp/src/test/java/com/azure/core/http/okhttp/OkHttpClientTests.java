@@ -32,12 +32,15 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class OkHttpClientTests {
 
     private static final String SHORT_BODY = "hi there";
     private static final String LONG_BODY = createLongBody();
+    private static final String UPLOAD_CHUNK = "abcdefghijklmnopqrstuvwxyz0123456789";
+    private static final int UPLOAD_CHUNK_COUNT = 10000;
 
     private static WireMockServer server;
 
@@ -51,6 +54,9 @@ public class OkHttpClientTests {
                 .willReturn(WireMock.aResponse().withBody("error").withStatus(500)));
         server.stubFor(
                 WireMock.post("/shortPost").willReturn(WireMock.aResponse().withBody(SHORT_BODY)));
+        server.stubFor(WireMock.post("/upload")
+                .withRequestBody(WireMock.binaryEqualTo(createUploadBody()))
+                .willReturn(WireMock.aResponse().withStatus(201)));
         server.start();
     }
 
@@ -141,6 +147,41 @@ public class OkHttpClientTests {
                 .verify();
     }
 
+    @Test
+    public void testRequestBodyIsStreamedWithContentLength() {
+        HttpRequest request = new HttpRequest(HttpMethod.POST, url(server, "/upload"))
+                .setHeader("Content-Length", String.valueOf(UPLOAD_CHUNK.length() * UPLOAD_CHUNK_COUNT))
+                .setBody(createUploadFlux());
+
+        StepVerifier.create(new OkHttpAsyncHttpClientBuilder().build().send(request))
+                .assertNext(response -> Assert.assertEquals(201, response.getStatusCode()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testRequestBodyIsStreamedChunked() {
+        HttpRequest request = new HttpRequest(HttpMethod.POST, url(server, "/upload"))
+                .setBody(createUploadFlux());
+
+        StepVerifier.create(new OkHttpAsyncHttpClientBuilder().build().send(request))
+                .assertNext(response -> Assert.assertEquals(201, response.getStatusCode()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testRequestBodyIsConsumedWithBackpressure() {
+        AtomicLong maxRequest = new AtomicLong();
+        HttpRequest request = new HttpRequest(HttpMethod.POST, url(server, "/upload"))
+                .setHeader("Content-Length", String.valueOf(UPLOAD_CHUNK.length() * UPLOAD_CHUNK_COUNT))
+                .setBody(createUploadFlux().doOnRequest(n -> maxRequest.accumulateAndGet(n, Math::max)));
+
+        StepVerifier.create(new OkHttpAsyncHttpClientBuilder().build().send(request))
+                .assertNext(response -> Assert.assertEquals(201, response.getStatusCode()))
+                .verifyComplete();
+        // The body is requested a few buffers at a time rather than collected as a whole.
+        Assert.assertTrue(maxRequest.get() < UPLOAD_CHUNK_COUNT);
+    }
+
     @Test(timeout = 5000)
     public void testServerShutsDownSocketShouldPushErrorToContentFlowable()
             throws IOException, InterruptedException {
@@ -273,6 +314,19 @@ public class OkHttpClientTests {
         }
     }
 
+    private static Flux<ByteBuffer> createUploadFlux() {
+        return Flux.range(0, UPLOAD_CHUNK_COUNT)
+                .map(i -> ByteBuffer.wrap(UPLOAD_CHUNK.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] createUploadBody() {
+        StringBuilder s = new StringBuilder(UPLOAD_CHUNK.length() * UPLOAD_CHUNK_COUNT);
+        for (int i = 0; i < UPLOAD_CHUNK_COUNT; i++) {
+            s.append(UPLOAD_CHUNK);
+        }
+        return s.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
     private static String createLongBody() {
         StringBuilder s = new StringBuilder(10000000);
         for (int i = 0; i < 1000000; i++) {
@@ -0,0 +1,36 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Collection;
+
+/**
+ * Runs every benchmark in this module for a single short iteration so that broken benchmarks fail the build instead
+ * of the next perf run.
+ */
+public class BenchmarkSmokeTests {
+    @Test
+    public void allBenchmarksRun() throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(BenchmarkSmokeTests.class.getPackage().getName() + ".*Benchmark")
+            .forks(0)
+            .warmupIterations(0)
+            .measurementIterations(1)
+            .measurementTime(TimeValue.milliseconds(100))
+            .shouldFailOnError(true)
+            .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+        Assert.assertFalse(results.isEmpty());
+    }
+}
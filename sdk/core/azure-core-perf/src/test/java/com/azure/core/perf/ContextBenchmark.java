@@ -0,0 +1,64 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.util.Context;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Context#getData(Object)} lookups of the oldest, newest and a missing key in chains of various
+ * lengths, as done by pipeline policies on the context of a request, which each policy may extend first.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ContextBenchmark {
+    @Param({"4", "16", "64"})
+    private int keys;
+
+    private Context context;
+    private String oldestKey;
+    private String newestKey;
+
+    @Setup
+    public void setup() {
+        context = Context.NONE;
+        for (int i = 0; i < keys; i++) {
+            context = context.addData("key" + i, i);
+        }
+        oldestKey = "key0";
+        newestKey = "key" + (keys - 1);
+    }
+
+    @Benchmark
+    public void getData(Blackhole blackhole) {
+        blackhole.consume(context.getData(oldestKey));
+        blackhole.consume(context.getData(newestKey));
+        blackhole.consume(context.getData("missing"));
+    }
+
+    @Benchmark
+    public void getDataFromNewContext(Blackhole blackhole) {
+        Context newContext = context.addData("new", keys);
+        blackhole.consume(newContext.getData(oldestKey));
+        blackhole.consume(newContext.getData("new"));
+        blackhole.consume(newContext.getData("missing"));
+    }
+}
@@ -0,0 +1,56 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.annotation.JsonFlatten;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Management-plane style model whose properties are flattened out of nested JSON objects.
+ */
+@JsonFlatten
+class FlattenedResource {
+    @JsonProperty(value = "id")
+    private String id;
+
+    @JsonProperty(value = "name")
+    private String name;
+
+    @JsonProperty(value = "location")
+    private String location;
+
+    @JsonProperty(value = "tags")
+    private Map<String, String> tags;
+
+    @JsonProperty(value = "properties.provisioningState")
+    private String provisioningState;
+
+    @JsonProperty(value = "properties.hardwareProfile.vmSize")
+    private String vmSize;
+
+    @JsonProperty(value = "properties.storageProfile.osDisk.diskSizeGB")
+    private Integer diskSizeGB;
+
+    static FlattenedResource create(int index) {
+        FlattenedResource resource = new FlattenedResource();
+        resource.id = "/subscriptions/00000000-0000-0000-0000-000000000000/resourceGroups/rg/providers/"
+            + "Microsoft.Compute/virtualMachines/vm" + index;
+        resource.name = "vm" + index;
+        resource.location = "westus2";
+        resource.tags = new HashMap<>();
+        resource.tags.put("environment", "perf");
+        resource.tags.put("index", Integer.toString(index));
+        resource.provisioningState = "Succeeded";
+        resource.vmSize = "Standard_D2s_v3";
+        resource.diskSizeGB = 128;
+        return resource;
+    }
+
+    String getName() {
+        return name;
+    }
+}
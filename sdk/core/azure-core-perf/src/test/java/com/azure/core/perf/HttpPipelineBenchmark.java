@@ -0,0 +1,85 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.AddDatePolicy;
+import com.azure.core.http.policy.AddHeadersPolicy;
+import com.azure.core.http.policy.CookiePolicy;
+import com.azure.core.http.policy.HttpLogDetailLevel;
+import com.azure.core.http.policy.HttpLogOptions;
+import com.azure.core.http.policy.HttpLoggingPolicy;
+import com.azure.core.http.policy.RequestIdPolicy;
+import com.azure.core.http.policy.RetryPolicy;
+import com.azure.core.http.policy.UserAgentPolicy;
+import com.azure.core.test.http.MockHttpResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of sending a request through {@link HttpPipeline} policy chains, against a client that
+ * answers immediately.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class HttpPipelineBenchmark {
+    private URL url;
+    private HttpPipeline noPolicyPipeline;
+    private HttpPipeline clientPolicyPipeline;
+
+    @Setup
+    public void setup() throws MalformedURLException {
+        url = new URL("https://account.blob.core.windows.net/container/blob");
+        final HttpClient httpClient = request -> Mono.<HttpResponse>just(new MockHttpResponse(request, 200));
+
+        noPolicyPipeline = new HttpPipelineBuilder()
+            .httpClient(httpClient)
+            .build();
+
+        // Mirrors the policies a typical client builder adds.
+        clientPolicyPipeline = new HttpPipelineBuilder()
+            .httpClient(httpClient)
+            .policies(new UserAgentPolicy("azsdk-java-perf/1.0.0"),
+                new RequestIdPolicy(),
+                new AddHeadersPolicy(new HttpHeaders().put("x-ms-version", "2019-02-02")),
+                new AddDatePolicy(),
+                new RetryPolicy(),
+                new CookiePolicy(),
+                new HttpLoggingPolicy(new HttpLogOptions().setLogLevel(HttpLogDetailLevel.NONE)))
+            .build();
+    }
+
+    @Benchmark
+    public HttpResponse noPolicies() {
+        return noPolicyPipeline.send(new HttpRequest(HttpMethod.GET, url)).block();
+    }
+
+    @Benchmark
+    public HttpResponse clientPolicies() {
+        return clientPolicyPipeline.send(new HttpRequest(HttpMethod.GET, url)).block();
+    }
+}
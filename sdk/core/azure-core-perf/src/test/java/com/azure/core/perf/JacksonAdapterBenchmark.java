@@ -0,0 +1,82 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.implementation.serializer.SerializerEncoding;
+import com.azure.core.implementation.serializer.jackson.CachingJacksonAdapter;
+import com.azure.core.implementation.serializer.jackson.JacksonAdapter;
+import com.azure.core.implementation.util.TypeUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link JacksonAdapter} serialization and deserialization of a list of flattened models, similar to a page
+ * of an ARM listing, against {@link CachingJacksonAdapter}.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JacksonAdapterBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"JacksonAdapter", "CachingJacksonAdapter"})
+    private String adapterType;
+
+    private JacksonAdapter adapter;
+    private Type listType;
+    private List<FlattenedResource> resources;
+    private String json;
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setup() throws IOException {
+        adapter = "CachingJacksonAdapter".equals(adapterType) ? new CachingJacksonAdapter() : new JacksonAdapter();
+        listType = TypeUtil.createParameterizedType(List.class, FlattenedResource.class);
+        resources = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            resources.add(FlattenedResource.create(i));
+        }
+        json = adapter.serialize(resources, SerializerEncoding.JSON);
+        jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String serializeToString() throws IOException {
+        return adapter.serialize(resources, SerializerEncoding.JSON);
+    }
+
+    @Benchmark
+    public byte[] serializeToBytes() throws IOException {
+        return adapter.serializeToBytes(resources, SerializerEncoding.JSON);
+    }
+
+    @Benchmark
+    public List<FlattenedResource> deserializeFromString() throws IOException {
+        return adapter.deserialize(json, listType, SerializerEncoding.JSON);
+    }
+
+    @Benchmark
+    public List<FlattenedResource> deserializeFromBytes() throws IOException {
+        return adapter.deserialize(jsonBytes, listType, SerializerEncoding.JSON);
+    }
+}
@@ -0,0 +1,82 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.implementation.http.PagedResponseBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Mono;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of iterating {@link PagedFlux} and {@link PagedIterable} over in-memory pages.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PagedFluxBenchmark {
+    private static final int PAGE_COUNT = 50;
+    private static final int PAGE_SIZE = 100;
+
+    private List<PagedResponse<Integer>> pages;
+
+    @Setup
+    public void setup() throws MalformedURLException {
+        final HttpRequest request = new HttpRequest(HttpMethod.GET, new URL("https://account.blob.core.windows.net"));
+        pages = new ArrayList<>(PAGE_COUNT);
+        for (int i = 0; i < PAGE_COUNT; i++) {
+            final List<Integer> items = new ArrayList<>(PAGE_SIZE);
+            for (int j = 0; j < PAGE_SIZE; j++) {
+                items.add(i * PAGE_SIZE + j);
+            }
+            final String continuationToken = i < PAGE_COUNT - 1 ? Integer.toString(i + 1) : null;
+            pages.add(new PagedResponseBase<>(request, 200, new HttpHeaders(), items, continuationToken, null));
+        }
+    }
+
+    @Benchmark
+    public Long iterateItems() {
+        return createPagedFlux().count().block();
+    }
+
+    @Benchmark
+    public Long iteratePages() {
+        return createPagedFlux().byPage().count().block();
+    }
+
+    @Benchmark
+    public void iterateItemsSync(Blackhole blackhole) {
+        for (Integer item : new PagedIterable<>(createPagedFlux())) {
+            blackhole.consume(item);
+        }
+    }
+
+    private PagedFlux<Integer> createPagedFlux() {
+        return new PagedFlux<>(() -> Mono.just(pages.get(0)),
+            continuationToken -> Mono.just(pages.get(Integer.parseInt(continuationToken))));
+    }
+}
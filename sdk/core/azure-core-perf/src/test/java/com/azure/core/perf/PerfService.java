@@ -0,0 +1,34 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.annotation.BodyParam;
+import com.azure.core.annotation.ExpectedResponses;
+import com.azure.core.annotation.Get;
+import com.azure.core.annotation.HeaderParam;
+import com.azure.core.annotation.Host;
+import com.azure.core.annotation.PathParam;
+import com.azure.core.annotation.Put;
+import com.azure.core.annotation.QueryParam;
+import com.azure.core.annotation.ServiceInterface;
+import com.azure.core.test.implementation.entities.HttpBinJSON;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface used by the RestProxy and SwaggerMethodParser benchmarks. The host is served by
+ * {@link com.azure.core.test.http.MockHttpClient} so no network calls are made.
+ */
+@Host("http://httpbin.org")
+@ServiceInterface(name = "PerfService")
+interface PerfService {
+    @Get("anything/{container}/{blob}")
+    @ExpectedResponses({200})
+    Mono<HttpBinJSON> getAnything(@PathParam("container") String container, @PathParam("blob") String blob,
+        @QueryParam("timeout") Integer timeout, @HeaderParam("x-ms-client-request-id") String requestId);
+
+    @Put("put")
+    @ExpectedResponses({200})
+    Mono<HttpBinJSON> put(@BodyParam("application/json") FlattenedResource body,
+        @HeaderParam("x-ms-client-request-id") String requestId);
+}
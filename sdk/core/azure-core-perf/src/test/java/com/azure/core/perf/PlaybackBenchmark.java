@@ -0,0 +1,65 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.implementation.RestProxy;
+import com.azure.core.test.http.LoadTestPlaybackClient;
+import com.azure.core.test.implementation.entities.HttpBinJSON;
+import com.azure.core.test.models.NetworkCallRecord;
+import com.azure.core.test.models.RecordedData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of a {@link PerfService} client played back offline by {@link LoadTestPlaybackClient} from
+ * recorded network calls. Run it with JMH's {@code -t} option to send requests from several threads.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PlaybackBenchmark {
+    private PerfService service;
+
+    @Setup
+    public void setup() {
+        final RecordedData recordedData = new RecordedData();
+        for (int i = 0; i < 100; i++) {
+            final NetworkCallRecord record = new NetworkCallRecord();
+            record.setMethod("GET");
+            record.setUri("http://httpbin.org/anything/container/blob" + i + ".txt?timeout=30");
+            record.setHeaders(new HashMap<>());
+            final Map<String, String> response = new HashMap<>();
+            response.put("StatusCode", "200");
+            response.put("Content-Type", "application/json");
+            response.put("Body", "{\"url\":\"/anything/container/blob" + i + ".txt\",\"headers\":{}}");
+            record.setResponse(response);
+            recordedData.addNetworkCall(record);
+        }
+
+        service = RestProxy.create(PerfService.class, new HttpPipelineBuilder()
+            .httpClient(new LoadTestPlaybackClient(recordedData, null))
+            .build());
+    }
+
+    @Benchmark
+    public HttpBinJSON getAnything() {
+        return service.getAnything("container", "blob42.txt", 30, "request-id").block();
+    }
+}
@@ -0,0 +1,56 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.implementation.RestProxy;
+import com.azure.core.test.http.MockHttpClient;
+import com.azure.core.test.implementation.entities.HttpBinJSON;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RestProxy#invoke(Object, java.lang.reflect.Method, Object[])} end to end: request building, body
+ * serialization, sending through the pipeline and decoding the response, against {@link MockHttpClient}.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RestProxyBenchmark {
+    private PerfService service;
+    private FlattenedResource body;
+
+    @Setup
+    public void setup() {
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new MockHttpClient())
+            .build();
+        service = RestProxy.create(PerfService.class, pipeline);
+        body = FlattenedResource.create(0);
+    }
+
+    @Benchmark
+    public HttpBinJSON getWithPathQueryAndHeader() {
+        return service.getAnything("container", "folder/blob name.txt", 30, "request-id").block();
+    }
+
+    @Benchmark
+    public HttpBinJSON putWithJsonBody() {
+        return service.put(body, "request-id").block();
+    }
+}
@@ -0,0 +1,65 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.perf;
+
+import com.azure.core.implementation.SwaggerInterfaceParser;
+import com.azure.core.implementation.SwaggerMethodParser;
+import com.azure.core.implementation.serializer.jackson.JacksonAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-call request building work done by {@link SwaggerMethodParser}: scheme, host, path, query and
+ * header substitution.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SwaggerMethodParserBenchmark {
+    private SwaggerMethodParser getParser;
+    private Object[] safeArguments;
+    private Object[] escapedArguments;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        final SwaggerInterfaceParser interfaceParser =
+            new SwaggerInterfaceParser(PerfService.class, JacksonAdapter.createDefaultSerializerAdapter());
+        getParser = interfaceParser.getMethodParser(PerfService.class.getDeclaredMethod("getAnything",
+            String.class, String.class, Integer.class, String.class));
+        safeArguments = new Object[] {"container", "blob.txt", 30, "request-id"};
+        escapedArguments = new Object[] {"container", "folder/blob name (1).txt", 30, "request-id"};
+    }
+
+    @Benchmark
+    public void buildRequestSafeArguments(Blackhole blackhole) {
+        buildRequest(safeArguments, blackhole);
+    }
+
+    @Benchmark
+    public void buildRequestEscapedArguments(Blackhole blackhole) {
+        buildRequest(escapedArguments, blackhole);
+    }
+
+    private void buildRequest(Object[] arguments, Blackhole blackhole) {
+        blackhole.consume(getParser.setScheme(arguments));
+        blackhole.consume(getParser.setHost(arguments));
+        blackhole.consume(getParser.setPath(arguments));
+        blackhole.consume(getParser.setEncodedQueryParameters(arguments));
+        blackhole.consume(getParser.setHeaders(arguments));
+    }
+}
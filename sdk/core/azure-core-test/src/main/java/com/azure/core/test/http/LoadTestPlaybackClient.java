@@ -0,0 +1,251 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.core.test.http;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.test.models.NetworkCallRecord;
+import com.azure.core.test.models.RecordedData;
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP client that plays back {@link NetworkCallRecord NetworkCallRecords} at a high rate, to stand in for a service
+ * when load testing a client.
+ *
+ * <p>Unlike {@link PlaybackClient}, records are not consumed: requests are matched, by method and by path and query
+ * ignoring the host, against an index built once, and the records matching the same request are played back in turn,
+ * starting over after the last one. Text replacement rules are applied to the responses once, when the client is
+ * created, and the responses share their headers and body: they must not be modified. As with PlaybackClient, the
+ * {@code x-ms-encryption-key-sha256} header of a request is echoed in the headers of its response. An optional latency is added to
+ * every response to simulate the network and the service.</p>
+ */
+public final class LoadTestPlaybackClient implements HttpClient {
+    private static final String X_MS_CLIENT_REQUEST_ID = "x-ms-client-request-id";
+    private static final String X_MS_ENCRYPTION_KEY_SHA256 = "x-ms-encryption-key-sha256";
+
+    private final ClientLogger logger = new ClientLogger(LoadTestPlaybackClient.class);
+    private final List<Pattern> rulePatterns = new ArrayList<>();
+    private final List<String> ruleReplacements = new ArrayList<>();
+    private final Map<String, PlaybackRecords> records = new HashMap<>();
+    private final Duration latency;
+
+    /**
+     * Creates a LoadTestPlaybackClient that replays network calls from {@code recordedData} without latency.
+     *
+     * @param recordedData The data to playback.
+     * @param textReplacementRules A set of rules to replace text in network call responses.
+     */
+    public LoadTestPlaybackClient(RecordedData recordedData, Map<String, String> textReplacementRules) {
+        this(recordedData, textReplacementRules, Duration.ZERO);
+    }
+
+    /**
+     * Creates a LoadTestPlaybackClient that replays network calls from {@code recordedData} and replaces {@link
+     * NetworkCallRecord#getResponse() response text} for any rules specified in {@code textReplacementRules}.
+     *
+     * @param recordedData The data to playback.
+     * @param textReplacementRules A set of rules to replace text in network call responses.
+     * @param latency The delay before each response is returned.
+     * @throws IllegalArgumentException if {@code latency} is negative.
+     */
+    public LoadTestPlaybackClient(RecordedData recordedData, Map<String, String> textReplacementRules,
+                                  Duration latency) {
+        Objects.requireNonNull(recordedData, "'recordedData' cannot be null.");
+        this.latency = Objects.requireNonNull(latency, "'latency' cannot be null.");
+        if (latency.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(
+                "Negative value for 'latency' is not allowed."));
+        }
+
+        if (textReplacementRules != null) {
+            for (Map.Entry<String, String> rule : textReplacementRules.entrySet()) {
+                if (rule.getValue() != null) {
+                    rulePatterns.add(Pattern.compile(rule.getKey()));
+                    ruleReplacements.add(rule.getValue());
+                }
+            }
+        }
+
+        for (NetworkCallRecord record : recordedData.getNetworkCallRecords()) {
+            records.computeIfAbsent(getMatchKey(record.getMethod(), record.getUri()), ignored -> new PlaybackRecords())
+                .add(new PlaybackRecord(record));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<HttpResponse> send(final HttpRequest request) {
+        final Mono<HttpResponse> response = Mono.defer(() -> playbackHttpResponse(request));
+        return latency.isZero() ? response : response.delaySubscription(latency);
+    }
+
+    private Mono<HttpResponse> playbackHttpResponse(final HttpRequest request) {
+        final String incomingUrl = applyReplacementRules(request.getUrl().toString());
+        final String incomingMethod = request.getHttpMethod().toString();
+
+        final PlaybackRecords matching = records.get(getMatchKey(incomingMethod, incomingUrl));
+        if (matching == null) {
+            logger.warning("NOT FOUND - Method: {} URL: {}", incomingMethod, incomingUrl);
+            return Mono.error(new IllegalStateException("==> Unexpected request: " + incomingMethod + " "
+                + incomingUrl));
+        }
+
+        final PlaybackRecord record = matching.next();
+        if (record.exception != null) {
+            return Mono.error(logger.logExceptionAsWarning(Exceptions.propagate(record.exception)));
+        }
+
+        // Overwrite the request header if any.
+        if (record.clientRequestId != null) {
+            request.setHeader(X_MS_CLIENT_REQUEST_ID, record.clientRequestId);
+        }
+
+        // Echo the hash of a customer-provided key, as the service does, without modifying the shared headers.
+        HttpHeaders headers = record.headers;
+        final String encryptionKeySha256 = request.getHeaders().getValue(X_MS_ENCRYPTION_KEY_SHA256);
+        if (encryptionKeySha256 != null) {
+            headers = new HttpHeaders(record.headers);
+            headers.put(X_MS_ENCRYPTION_KEY_SHA256, encryptionKeySha256);
+        }
+        return Mono.just(new PlaybackResponse(request, record, headers));
+    }
+
+    private String applyReplacementRules(String text) {
+        for (int i = 0; i < rulePatterns.size(); i++) {
+            text = rulePatterns.get(i).matcher(text).replaceAll(ruleReplacements.get(i));
+        }
+        return text;
+    }
+
+    private static String getMatchKey(String method, String url) {
+        // Matched as PlaybackClient does, ignoring the case, the host and the value of a 'sig' query parameter.
+        return (method + " " + PlaybackClient.removeHost(url)).toLowerCase(Locale.ROOT);
+    }
+
+    /*
+     * The records matching the same requests, played back in turn.
+     */
+    private static final class PlaybackRecords {
+        private final List<PlaybackRecord> records = new ArrayList<>(1);
+        private final AtomicInteger nextIndex = new AtomicInteger();
+
+        void add(PlaybackRecord record) {
+            records.add(record);
+        }
+
+        PlaybackRecord next() {
+            if (records.size() == 1) {
+                return records.get(0);
+            }
+            return records.get(Math.floorMod(nextIndex.getAndIncrement(), records.size()));
+        }
+    }
+
+    /*
+     * A network call record, with its response computed once.
+     */
+    private final class PlaybackRecord {
+        private final Throwable exception;
+        private final String clientRequestId;
+        private final int statusCode;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        PlaybackRecord(NetworkCallRecord record) {
+            this.exception = record.getException() == null ? null : record.getException().get();
+            this.clientRequestId = record.getHeaders() == null ? null : record.getHeaders().get(X_MS_CLIENT_REQUEST_ID);
+            if (exception != null) {
+                this.statusCode = 0;
+                this.headers = null;
+                this.body = null;
+                return;
+            }
+
+            final Map<String, String> response = record.getResponse();
+            this.statusCode = Integer.parseInt(response.get("StatusCode"));
+            this.headers = new HttpHeaders();
+            for (Map.Entry<String, String> pair : response.entrySet()) {
+                if (!pair.getKey().equals("StatusCode") && !pair.getKey().equals("Body")) {
+                    headers.put(pair.getKey(), applyReplacementRules(pair.getValue()));
+                }
+            }
+
+            final String rawBody = response.get("Body");
+            this.body = rawBody == null
+                ? null
+                : PlaybackClient.decodeBody(applyReplacementRules(rawBody), response.get("Content-Type"));
+            if (body != null && body.length > 0) {
+                headers.put("Content-Length", String.valueOf(body.length));
+            }
+        }
+    }
+
+    /*
+     * An HTTP response sharing the body, and usually the headers, of its record.
+     */
+    private static final class PlaybackResponse extends HttpResponse {
+        private final PlaybackRecord record;
+        private final HttpHeaders headers;
+
+        PlaybackResponse(HttpRequest request, PlaybackRecord record, HttpHeaders headers) {
+            super(request);
+            this.record = record;
+            this.headers = headers;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return record.statusCode;
+        }
+
+        @Override
+        public String getHeaderValue(String name) {
+            return headers.getValue(name);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return record.body == null ? Flux.empty() : Flux.just(ByteBuffer.wrap(record.body).asReadOnlyBuffer());
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return record.body == null ? Mono.empty() : Mono.just(record.body);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return getBodyAsString(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return record.body == null ? Mono.empty() : Mono.just(new String(record.body, charset));
+        }
+    }
+}
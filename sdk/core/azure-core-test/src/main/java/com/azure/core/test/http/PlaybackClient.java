@@ -109,19 +109,7 @@ public final class PlaybackClient implements HttpClient {
                 }
             }
 
-            String contentType = networkCallRecord.getResponse().get("Content-Type");
-
-            // octet-stream's are written to disk using Arrays.toString() which creates an output such as "[12, -1]".
-            if (contentType != null && contentType.equalsIgnoreCase("application/octet-stream")) {
-                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-                for (String piece : rawBody.substring(1, rawBody.length() - 1).split(", ")) {
-                    outputStream.write(Byte.parseByte(piece));
-                }
-
-                bytes = outputStream.toByteArray();
-            } else {
-                bytes = rawBody.getBytes(StandardCharsets.UTF_8);
-            }
+            bytes = decodeBody(rawBody, networkCallRecord.getResponse().get("Content-Type"));
 
             if (bytes.length > 0) {
                 headers.put("Content-Length", String.valueOf(bytes.length));
@@ -132,6 +120,23 @@ public final class PlaybackClient implements HttpClient {
         return Mono.just(response);
     }
 
+    /*
+     * Decodes the body of a recorded response.
+     */
+    static byte[] decodeBody(String rawBody, String contentType) {
+        // octet-stream's are written to disk using Arrays.toString() which creates an output such as "[12, -1]".
+        if (contentType != null && contentType.equalsIgnoreCase("application/octet-stream")) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            for (String piece : rawBody.substring(1, rawBody.length() - 1).split(", ")) {
+                outputStream.write(Byte.parseByte(piece));
+            }
+
+            return outputStream.toByteArray();
+        } else {
+            return rawBody.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
     private String applyReplacementRule(String text) {
         for (Map.Entry<String, String> rule : textReplacementRules.entrySet()) {
             if (rule.getValue() != null) {
@@ -141,7 +146,7 @@ public final class PlaybackClient implements HttpClient {
         return text;
     }
 
-    private static String removeHost(String url) {
+    static String removeHost(String url) {
         UrlBuilder urlBuilder = UrlBuilder.parse(url);
 
         if (urlBuilder.getQuery().containsKey("sig")) {
@@ -5,8 +5,10 @@ package com.azure.core.test.models;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -52,6 +54,17 @@ public class RecordedData {
         return null;
     }
 
+    /**
+     * Gets the network calls, in the order they were added.
+     *
+     * @return A copy of the list of network calls.
+     */
+    public List<NetworkCallRecord> getNetworkCallRecords() {
+        synchronized (networkCallRecords) {
+            return new ArrayList<>(networkCallRecords);
+        }
+    }
+
     /**
      * Adds a network call to the end of the list.
      *
@@ -0,0 +1,98 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.test.http;
+
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.test.models.NetworkCallRecord;
+import com.azure.core.test.models.RecordedData;
+import org.junit.Test;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LoadTestPlaybackClientTests {
+    @Test
+    public void replaysRecordsWithoutConsumingThem() throws MalformedURLException {
+        final RecordedData recordedData = new RecordedData();
+        recordedData.addNetworkCall(record("GET", "https://account.blob.core.windows.net/container/blob?comp=list",
+            200, "first"));
+        recordedData.addNetworkCall(record("GET", "https://account.blob.core.windows.net/container/blob?comp=list",
+            200, "second"));
+        recordedData.addNetworkCall(record("PUT", "https://account.blob.core.windows.net/container/blob", 201, ""));
+        final LoadTestPlaybackClient client = new LoadTestPlaybackClient(recordedData, null);
+
+        final URL url = new URL("https://playback.blob.core.windows.net/Container/blob?comp=list");
+        for (String expected : new String[] {"first", "second", "first", "second"}) {
+            final HttpResponse response = client.send(new HttpRequest(HttpMethod.GET, url)).block();
+            assertEquals(200, response.getStatusCode());
+            assertEquals(expected, response.getBodyAsString().block());
+            assertEquals(String.valueOf(expected.length()), response.getHeaderValue("Content-Length"));
+        }
+
+        final URL putUrl = new URL("https://playback.blob.core.windows.net/container/blob");
+        assertEquals(201, client.send(new HttpRequest(HttpMethod.PUT, putUrl)).block().getStatusCode());
+        assertEquals(201, client.send(new HttpRequest(HttpMethod.PUT, putUrl)).block().getStatusCode());
+    }
+
+    @Test
+    public void appliesReplacementRulesAndIgnoresSignature() throws MalformedURLException {
+        final RecordedData recordedData = new RecordedData();
+        recordedData.addNetworkCall(record("GET", "https://account.blob.core.windows.net/container?sig=REDACTED&sv=1",
+            200, "{\"name\":\"fakeaccount\"}"));
+        final Map<String, String> rules = Collections.singletonMap("fakeaccount", "realaccount");
+        final LoadTestPlaybackClient client = new LoadTestPlaybackClient(recordedData, rules, Duration.ofMillis(10));
+
+        final URL url = new URL("https://account.blob.core.windows.net/container?sig=abc%3D&sv=1");
+        final HttpResponse response = client.send(new HttpRequest(HttpMethod.GET, url)).block();
+        assertEquals("{\"name\":\"realaccount\"}", response.getBodyAsString().block());
+    }
+
+    @Test
+    public void echoesEncryptionKeyHashInResponseOnly() throws MalformedURLException {
+        final RecordedData recordedData = new RecordedData();
+        recordedData.addNetworkCall(record("PUT", "https://account.blob.core.windows.net/container/blob", 201, ""));
+        final LoadTestPlaybackClient client = new LoadTestPlaybackClient(recordedData, null);
+
+        final URL url = new URL("https://account.blob.core.windows.net/container/blob");
+        final HttpRequest request = new HttpRequest(HttpMethod.PUT, url)
+            .setHeader("x-ms-encryption-key-sha256", "keyhash");
+        assertEquals("keyhash", client.send(request).block().getHeaderValue("x-ms-encryption-key-sha256"));
+        assertNull(client.send(new HttpRequest(HttpMethod.PUT, url)).block()
+            .getHeaderValue("x-ms-encryption-key-sha256"));
+    }
+
+    @Test
+    public void failsUnexpectedRequests() throws MalformedURLException {
+        final LoadTestPlaybackClient client = new LoadTestPlaybackClient(new RecordedData(), null);
+        try {
+            client.send(new HttpRequest(HttpMethod.GET, new URL("https://localhost/missing"))).block();
+        } catch (IllegalStateException ex) {
+            assertTrue(ex.getMessage().contains("/missing"));
+            return;
+        }
+        throw new AssertionError("Expected the request to fail.");
+    }
+
+    private static NetworkCallRecord record(String method, String uri, int statusCode, String body) {
+        final NetworkCallRecord record = new NetworkCallRecord();
+        record.setMethod(method);
+        record.setUri(uri);
+        record.setHeaders(new HashMap<>());
+        final Map<String, String> response = new HashMap<>();
+        response.put("StatusCode", String.valueOf(statusCode));
+        response.put("Body", body);
+        record.setResponse(response);
+        return record;
+    }
+}
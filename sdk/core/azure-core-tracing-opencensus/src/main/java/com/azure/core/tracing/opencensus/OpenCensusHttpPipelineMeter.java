@@ -0,0 +1,98 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.tracing.opencensus;
+
+import com.azure.core.util.metrics.HttpPipelineMeter;
+import io.opencensus.stats.Aggregation;
+import io.opencensus.stats.BucketBoundaries;
+import io.opencensus.stats.Measure.MeasureDouble;
+import io.opencensus.stats.Stats;
+import io.opencensus.stats.StatsRecorder;
+import io.opencensus.stats.View;
+import io.opencensus.stats.ViewManager;
+import io.opencensus.tags.TagContext;
+import io.opencensus.tags.TagKey;
+import io.opencensus.tags.TagValue;
+import io.opencensus.tags.Tagger;
+import io.opencensus.tags.Tags;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link HttpPipelineMeter} that records the timings of a pipeline as OpenCensus stats, in milliseconds.
+ *
+ * <p>Measurements are only aggregated for registered views, call {@link #registerViews()} once to register the
+ * default latency distributions.</p>
+ */
+public final class OpenCensusHttpPipelineMeter implements HttpPipelineMeter {
+    private static final MeasureDouble POLICY_LATENCY = MeasureDouble.create("azure.com/core/http/policy_latency",
+        "Time for a pipeline policy to produce a response, including the policies after it", "ms");
+    private static final MeasureDouble SEND_LATENCY = MeasureDouble.create("azure.com/core/http/send_latency",
+        "Time for the HTTP client to receive the response headers", "ms");
+    private static final MeasureDouble BODY_READ_LATENCY = MeasureDouble.create(
+        "azure.com/core/http/body_read_latency", "Time to read a response body after its headers", "ms");
+
+    private static final TagKey POLICY = TagKey.create("azure_policy");
+    private static final TagKey FAILED = TagKey.create("azure_failed");
+    private static final TagValue TRUE = TagValue.create("true");
+    private static final TagValue FALSE = TagValue.create("false");
+
+    private static final Aggregation LATENCY_DISTRIBUTION = Aggregation.Distribution.create(BucketBoundaries.create(
+        Arrays.asList(0.0, 1.0, 2.0, 5.0, 10.0, 20.0, 50.0, 100.0, 200.0, 500.0, 1000.0, 2000.0, 5000.0, 10000.0)));
+
+    private final StatsRecorder statsRecorder = Stats.getStatsRecorder();
+    private final Tagger tagger = Tags.getTagger();
+    private final Map<String, TagValue> policyTags = new ConcurrentHashMap<>();
+
+    /**
+     * Registers distribution views for the policy, send and body read latencies with the global view manager.
+     */
+    public static void registerViews() {
+        final ViewManager viewManager = Stats.getViewManager();
+        viewManager.registerView(createView(POLICY_LATENCY, Arrays.asList(FAILED, POLICY)));
+        viewManager.registerView(createView(SEND_LATENCY, Collections.singletonList(FAILED)));
+        viewManager.registerView(createView(BODY_READ_LATENCY, Collections.emptyList()));
+    }
+
+    @Override
+    public void recordPolicy(String policyName, long durationNanos, boolean failed) {
+        final TagContext tags = tagger.currentBuilder()
+            .put(POLICY, policyTags.computeIfAbsent(policyName, OpenCensusHttpPipelineMeter::toTagValue))
+            .put(FAILED, failed ? TRUE : FALSE)
+            .build();
+        statsRecorder.newMeasureMap().put(POLICY_LATENCY, toMillis(durationNanos)).record(tags);
+    }
+
+    @Override
+    public void recordSend(long durationNanos, boolean failed) {
+        final TagContext tags = tagger.currentBuilder().put(FAILED, failed ? TRUE : FALSE).build();
+        statsRecorder.newMeasureMap().put(SEND_LATENCY, toMillis(durationNanos)).record(tags);
+    }
+
+    @Override
+    public void recordBodyRead(long durationNanos) {
+        statsRecorder.newMeasureMap().put(BODY_READ_LATENCY, toMillis(durationNanos)).record();
+    }
+
+    private static View createView(MeasureDouble measure, List<TagKey> tagKeys) {
+        return View.create(View.Name.create(measure.getName()), measure.getDescription(), measure,
+            LATENCY_DISTRIBUTION, tagKeys);
+    }
+
+    private static TagValue toTagValue(String policyName) {
+        // Tag values are limited to printable ASCII of at most 255 characters.
+        final String value = policyName.length() > TagValue.MAX_LENGTH
+            ? policyName.substring(0, TagValue.MAX_LENGTH)
+            : policyName;
+        return TagValue.create(value.isEmpty() ? "anonymous" : value);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
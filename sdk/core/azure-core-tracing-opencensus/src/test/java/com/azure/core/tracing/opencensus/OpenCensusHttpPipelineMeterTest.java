@@ -0,0 +1,49 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.tracing.opencensus;
+
+import io.opencensus.stats.AggregationData.DistributionData;
+import io.opencensus.stats.Stats;
+import io.opencensus.stats.View;
+import io.opencensus.stats.ViewData;
+import io.opencensus.tags.TagValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the OpenCensus pipeline meter using opencensus-impl
+ */
+public class OpenCensusHttpPipelineMeterTest {
+    @Test
+    public void recordsPolicyLatencyDistribution() throws Exception {
+        OpenCensusHttpPipelineMeter.registerViews();
+        final OpenCensusHttpPipelineMeter meter = new OpenCensusHttpPipelineMeter();
+
+        meter.recordPolicy("RetryPolicy", TimeUnit.MILLISECONDS.toNanos(15), false);
+        meter.recordPolicy("RetryPolicy", TimeUnit.MILLISECONDS.toNanos(25), false);
+        meter.recordSend(TimeUnit.MILLISECONDS.toNanos(10), false);
+        meter.recordBodyRead(TimeUnit.MILLISECONDS.toNanos(5));
+
+        // View columns are ordered by tag key name: azure_failed, azure_policy.
+        final List<TagValue> tags = Arrays.asList(TagValue.create("false"), TagValue.create("RetryPolicy"));
+        DistributionData distribution = null;
+        // Stats are aggregated asynchronously by opencensus-impl.
+        for (int i = 0; i < 50 && distribution == null; i++) {
+            final ViewData viewData = Stats.getViewManager()
+                .getView(View.Name.create("azure.com/core/http/policy_latency"));
+            distribution = (DistributionData) viewData.getAggregationMap().get(tags);
+            if (distribution == null) {
+                Thread.sleep(100);
+            }
+        }
+
+        Assert.assertNotNull(distribution);
+        Assert.assertEquals(2, distribution.getCount());
+        Assert.assertEquals(20.0, distribution.getMean(), 0.001);
+    }
+}
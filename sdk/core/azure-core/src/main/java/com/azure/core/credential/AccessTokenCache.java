@@ -0,0 +1,162 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.credential;
+
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * A token cache that keeps one token per set of scopes and refreshes it in the background before it expires.
+ *
+ * <p>Once a token has been acquired, callers are served from the cache without waiting. When the token enters its
+ * refresh window, the first caller to notice starts a background refresh and still receives the current token.
+ * Callers only wait for the token service when no token exists yet or when the cached token has already expired. At
+ * most one refresh runs at a time for each set of scopes, and all waiting callers share its result.</p>
+ *
+ * <p>The refresh window starts {@code refreshOffset} before the token expires, moved earlier by a random amount up
+ * to {@code refreshJitter}. This keeps many clients that acquired tokens at the same moment from refreshing at the
+ * same moment. For tokens that live less than twice the offset, the window starts halfway through the remaining
+ * lifetime instead.</p>
+ */
+public final class AccessTokenCache {
+    /**
+     * The default time before expiry at which a token starts being refreshed.
+     */
+    public static final Duration DEFAULT_REFRESH_OFFSET = Duration.ofMinutes(5);
+
+    /**
+     * The default upper bound of the random amount by which the refresh window is moved earlier.
+     */
+    public static final Duration DEFAULT_REFRESH_JITTER = Duration.ofSeconds(30);
+
+    private static final long RETRY_AFTER_FAILURE_MILLIS = Duration.ofSeconds(30).toMillis();
+
+    private final ClientLogger logger = new ClientLogger(AccessTokenCache.class);
+    private final Map<Set<String>, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Function<TokenRequestContext, Mono<AccessToken>> tokenSupplier;
+    private final long refreshOffsetMillis;
+    private final long refreshJitterMillis;
+
+    /**
+     * Creates a token cache that acquires tokens from the credential, using the default refresh offset and jitter.
+     *
+     * @param credential the credential to acquire tokens from
+     */
+    public AccessTokenCache(TokenCredential credential) {
+        this(Objects.requireNonNull(credential, "'credential' cannot be null.")::getToken, DEFAULT_REFRESH_OFFSET,
+            DEFAULT_REFRESH_JITTER);
+    }
+
+    /**
+     * Creates a token cache.
+     *
+     * @param tokenSupplier a method to get a new token for a token request
+     * @param refreshOffset how long before expiry a token starts being refreshed
+     * @param refreshJitter the upper bound of the random amount by which the refresh window is moved earlier
+     */
+    public AccessTokenCache(Function<TokenRequestContext, Mono<AccessToken>> tokenSupplier, Duration refreshOffset,
+                            Duration refreshJitter) {
+        this.tokenSupplier = Objects.requireNonNull(tokenSupplier, "'tokenSupplier' cannot be null.");
+        Objects.requireNonNull(refreshOffset, "'refreshOffset' cannot be null.");
+        Objects.requireNonNull(refreshJitter, "'refreshJitter' cannot be null.");
+        if (refreshOffset.isNegative() || refreshJitter.isNegative()) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'refreshOffset' and 'refreshJitter' cannot be negative."));
+        }
+        this.refreshOffsetMillis = refreshOffset.toMillis();
+        this.refreshJitterMillis = refreshJitter.toMillis();
+    }
+
+    /**
+     * Asynchronously get a token for the scopes of the request, either from the cache or by acquiring a new one.
+     *
+     * @param request the details of the token request
+     * @return a Publisher that emits an AccessToken
+     */
+    public Mono<AccessToken> getToken(TokenRequestContext request) {
+        Objects.requireNonNull(request, "'request' cannot be null.");
+        return Mono.defer(() -> {
+            final CachedToken cached = tokens.computeIfAbsent(new HashSet<>(request.getScopes()),
+                scopes -> new CachedToken(request));
+            final AccessToken token = cached.token;
+            if (token == null || token.isExpired()) {
+                return cached.refresh();
+            }
+
+            if (System.currentTimeMillis() >= cached.refreshAtMillis && cached.refreshing.get() == null) {
+                cached.refresh().subscribe(ignored -> { }, error -> logger.warning(
+                    "Background token refresh failed, the cached token is used until it expires.", error));
+            }
+            return Mono.just(token);
+        });
+    }
+
+    private long computeRefreshAt(AccessToken token) {
+        final Instant expiry = token.getExpiresAt().toInstant();
+        if (expiry.getEpochSecond() >= Long.MAX_VALUE / 1000) {
+            // Effectively never expires, e.g. OffsetDateTime.MAX.
+            return Long.MAX_VALUE;
+        }
+
+        final long now = System.currentTimeMillis();
+        final long expiresAt = expiry.toEpochMilli();
+        final long lifetime = expiresAt - now;
+        if (lifetime <= 0) {
+            return expiresAt;
+        }
+
+        final long offset = Math.min(refreshOffsetMillis, lifetime / 2);
+        final long jitter = Math.min(refreshJitterMillis, offset);
+        return expiresAt - offset - (jitter == 0 ? 0 : ThreadLocalRandom.current().nextLong(jitter));
+    }
+
+    private final class CachedToken {
+        private final TokenRequestContext request;
+        private final AtomicReference<MonoProcessor<AccessToken>> refreshing = new AtomicReference<>();
+        private volatile AccessToken token;
+        private volatile long refreshAtMillis;
+
+        private CachedToken(TokenRequestContext request) {
+            // Copy the scopes, the caller is free to modify its request afterwards.
+            this.request = new TokenRequestContext().setScopes(request.getScopes());
+        }
+
+        /**
+         * Starts a refresh unless one is already running, and returns the result of the running refresh.
+         */
+        private Mono<AccessToken> refresh() {
+            while (true) {
+                final MonoProcessor<AccessToken> current = refreshing.get();
+                if (current != null) {
+                    return current;
+                }
+
+                final MonoProcessor<AccessToken> processor = MonoProcessor.create();
+                if (refreshing.compareAndSet(null, processor)) {
+                    Mono.defer(() -> tokenSupplier.apply(request))
+                        .doOnNext(newToken -> {
+                            refreshAtMillis = computeRefreshAt(newToken);
+                            token = newToken;
+                        })
+                        .doOnError(error -> refreshAtMillis = System.currentTimeMillis() + RETRY_AFTER_FAILURE_MILLIS)
+                        .doFinally(signal -> refreshing.compareAndSet(processor, null))
+                        .subscribe(processor);
+                    return processor;
+                }
+            }
+        }
+    }
+}
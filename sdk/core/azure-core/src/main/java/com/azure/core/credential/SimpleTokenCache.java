@@ -3,25 +3,21 @@
 
 package com.azure.core.credential;
 
-import reactor.core.publisher.FluxSink;
-import reactor.core.publisher.FluxSink.OverflowStrategy;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.ReplayProcessor;
 
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 /**
  * A token cache that supports caching a token and refreshing it.
+ *
+ * <p>This is a single-token view over {@link AccessTokenCache}: concurrent refreshes are shared and the token is
+ * refreshed in the background ahead of its expiry. Use {@link AccessTokenCache} directly to cache tokens for more
+ * than one set of scopes.</p>
  */
 public class SimpleTokenCache {
-    private static final int REFRESH_TIMEOUT_SECONDS = 30;
+    private static final TokenRequestContext NO_SCOPES = new TokenRequestContext();
 
-    private final AtomicBoolean wip;
-    private AccessToken cache;
-    private final ReplayProcessor<AccessToken> emitterProcessor = ReplayProcessor.create(1);
-    private final FluxSink<AccessToken> sink = emitterProcessor.sink(OverflowStrategy.BUFFER);
-    private final Supplier<Mono<AccessToken>> tokenSupplier;
+    private final AccessTokenCache cache;
 
     /**
      * Creates an instance of RefreshableTokenCredential with default scheme "Bearer".
@@ -29,8 +25,8 @@ public class SimpleTokenCache {
      * @param tokenSupplier a method to get a new token
      */
     public SimpleTokenCache(Supplier<Mono<AccessToken>> tokenSupplier) {
-        this.wip = new AtomicBoolean(false);
-        this.tokenSupplier = tokenSupplier;
+        this.cache = new AccessTokenCache(request -> tokenSupplier.get(), AccessTokenCache.DEFAULT_REFRESH_OFFSET,
+            AccessTokenCache.DEFAULT_REFRESH_JITTER);
     }
 
     /**
@@ -38,18 +34,6 @@ public class SimpleTokenCache {
      * @return a Publisher that emits an AccessToken
      */
     public Mono<AccessToken> getToken() {
-        if (cache != null && !cache.isExpired()) {
-            return Mono.just(cache);
-        }
-        return Mono.defer(() -> {
-            if (!wip.getAndSet(true)) {
-                return tokenSupplier.get().doOnNext(ac -> cache = ac)
-                    .doOnNext(sink::next)
-                    .doOnError(sink::error)
-                    .doOnTerminate(() -> wip.set(false));
-            } else {
-                return emitterProcessor.next();
-            }
-        });
+        return cache.getToken(NO_SCOPES);
     }
 }
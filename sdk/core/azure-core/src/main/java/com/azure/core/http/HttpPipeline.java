@@ -5,6 +5,7 @@ package com.azure.core.http;
 
 import com.azure.core.http.policy.HttpPipelinePolicy;
 import com.azure.core.util.Context;
+import com.azure.core.util.metrics.HttpPipelineMeter;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -16,6 +17,7 @@ import java.util.Objects;
 public final class HttpPipeline {
     private final HttpClient httpClient;
     private final HttpPipelinePolicy[] pipelinePolicies;
+    private final HttpPipelineMeter meter;
 
 
     /**
@@ -28,10 +30,22 @@ public final class HttpPipeline {
      *     will not  mutate the pipeline
      */
     HttpPipeline(HttpClient httpClient, List<HttpPipelinePolicy> pipelinePolicies) {
+        this(httpClient, pipelinePolicies, null);
+    }
+
+    /**
+     * Creates a HttpPipeline that records its timings with the given meter.
+     *
+     * @param httpClient the http client to write request to wire and receive response from wire.
+     * @param pipelinePolicies pipeline policies in the order they need to applied.
+     * @param meter the meter to record timings with, or null to not record any.
+     */
+    HttpPipeline(HttpClient httpClient, List<HttpPipelinePolicy> pipelinePolicies, HttpPipelineMeter meter) {
         Objects.requireNonNull(httpClient, "'httpClient' cannot be null.");
         Objects.requireNonNull(pipelinePolicies, "'pipelinePolicies' cannot be null.");
         this.httpClient = httpClient;
         this.pipelinePolicies = pipelinePolicies.toArray(new HttpPipelinePolicy[0]);
+        this.meter = meter;
     }
 
     /**
@@ -61,6 +75,15 @@ public final class HttpPipeline {
         return this.httpClient;
     }
 
+    /**
+     * Get the meter that records the timings of the pipeline.
+     *
+     * @return the meter, or null if the pipeline does not record timings.
+     */
+    HttpPipelineMeter getMeter() {
+        return this.meter;
+    }
+
     /**
      * Wraps the {@code request} in a context and sends it through pipeline.
      *
@@ -4,6 +4,7 @@
 package com.azure.core.http;
 
 import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.util.metrics.HttpPipelineMeter;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -39,6 +40,7 @@ import java.util.List;
 public class HttpPipelineBuilder {
     private HttpClient httpClient;
     private List<HttpPipelinePolicy> pipelinePolicies;
+    private HttpPipelineMeter meter;
 
 
     /**
@@ -60,7 +62,7 @@ public class HttpPipelineBuilder {
         List<HttpPipelinePolicy> policies = (pipelinePolicies == null) ? new ArrayList<>() : pipelinePolicies;
         HttpClient client = (httpClient == null) ? HttpClient.createDefault() : httpClient;
 
-        return new HttpPipeline(client, policies);
+        return new HttpPipeline(client, policies, meter);
     }
 
     /**
@@ -74,6 +76,22 @@ public class HttpPipelineBuilder {
         return this;
     }
 
+    /**
+     * Sets the meter that receives the timings of the pipeline. When a meter is set, the pipeline records how long
+     * every policy and the HttpClient take, see {@link HttpPipelineMeter} for what is recorded. No timings are recorded
+     * by default.
+     *
+     * <p>Responses of a metered pipeline are wrapped to time the body read, so client specific response features, such
+     * as direct access to Netty buffers, are not available on them.</p>
+     *
+     * @param meter The meter to record the timings of the pipeline with, or null to disable recording.
+     * @return The updated HttpPipelineBuilder object.
+     */
+    public HttpPipelineBuilder meter(HttpPipelineMeter meter) {
+        this.meter = meter;
+        return this;
+    }
+
     /**
      * Adds {@link HttpPipelinePolicy policies} to the set of policies that the pipeline will use
      * when sending requests.
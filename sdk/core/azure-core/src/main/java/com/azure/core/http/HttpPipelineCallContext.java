@@ -66,6 +66,17 @@ public final class HttpPipelineCallContext {
         return this.data.getData(key);
     }
 
+    /**
+     * Creates a new context for the given request that starts with the data of this context. Changes made to either
+     * context afterwards are not visible to the other.
+     *
+     * @param request The HTTP request of the new context.
+     * @return A new HttpPipelineCallContext.
+     */
+    public HttpPipelineCallContext copy(HttpRequest request) {
+        return new HttpPipelineCallContext(request, this.data);
+    }
+
     /**
      * Gets the HTTP request.
      *
@@ -4,8 +4,11 @@
 package com.azure.core.http;
 
 import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.util.metrics.HttpPipelineMeter;
 import reactor.core.publisher.Mono;
 
+import java.util.Objects;
+
 /**
  * A type that invokes next policy in the pipeline.
  */
@@ -40,6 +43,11 @@ public class HttpPipelineNextPolicy {
         }
 
         this.currentPolicyIndex++;
+        final HttpPipelineMeter meter = this.pipeline.getMeter();
+        if (meter != null) {
+            return meteredProcess(meter, this.currentPolicyIndex == size);
+        }
+
         if (this.currentPolicyIndex == size) {
             return this.pipeline.getHttpClient().send(this.context.getHttpRequest());
         } else {
@@ -47,6 +55,53 @@ public class HttpPipelineNextPolicy {
         }
     }
 
+    /*
+     * Same as process, the timings start on subscription so that delays before subscribing, such as retry back-offs,
+     * are not counted.
+     */
+    private Mono<HttpResponse> meteredProcess(HttpPipelineMeter meter, boolean send) {
+        if (send) {
+            final Mono<HttpResponse> response = this.pipeline.getHttpClient().send(this.context.getHttpRequest());
+            return Mono.defer(() -> {
+                final long start = System.nanoTime();
+                return response
+                    .map(r -> {
+                        meter.recordSend(System.nanoTime() - start, false);
+                        return (HttpResponse) new MeteredHttpResponse(r, meter);
+                    })
+                    .doOnError(error -> meter.recordSend(System.nanoTime() - start, true));
+            });
+        }
+
+        final HttpPipelinePolicy policy = this.pipeline.getPolicy(this.currentPolicyIndex);
+        final String policyName = policy.getClass().getSimpleName();
+        final Mono<HttpResponse> response = policy.process(this.context, this);
+        return Mono.defer(() -> {
+            final long start = System.nanoTime();
+            return response
+                .doOnSuccess(r -> meter.recordPolicy(policyName, System.nanoTime() - start, false))
+                .doOnError(error -> meter.recordPolicy(policyName, System.nanoTime() - start, true));
+        });
+    }
+
+    /**
+     * Creates a copy of this instance that continues the pipeline with a different call context.
+     *
+     * <p>Use this to run the rest of the pipeline more than once concurrently, for example to hedge a request. The
+     * policies further down the pipeline may replace the request of the context they are given, so concurrent runs
+     * must not share a context.</p>
+     *
+     * @param context The call context the rest of the pipeline runs with, see
+     *     {@link HttpPipelineCallContext#copy(HttpRequest)}.
+     * @return A new instance of this next pipeline policy bound to the given context.
+     */
+    public HttpPipelineNextPolicy fork(HttpPipelineCallContext context) {
+        Objects.requireNonNull(context, "'context' cannot be null.");
+        HttpPipelineNextPolicy forked = new HttpPipelineNextPolicy(this.pipeline, context);
+        forked.currentPolicyIndex = this.currentPolicyIndex;
+        return forked;
+    }
+
     /**
      * Creates a new instance of this instance.
      *
@@ -0,0 +1,75 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http;
+
+import com.azure.core.util.metrics.HttpPipelineMeter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Wraps a HttpResponse to record the time from receiving its headers to finishing reading its body.
+ */
+final class MeteredHttpResponse extends HttpResponse {
+    private final HttpResponse response;
+    private final HttpPipelineMeter meter;
+    private final long headersReceivedAt = System.nanoTime();
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    MeteredHttpResponse(HttpResponse response, HttpPipelineMeter meter) {
+        super(response.getRequest());
+        this.response = response;
+        this.meter = meter;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return response.getStatusCode();
+    }
+
+    @Override
+    public String getHeaderValue(String name) {
+        return response.getHeaderValue(name);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return response.getHeaders();
+    }
+
+    @Override
+    public Flux<ByteBuffer> getBody() {
+        return response.getBody().doFinally(signal -> recordBodyRead());
+    }
+
+    @Override
+    public Mono<byte[]> getBodyAsByteArray() {
+        return response.getBodyAsByteArray().doFinally(signal -> recordBodyRead());
+    }
+
+    @Override
+    public Mono<String> getBodyAsString() {
+        return response.getBodyAsString().doFinally(signal -> recordBodyRead());
+    }
+
+    @Override
+    public Mono<String> getBodyAsString(Charset charset) {
+        return response.getBodyAsString(charset).doFinally(signal -> recordBodyRead());
+    }
+
+    @Override
+    public void close() {
+        response.close();
+    }
+
+    private void recordBodyRead() {
+        // The body of most responses can only be read once, only the first read is recorded.
+        if (recorded.compareAndSet(false, true)) {
+            meter.recordBodyRead(System.nanoTime() - headersReceivedAt);
+        }
+    }
+}
@@ -3,7 +3,7 @@
 
 package com.azure.core.http.policy;
 
-import com.azure.core.credential.SimpleTokenCache;
+import com.azure.core.credential.AccessTokenCache;
 import com.azure.core.credential.TokenCredential;
 import com.azure.core.credential.TokenRequestContext;
 import com.azure.core.http.HttpPipelineCallContext;
@@ -21,9 +21,8 @@ public class BearerTokenAuthenticationPolicy implements HttpPipelinePolicy {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER = "Bearer";
 
-    private final TokenCredential credential;
-    private final String[] scopes;
-    private final SimpleTokenCache cache;
+    private final TokenRequestContext tokenRequest;
+    private final AccessTokenCache cache;
 
     /**
      * Creates BearerTokenAuthenticationPolicy.
@@ -32,17 +31,28 @@ public class BearerTokenAuthenticationPolicy implements HttpPipelinePolicy {
      * @param scopes the scopes of authentication the credential should get token for
      */
     public BearerTokenAuthenticationPolicy(TokenCredential credential, String... scopes) {
-        Objects.requireNonNull(credential);
+        this(new AccessTokenCache(Objects.requireNonNull(credential)), scopes);
+    }
+
+    /**
+     * Creates BearerTokenAuthenticationPolicy that shares a token cache with other policies, so clients using the same
+     * credential and scopes acquire and refresh their token only once.
+     *
+     * @param cache the token cache to get tokens from
+     * @param scopes the scopes of authentication the cache should get token for
+     */
+    public BearerTokenAuthenticationPolicy(AccessTokenCache cache, String... scopes) {
+        Objects.requireNonNull(cache);
         Objects.requireNonNull(scopes);
         assert scopes.length > 0;
-        this.credential = credential;
-        this.scopes = scopes;
-        this.cache = new SimpleTokenCache(() -> credential.getToken(new TokenRequestContext().addScopes(scopes)));
+        this.tokenRequest = new TokenRequestContext().addScopes(scopes);
+        this.cache = cache;
     }
 
     @Override
     public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
-        return cache.getToken()
+        // Once the first token is acquired this completes immediately, refreshes happen in the background.
+        return cache.getToken(tokenRequest)
             .flatMap(token -> {
                 context.getHttpRequest().getHeaders().put(AUTHORIZATION_HEADER, BEARER + " " + token.getToken());
                 return next.process();
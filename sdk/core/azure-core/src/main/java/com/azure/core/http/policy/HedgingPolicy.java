@@ -0,0 +1,169 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A pipeline policy that hedges idempotent reads: if a GET or HEAD request has not been answered after a delay, a
+ * second copy of it is sent and whichever response arrives first is used. The other request is cancelled.
+ *
+ * <p>The delay is the given percentile of the latencies recently observed for the host, so only the slowest requests
+ * are hedged and the extra load stays proportional to {@code 100 - percentile}. Until enough latencies have been
+ * observed, the initial delay is used.</p>
+ *
+ * <p>Add this policy after {@link RetryPolicy}. Each try is then hedged on its own and a try counts once towards the
+ * retry limit no matter whether it was hedged. The hedge runs the rest of the pipeline with a copy of the request in a
+ * call context of its own, which has {@link #HEDGE_CONTEXT_KEY} set to {@code true}.</p>
+ */
+public class HedgingPolicy implements HttpPipelinePolicy {
+    /**
+     * The key of the call context data set to {@code true} for hedged copies of a request.
+     */
+    public static final String HEDGE_CONTEXT_KEY = "azure-hedged-request";
+
+    private static final int SAMPLE_COUNT = 256;
+    private static final int MIN_SAMPLES = 32;
+    private static final int UPDATE_INTERVAL = 16;
+
+    private final ClientLogger logger = new ClientLogger(HedgingPolicy.class);
+    private final Map<String, LatencyTracker> hosts = new ConcurrentHashMap<>();
+    private final double percentile;
+    private final long initialDelayNanos;
+
+    /**
+     * Creates a HedgingPolicy that always hedges after the given delay.
+     *
+     * @param delay the time to wait for a response before sending a second copy of the request
+     */
+    public HedgingPolicy(Duration delay) {
+        Objects.requireNonNull(delay, "'delay' cannot be null.");
+        this.percentile = -1;
+        this.initialDelayNanos = delay.toNanos();
+    }
+
+    /**
+     * Creates a HedgingPolicy that hedges requests slower than a percentile of the recently observed latencies.
+     *
+     * @param percentile the percentile of observed latencies after which a request is hedged, between 0 and 100
+     * @param initialDelay the delay to use until enough latencies have been observed
+     * @throws IllegalArgumentException if {@code percentile} is not in the range (0, 100]
+     */
+    public HedgingPolicy(double percentile, Duration initialDelay) {
+        Objects.requireNonNull(initialDelay, "'initialDelay' cannot be null.");
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'percentile' must be greater than 0 and at most 100."));
+        }
+        this.percentile = percentile;
+        this.initialDelayNanos = initialDelay.toNanos();
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        final HttpRequest request = context.getHttpRequest();
+        if (!isIdempotentRead(request)) {
+            return next.process();
+        }
+
+        final LatencyTracker tracker = percentile > 0
+            ? hosts.computeIfAbsent(request.getUrl().getHost(), host -> new LatencyTracker(percentile))
+            : null;
+        final long delayNanos = tracker == null ? initialDelayNanos : tracker.getDelayNanos(initialDelayNanos);
+
+        return Mono.defer(() -> {
+            // Capture the pipeline position and the request before the primary request moves or modifies them, the
+            // policies after this one then run on the hedge as they would on an unmodified request.
+            final HttpPipelineNextPolicy position = next.clone();
+            final HttpRequest snapshot = request.copy();
+            final AtomicBoolean answered = new AtomicBoolean();
+            final long start = System.nanoTime();
+            final Mono<HttpResponse> primary = next.process()
+                .flatMap(response -> claim(answered, response));
+            final Mono<HttpResponse> hedge = Mono.delay(Duration.ofNanos(delayNanos))
+                .then(Mono.defer(() -> {
+                    logger.verbose("[Hedging] No response after {} ms, sending a second request.",
+                        Duration.ofNanos(delayNanos).toMillis());
+                    final HttpPipelineCallContext hedgeContext = context.copy(snapshot);
+                    hedgeContext.setData(HEDGE_CONTEXT_KEY, true);
+                    return position.fork(hedgeContext).process();
+                }))
+                .flatMap(response -> claim(answered, response))
+                // A failed hedge must not fail a request that may still succeed, the primary decides the outcome.
+                .onErrorResume(error -> Mono.never());
+
+            return Mono.first(primary, hedge)
+                .doOnNext(response -> {
+                    if (tracker != null) {
+                        tracker.record(System.nanoTime() - start);
+                    }
+                });
+        });
+    }
+
+    /*
+     * Lets the first response through. A response arriving after it lost the race, even if its request could not be
+     * cancelled in time, is closed so that its connection is released.
+     */
+    private static Mono<HttpResponse> claim(AtomicBoolean answered, HttpResponse response) {
+        if (answered.compareAndSet(false, true)) {
+            return Mono.just(response);
+        }
+        response.close();
+        return Mono.never();
+    }
+
+    private static boolean isIdempotentRead(HttpRequest request) {
+        final HttpMethod method = request.getHttpMethod();
+        return (method == HttpMethod.GET || method == HttpMethod.HEAD) && request.getBody() == null;
+    }
+
+    /**
+     * Keeps the latest latencies of a host in a ring buffer and periodically recomputes the hedging delay from them.
+     */
+    private static final class LatencyTracker {
+        private final double percentile;
+        private final long[] samples = new long[SAMPLE_COUNT];
+        private int nextSample;
+        private int sampleCount;
+        private int samplesSinceUpdate;
+        private volatile long delayNanos = -1;
+
+        LatencyTracker(double percentile) {
+            this.percentile = percentile;
+        }
+
+        long getDelayNanos(long defaultDelayNanos) {
+            final long delay = delayNanos;
+            return delay < 0 ? defaultDelayNanos : delay;
+        }
+
+        synchronized void record(long latencyNanos) {
+            samples[nextSample] = latencyNanos;
+            nextSample = (nextSample + 1) % SAMPLE_COUNT;
+            sampleCount = Math.min(sampleCount + 1, SAMPLE_COUNT);
+
+            if (++samplesSinceUpdate >= UPDATE_INTERVAL && sampleCount >= MIN_SAMPLES) {
+                final long[] sorted = Arrays.copyOf(samples, sampleCount);
+                Arrays.sort(sorted);
+                final int rank = (int) Math.ceil(percentile / 100 * sampleCount) - 1;
+                delayNanos = sorted[Math.max(0, rank)];
+                samplesSinceUpdate = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,262 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.implementation.util.ImplUtils;
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A pipeline policy that limits the number of concurrent requests sent to each host, adapting the limit to the
+ * throttling responses the host returns.
+ *
+ * <p>The limit follows an additive-increase/multiplicative-decrease scheme. Every successful response raises the limit
+ * of its host a little, up to the configured maximum. A 429 (Too Many Requests) or 503 (Service Unavailable) response
+ * halves it, at most once per {@link #DECREASE_INTERVAL}. When a throttling response carries a
+ * {@code x-ms-retry-after-ms}, {@code retry-after-ms} or {@code Retry-After} header, every request to that host waits
+ * until the indicated time has passed before being sent. Requests over the limit wait locally, in arrival order,
+ * instead of adding load to a service that is already throttling.</p>
+ *
+ * <p>The state is shared by every request that goes through the same policy instance, so an instance can be shared
+ * between pipelines that talk to the same hosts. Add this policy after {@link RetryPolicy} so each try is limited
+ * separately and retries observe the throttling of the host.</p>
+ */
+public class ThrottlingPolicy implements HttpPipelinePolicy {
+    /**
+     * The shortest time between two decreases of the concurrency limit of a host. Throttling responses to requests
+     * that were already in flight when the limit was lowered do not lower it again.
+     */
+    public static final Duration DECREASE_INTERVAL = Duration.ofSeconds(1);
+
+    private static final int DEFAULT_INITIAL_CONCURRENCY = 32;
+    private static final int DEFAULT_MAX_CONCURRENCY = 256;
+    private static final String X_MS_RETRY_AFTER_MS_HEADER = "x-ms-retry-after-ms";
+    private static final String RETRY_AFTER_MS_HEADER = "retry-after-ms";
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private final ClientLogger logger = new ClientLogger(ThrottlingPolicy.class);
+    private final Map<String, HostThrottle> hosts = new ConcurrentHashMap<>();
+    private final int initialConcurrency;
+    private final int maxConcurrency;
+
+    /**
+     * Creates a ThrottlingPolicy that starts with 32 concurrent requests per host and allows up to 256.
+     */
+    public ThrottlingPolicy() {
+        this(DEFAULT_INITIAL_CONCURRENCY, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Creates a ThrottlingPolicy.
+     *
+     * @param initialConcurrency the number of concurrent requests allowed to a host before any response is observed
+     * @param maxConcurrency the upper bound of concurrent requests allowed to a host
+     * @throws IllegalArgumentException if {@code initialConcurrency} is less than 1 or greater than
+     *     {@code maxConcurrency}
+     */
+    public ThrottlingPolicy(int initialConcurrency, int maxConcurrency) {
+        if (initialConcurrency < 1 || initialConcurrency > maxConcurrency) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(
+                "'initialConcurrency' must be at least 1 and at most 'maxConcurrency'."));
+        }
+        this.initialConcurrency = initialConcurrency;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        final HostThrottle throttle = hosts.computeIfAbsent(context.getHttpRequest().getUrl().getHost(),
+            host -> new HostThrottle(initialConcurrency, maxConcurrency));
+        final Permit permit = new Permit();
+
+        return throttle.acquire(permit)
+            .then(Mono.defer(() -> {
+                final long pause = throttle.getRemainingPauseMillis();
+                return pause > 0 ? Mono.delay(Duration.ofMillis(pause)).then() : Mono.<Void>empty();
+            }))
+            .then(Mono.defer(next::process))
+            .doOnNext(response -> throttle.onResponse(response.getStatusCode(), getRetryAfterMillis(response)))
+            .doFinally(signal -> throttle.release(permit));
+    }
+
+    /**
+     * Gets the current concurrency limit of a host, exposed for diagnostics.
+     *
+     * @param host the host name
+     * @return the current concurrency limit, or the initial limit if no request has been sent to the host yet
+     */
+    public int getConcurrencyLimit(String host) {
+        final HostThrottle throttle = hosts.get(host);
+        return throttle == null ? initialConcurrency : throttle.getLimit();
+    }
+
+    /**
+     * Reads the delay requested by the service, in milliseconds.
+     *
+     * @param response the HTTP response
+     * @return the requested delay, or -1 if the response does not request one
+     */
+    static long getRetryAfterMillis(HttpResponse response) {
+        final int code = response.getStatusCode();
+        if (code != 429 && code != 503) {
+            return -1;
+        }
+
+        String value = response.getHeaderValue(X_MS_RETRY_AFTER_MS_HEADER);
+        if (ImplUtils.isNullOrEmpty(value)) {
+            value = response.getHeaderValue(RETRY_AFTER_MS_HEADER);
+        }
+        if (!ImplUtils.isNullOrEmpty(value)) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException ignored) {
+                return -1;
+            }
+        }
+
+        value = response.getHeaderValue(RETRY_AFTER_HEADER);
+        if (ImplUtils.isNullOrEmpty(value)) {
+            return -1;
+        }
+        try {
+            // Retry-After is either a number of seconds or an HTTP date.
+            return Long.parseLong(value.trim()) * 1000;
+        } catch (NumberFormatException ignored) {
+            try {
+                final OffsetDateTime retryAt = OffsetDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(OffsetDateTime.now(), retryAt).toMillis());
+            } catch (DateTimeParseException ignoredAgain) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * The permit of a single request, tracks whether the request holds one of the host's concurrency slots.
+     */
+    private static final class Permit {
+        private MonoSink<Void> sink;
+        private boolean acquired;
+    }
+
+    /**
+     * The shared throttling state of a single host. All fields are guarded by the instance lock, sinks are completed
+     * outside of it.
+     */
+    private static final class HostThrottle {
+        private final int maxConcurrency;
+        private final Deque<Permit> waiters = new ArrayDeque<>();
+        private double limit;
+        private int inFlight;
+        private long pausedUntilMillis;
+        private long lastDecreaseMillis;
+
+        HostThrottle(int initialConcurrency, int maxConcurrency) {
+            this.limit = initialConcurrency;
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        Mono<Void> acquire(Permit permit) {
+            return Mono.create(sink -> {
+                final boolean granted;
+                synchronized (this) {
+                    if (waiters.isEmpty() && inFlight < (int) limit) {
+                        inFlight++;
+                        permit.acquired = true;
+                        granted = true;
+                    } else {
+                        permit.sink = sink;
+                        waiters.addLast(permit);
+                        granted = false;
+                    }
+                }
+
+                if (granted) {
+                    sink.success();
+                } else {
+                    sink.onCancel(() -> {
+                        synchronized (this) {
+                            waiters.remove(permit);
+                        }
+                    });
+                }
+            });
+        }
+
+        void release(Permit permit) {
+            final List<MonoSink<Void>> granted;
+            synchronized (this) {
+                if (!permit.acquired) {
+                    // Cancelled while waiting, the permit was removed from the queue by its cancel hook.
+                    waiters.remove(permit);
+                    return;
+                }
+                permit.acquired = false;
+                inFlight--;
+                granted = grantWaiters();
+            }
+            granted.forEach(MonoSink::success);
+        }
+
+        void onResponse(int statusCode, long retryAfterMillis) {
+            final List<MonoSink<Void>> granted;
+            synchronized (this) {
+                final long now = System.currentTimeMillis();
+                if (statusCode == 429 || statusCode == 503) {
+                    if (now - lastDecreaseMillis >= DECREASE_INTERVAL.toMillis()) {
+                        limit = Math.max(1, limit / 2);
+                        lastDecreaseMillis = now;
+                    }
+                    if (retryAfterMillis > 0) {
+                        pausedUntilMillis = Math.max(pausedUntilMillis, now + retryAfterMillis);
+                    }
+                    return;
+                }
+
+                // Grows by about one request per window of limit responses.
+                limit = Math.min(maxConcurrency, limit + 1 / limit);
+                granted = grantWaiters();
+            }
+            granted.forEach(MonoSink::success);
+        }
+
+        synchronized long getRemainingPauseMillis() {
+            return pausedUntilMillis - System.currentTimeMillis();
+        }
+
+        synchronized int getLimit() {
+            return (int) limit;
+        }
+
+        private List<MonoSink<Void>> grantWaiters() {
+            List<MonoSink<Void>> granted = null;
+            while (!waiters.isEmpty() && inFlight < (int) limit) {
+                final Permit waiter = waiters.pollFirst();
+                inFlight++;
+                waiter.acquired = true;
+                if (granted == null) {
+                    granted = new ArrayList<>();
+                }
+                granted.add(waiter.sink);
+            }
+            return granted == null ? Collections.emptyList() : granted;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.rest;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Retrieves the pages of a {@link PagedFluxBase} one after another, fetching up to {@code prefetch} pages ahead of the
+ * demand of the subscriber.
+ *
+ * <p>A page can only be requested once the continuation token of the page before it is known, so at most one page is
+ * in flight at a time. The request for the next page is sent as soon as a page arrives, before that page is emitted,
+ * so the service round trip overlaps the processing of the page. Pages fetched ahead of demand are buffered, there are
+ * never more than {@code prefetch} of them.</p>
+ *
+ * <p>Fetching and emitting happen in a single drain loop, so pages are emitted in order and retrievers that complete
+ * synchronously do not grow the stack.</p>
+ *
+ * @param <P> The type of the pages.
+ */
+final class PageRetriever<P extends PagedResponse<?>> {
+    private final FluxSink<P> sink;
+    private final Function<String, Mono<P>> nextPageRetriever;
+    private final int prefetch;
+    private final Queue<P> pages = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+
+    // Only accessed from the drain loop.
+    private Supplier<Mono<P>> firstPageRetriever;
+    private long fetched;
+    private boolean terminated;
+
+    // Written by the callbacks of the page in flight, read by the drain loop once fetching is false.
+    private String continuationToken;
+    private boolean pageReceived;
+    private volatile Throwable error;
+    private volatile boolean done;
+    private volatile boolean fetching;
+
+    private volatile boolean cancelled;
+    private volatile Disposable inFlight;
+
+    private PageRetriever(FluxSink<P> sink, Supplier<Mono<P>> firstPageRetriever,
+                          Function<String, Mono<P>> nextPageRetriever, int prefetch) {
+        this.sink = sink;
+        this.firstPageRetriever = firstPageRetriever;
+        this.nextPageRetriever = nextPageRetriever;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Creates a flux of pages that starts with the page returned by {@code firstPageRetriever}.
+     *
+     * @param firstPageRetriever Supplier that retrieves the first page
+     * @param nextPageRetriever Function that retrieves the next page given a continuation token
+     * @param prefetch The number of pages to fetch ahead of demand
+     * @param <P> The type of the pages
+     * @return A flux of the pages
+     */
+    static <P extends PagedResponse<?>> Flux<P> create(Supplier<Mono<P>> firstPageRetriever,
+                                                       Function<String, Mono<P>> nextPageRetriever, int prefetch) {
+        return Flux.create(sink -> new PageRetriever<>(sink, firstPageRetriever, nextPageRetriever, prefetch).start());
+    }
+
+    private void start() {
+        sink.onDispose(() -> {
+            cancelled = true;
+            final Disposable current = inFlight;
+            if (current != null) {
+                current.dispose();
+            }
+            drain();
+        });
+        sink.onRequest(n -> {
+            requested.accumulateAndGet(n, Operators::addCap);
+            drain();
+        });
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            if (cancelled) {
+                pages.clear();
+            } else if (!terminated) {
+                if (!fetching && !done && canFetch()) {
+                    fetchNext();
+                }
+
+                final boolean finished = done && !fetching;
+                P page;
+                while (!cancelled && (page = pages.poll()) != null) {
+                    sink.next(page);
+                }
+
+                if (finished && !cancelled) {
+                    terminated = true;
+                    if (error != null) {
+                        sink.error(error);
+                    } else {
+                        sink.complete();
+                    }
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private boolean canFetch() {
+        final long r = requested.get();
+        return r == Long.MAX_VALUE || fetched - r < prefetch;
+    }
+
+    private void fetchNext() {
+        final Mono<P> page;
+        if (firstPageRetriever != null) {
+            page = firstPageRetriever.get();
+            firstPageRetriever = null;
+        } else {
+            page = nextPageRetriever.apply(continuationToken);
+        }
+
+        fetched++;
+        pageReceived = false;
+        fetching = true;
+        // Page requests see the context of the subscriber, as they would if they were subscribed by an operator.
+        inFlight = page.subscriberContext(sink.currentContext())
+            .subscribe(this::onPage, this::onError, this::onComplete);
+    }
+
+    private void onPage(P page) {
+        pageReceived = true;
+        continuationToken = page.getContinuationToken();
+        pages.offer(page);
+    }
+
+    private void onError(Throwable throwable) {
+        error = throwable;
+        done = true;
+        fetching = false;
+        drain();
+    }
+
+    private void onComplete() {
+        if (!pageReceived || continuationToken == null) {
+            done = true;
+        }
+        fetching = false;
+        drain();
+    }
+}
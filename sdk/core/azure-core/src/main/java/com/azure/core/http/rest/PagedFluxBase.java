@@ -3,7 +3,7 @@
 
 package com.azure.core.http.rest;
 
-import org.reactivestreams.Publisher;
+import com.azure.core.util.logging.ClientLogger;
 import reactor.core.CoreSubscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -40,6 +40,10 @@ import java.util.function.Supplier;
  */
 public class PagedFluxBase<T, P extends PagedResponse<T>> extends Flux<T> {
 
+    private static final int DEFAULT_PREFETCH = 1;
+
+    private final ClientLogger logger = new ClientLogger(PagedFluxBase.class);
+
     private final Supplier<Mono<P>> firstPageRetriever;
 
     private final Function<String, Mono<P>> nextPageRetriever;
@@ -93,7 +97,7 @@ public class PagedFluxBase<T, P extends PagedResponse<T>> extends Flux<T> {
      * @return A {@link PagedFluxBase} starting from the first page
      */
     public Flux<P> byPage() {
-        return firstPageRetriever.get().flatMapMany(this::extractAndFetchPage);
+        return byPage(DEFAULT_PREFETCH);
     }
 
     /**
@@ -107,62 +111,61 @@ public class PagedFluxBase<T, P extends PagedResponse<T>> extends Flux<T> {
      * @return A {@link PagedFluxBase} starting from the page associated with the continuation token
      */
     public Flux<P> byPage(String continuationToken) {
-        return nextPageRetriever.apply(continuationToken).flatMapMany(this::extractAndFetchPage);
+        return byPage(continuationToken, DEFAULT_PREFETCH);
     }
 
     /**
-     * Subscribe to consume all items of type {@code T} in the sequence respectively.
-     * This is recommended for most common scenarios. This will seamlessly fetch next
-     * page when required and provide with a {@link Flux} of items.
+     * Creates a flux of {@link PagedResponse} starting from the first page, fetching up to {@code prefetch} pages
+     * ahead of the demand of the subscriber.
      *
-     * <p><strong>Code sample</strong></p>
-     * {@codesnippet com.azure.core.http.rest.pagedfluxbase.subscribe}
+     * <p>The service can only be asked for a page once the page before it has arrived. Prefetching sends the request
+     * for the next page while the subscriber is still processing the current one, so a listing is bounded by the time
+     * taken to process the pages rather than by one round trip per page. At most {@code prefetch} pages are held in
+     * memory ahead of the subscriber. {@link #byPage()} prefetches a single page.</p>
      *
-     * @param coreSubscriber The subscriber for this {@link PagedFluxBase}
+     * @param prefetch The number of pages to fetch ahead of demand, 0 to fetch a page only when it is requested
+     * @return A {@link PagedFluxBase} starting from the first page
+     * @throws IllegalArgumentException if {@code prefetch} is negative
      */
-    @Override
-    public void subscribe(CoreSubscriber<? super T> coreSubscriber) {
-        byT(null).subscribe(coreSubscriber);
+    public Flux<P> byPage(int prefetch) {
+        return PageRetriever.create(firstPageRetriever, nextPageRetriever, validatePrefetch(prefetch));
     }
 
     /**
-     * Helper method to return the flux of items starting from the page associated with the {@code continuationToken}
+     * Creates a flux of {@link PagedResponse} starting from the next page associated with the given continuation
+     * token, fetching up to {@code prefetch} pages ahead of the demand of the subscriber. To start from first page,
+     * use {@link #byPage(int)} instead.
      *
-     * @param continuationToken The continuation token that is used to fetch the next page
-     * @return A {@link Flux} of items in this page
+     * @param continuationToken The continuation token used to fetch the next page
+     * @param prefetch The number of pages to fetch ahead of demand, 0 to fetch a page only when it is requested
+     * @return A {@link PagedFluxBase} starting from the page associated with the continuation token
+     * @throws IllegalArgumentException if {@code prefetch} is negative
      */
-    private Flux<T> byT(String continuationToken) {
-        if (continuationToken == null) {
-            return firstPageRetriever.get().flatMapMany(this::extractAndFetchT);
-        }
-        return nextPageRetriever.apply(continuationToken).flatMapMany(this::extractAndFetchT);
+    public Flux<P> byPage(String continuationToken, int prefetch) {
+        return PageRetriever.create(() -> nextPageRetriever.apply(continuationToken), nextPageRetriever,
+            validatePrefetch(prefetch));
     }
 
     /**
-     * Helper method to string together a flux of items transparently extracting items from
-     * next pages, if available.
-     * @param page Starting page
-     * @return A {@link Flux} of items
+     * Subscribe to consume all items of type {@code T} in the sequence respectively.
+     * This is recommended for most common scenarios. This will seamlessly fetch next
+     * page when required and provide with a {@link Flux} of items.
+     *
+     * <p><strong>Code sample</strong></p>
+     * {@codesnippet com.azure.core.http.rest.pagedfluxbase.subscribe}
+     *
+     * @param coreSubscriber The subscriber for this {@link PagedFluxBase}
      */
-    private Publisher<T> extractAndFetchT(PagedResponse<T> page) {
-        String nextPageLink = page.getContinuationToken();
-        if (nextPageLink == null) {
-            return Flux.fromIterable(page.getItems());
-        }
-        return Flux.fromIterable(page.getItems()).concatWith(byT(nextPageLink));
+    @Override
+    public void subscribe(CoreSubscriber<? super T> coreSubscriber) {
+        // Request one page at a time, the retriever fetches the next one while the items of the current are consumed.
+        byPage().concatMapIterable(Page::getItems, 1).subscribe(coreSubscriber);
     }
 
-    /**
-     * Helper method to string together a flux of {@link PagedResponse} transparently
-     * fetching next pages, if available
-     * @param page Starting page
-     * @return A {@link Flux} of {@link PagedResponse}
-     */
-    private Publisher<? extends P> extractAndFetchPage(P page) {
-        String nextPageLink = page.getContinuationToken();
-        if (nextPageLink == null) {
-            return Flux.just(page);
+    private int validatePrefetch(int prefetch) {
+        if (prefetch < 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'prefetch' cannot be negative."));
         }
-        return Flux.just(page).concatWith(byPage(page.getContinuationToken()));
+        return prefetch;
     }
 }
@@ -82,4 +82,57 @@ public class PagedIterableBase<T, P extends PagedResponse<T>> extends IterableSt
     public Iterable<P> iterableByPage(String continuationToken) {
         return pagedFluxBase.byPage(continuationToken).toIterable();
     }
+
+    /**
+     * Retrieve the {@link Stream}, one page at a time, fetching up to {@code prefetch} pages ahead of the page being
+     * consumed.
+     *
+     * @param prefetch The number of pages to fetch ahead, 0 to fetch a page only when it is needed
+     * @return {@link Stream} of a Response that extends {@link PagedResponse}
+     * @throws IllegalArgumentException if {@code prefetch} is negative
+     * @see PagedFluxBase#byPage(int)
+     */
+    public Stream<P> streamByPage(int prefetch) {
+        return pagedFluxBase.byPage(prefetch).toStream(1);
+    }
+
+    /**
+     * Retrieve the {@link Stream}, one page at a time, starting from the next page associated with the given
+     * continuation token and fetching up to {@code prefetch} pages ahead of the page being consumed.
+     *
+     * @param continuationToken The continuation token used to fetch the next page
+     * @param prefetch The number of pages to fetch ahead, 0 to fetch a page only when it is needed
+     * @return {@link Stream} of a Response that extends {@link PagedResponse}, starting from the page associated
+     * with the continuation token
+     * @throws IllegalArgumentException if {@code prefetch} is negative
+     */
+    public Stream<P> streamByPage(String continuationToken, int prefetch) {
+        return pagedFluxBase.byPage(continuationToken, prefetch).toStream(1);
+    }
+
+    /**
+     * Provides {@link Iterable} API for {@link PagedResponse}, fetching up to {@code prefetch} pages ahead of the page
+     * being consumed.
+     *
+     * @param prefetch The number of pages to fetch ahead, 0 to fetch a page only when it is needed
+     * @return {@link Iterable} interface
+     * @throws IllegalArgumentException if {@code prefetch} is negative
+     * @see PagedFluxBase#byPage(int)
+     */
+    public Iterable<P> iterableByPage(int prefetch) {
+        return pagedFluxBase.byPage(prefetch).toIterable(1);
+    }
+
+    /**
+     * Provides {@link Iterable} API for {@link PagedResponse}, starting from the next page associated with the given
+     * continuation token and fetching up to {@code prefetch} pages ahead of the page being consumed.
+     *
+     * @param continuationToken The continuation token used to fetch the next page
+     * @param prefetch The number of pages to fetch ahead, 0 to fetch a page only when it is needed
+     * @return {@link Iterable} interface
+     * @throws IllegalArgumentException if {@code prefetch} is negative
+     */
+    public Iterable<P> iterableByPage(String continuationToken, int prefetch) {
+        return pagedFluxBase.byPage(continuationToken, prefetch).toIterable(1);
+    }
 }
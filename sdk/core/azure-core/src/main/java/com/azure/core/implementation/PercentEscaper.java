@@ -3,10 +3,6 @@
 
 package com.azure.core.implementation;
 
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * An escaper that escapes URL data through percent encoding.
  */
@@ -49,7 +45,8 @@ final class PercentEscaper {
 
     private final boolean usePlusForSpace;
 
-    private final List<Character> safeChars = new ArrayList<>();
+    // ASCII characters that are emitted as-is, used to skip escaping entirely for already URL-safe strings.
+    private final boolean[] safeAscii = new boolean[128];
 
     /**
      * Creates a percent escaper.
@@ -57,9 +54,23 @@ final class PercentEscaper {
      * @param usePlusForSpace escape ' ' as '+' if true, "%20" otherwise
      */
     PercentEscaper(String safeChars, boolean usePlusForSpace) {
+        for (char c = 'a'; c <= 'z'; c++) {
+            safeAscii[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            safeAscii[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            safeAscii[c] = true;
+        }
         for (int i = 0; i != safeChars.length(); i++) {
-            this.safeChars.add(safeChars.charAt(i));
+            char c = safeChars.charAt(i);
+            if (c < safeAscii.length) {
+                safeAscii[c] = true;
+            }
         }
+        // Spaces are always escaped, as '+' or "%20".
+        safeAscii[' '] = false;
         this.usePlusForSpace = usePlusForSpace;
     }
 
@@ -71,36 +82,66 @@ final class PercentEscaper {
     }
 
     /**
-     * Escapes a string with the current settings on the escaper.
+     * Escapes a string with the current settings on the escaper. Characters outside of ASCII are escaped as the
+     * percent encoded bytes of their UTF-8 encoding.
      * @param original the origin string to escape
      * @return the escaped string
      */
     public String escape(String original) {
-        StringBuilder output = new StringBuilder();
-        for (int i = 0; i != utf16ToAscii(original).length(); i++) {
+        final int length = original.length();
+        int safePrefix = 0;
+        while (safePrefix < length && isSafe(original.charAt(safePrefix))) {
+            safePrefix++;
+        }
+        if (safePrefix == length) {
+            return original;
+        }
+
+        // Sized for a few escaped characters, the safe prefix is copied in bulk.
+        StringBuilder output = new StringBuilder(length + 16);
+        output.append(original, 0, safePrefix);
+        for (int i = safePrefix; i < length; i++) {
             char c = original.charAt(i);
-            if (c == ' ') {
-                output.append(usePlusForSpace ? "+" : HEX[' ']);
-            } else if (c >= 'a' && c <= 'z') {
-                output.append(c);
-            } else if (c >= 'A' && c <= 'Z') {
+            if (isSafe(c)) {
                 output.append(c);
-            } else if (c >= '0' && c <= '9') {
-                output.append(c);
-            } else if (safeChars.contains(c)) {
-                output.append(c);
-            } else {
+            } else if (c == ' ') {
+                output.append(usePlusForSpace ? "+" : HEX[' ']);
+            } else if (c < 0x80) {
                 output.append(HEX[c]);
+            } else if (c < 0x800) {
+                output.append(HEX[0xc0 | (c >> 6)]).append(HEX[0x80 | (c & 0x3f)]);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                && Character.isLowSurrogate(original.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, original.charAt(++i));
+                output.append(HEX[0xf0 | (codePoint >> 18)])
+                    .append(HEX[0x80 | ((codePoint >> 12) & 0x3f)])
+                    .append(HEX[0x80 | ((codePoint >> 6) & 0x3f)])
+                    .append(HEX[0x80 | (codePoint & 0x3f)]);
+            } else {
+                // Unpaired surrogates are encoded as such, like the rest of the basic multilingual plane.
+                output.append(HEX[0xe0 | (c >> 12)])
+                    .append(HEX[0x80 | ((c >> 6) & 0x3f)])
+                    .append(HEX[0x80 | (c & 0x3f)]);
             }
         }
         return output.toString();
     }
 
-    private String utf16ToAscii(String input) {
-        byte[] ascii = new byte[input.length()];
-        for (int i = 0; i < input.length(); i++) {
-            ascii[i] = (byte) input.charAt(i);
+    /**
+     * Checks whether every character in the string would be emitted unchanged by {@link #escape(String)}.
+     * @param original the string to check
+     * @return true if the string does not need escaping
+     */
+    boolean isSafe(String original) {
+        for (int i = 0; i < original.length(); i++) {
+            if (!isSafe(original.charAt(i))) {
+                return false;
+            }
         }
-        return new String(ascii, StandardCharsets.UTF_8);
+        return true;
+    }
+
+    private boolean isSafe(char c) {
+        return c < safeAscii.length && safeAscii[c];
     }
 }
@@ -230,17 +230,12 @@ public class RestProxy implements InvocationHandler {
         // This definitely happens in paging scenarios. In that case, just use the full URL and
         // ignore the Host annotation.
         final String path = methodParser.setPath(args);
-        final UrlBuilder pathUrlBuilder = UrlBuilder.parse(path);
-        if (pathUrlBuilder.getScheme() != null) {
+        // Only a path containing a scheme separator can be a full URL, skip parsing the others.
+        final UrlBuilder pathUrlBuilder = path != null && path.contains("://") ? UrlBuilder.parse(path) : null;
+        if (pathUrlBuilder != null && pathUrlBuilder.getScheme() != null) {
             urlBuilder = pathUrlBuilder;
         } else {
-            urlBuilder = new UrlBuilder();
-
-            final String scheme = methodParser.setScheme(args);
-            urlBuilder.setScheme(scheme);
-
-            final String host = methodParser.setHost(args);
-            urlBuilder.setHost(host);
+            urlBuilder = methodParser.createBaseUrlBuilder(args);
 
             // Set the path after host, concatenating the path
             // segment in the host.
@@ -320,8 +315,7 @@ public class RestProxy implements InvocationHandler {
             }
 
             if (isJson) {
-                final String bodyContentString = serializer.serialize(bodyContentObject, SerializerEncoding.JSON);
-                request.setBody(bodyContentString);
+                request.setBody(serializer.serializeToBytes(bodyContentObject, SerializerEncoding.JSON));
             } else if (FluxUtil.isFluxByteBuffer(methodParser.getBodyJavaType())) {
                 // Content-Length or Transfer-Encoding: chunked must be provided by a user-specified header when a
                 // Flowable<byte[]> is given for the body.
@@ -337,9 +331,8 @@ public class RestProxy implements InvocationHandler {
             } else if (bodyContentObject instanceof ByteBuffer) {
                 request.setBody(Flux.just((ByteBuffer) bodyContentObject));
             } else {
-                final String bodyContentString =
-                    serializer.serialize(bodyContentObject, SerializerEncoding.fromHeaders(request.getHeaders()));
-                request.setBody(bodyContentString);
+                request.setBody(serializer.serializeToBytes(bodyContentObject,
+                    SerializerEncoding.fromHeaders(request.getHeaders())));
             }
         }
 
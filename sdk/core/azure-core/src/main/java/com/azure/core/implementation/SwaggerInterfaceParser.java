@@ -20,6 +20,7 @@ import java.util.Map;
 public class SwaggerInterfaceParser {
     private final String host;
     private final String serviceName;
+    private final SerializerAdapter serializer;
     private final Map<Method, SwaggerMethodParser> methodParsers = new HashMap<>();
 
     /**
@@ -40,6 +41,7 @@ public class SwaggerInterfaceParser {
      * @param host The host of URLs that this Swagger interface targets.
      */
     public SwaggerInterfaceParser(Class<?> swaggerInterface, SerializerAdapter serializer, String host) {
+        this.serializer = serializer;
         if (!ImplUtils.isNullOrEmpty(host)) {
             this.host = host;
         } else {
@@ -69,7 +71,7 @@ public class SwaggerInterfaceParser {
     public SwaggerMethodParser getMethodParser(Method swaggerMethod) {
         SwaggerMethodParser result = methodParsers.get(swaggerMethod);
         if (result == null) {
-            result = new SwaggerMethodParser(swaggerMethod, getHost());
+            result = new SwaggerMethodParser(swaggerMethod, getHost(), serializer);
             methodParsers.put(swaggerMethod, result);
         }
         return result;
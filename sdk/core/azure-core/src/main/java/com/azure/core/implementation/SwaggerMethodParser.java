@@ -29,6 +29,7 @@ import com.azure.core.http.rest.Page;
 import com.azure.core.http.rest.Response;
 import com.azure.core.implementation.exception.MissingRequiredAnnotationException;
 import com.azure.core.implementation.http.ContentType;
+import com.azure.core.implementation.http.UrlBuilder;
 import com.azure.core.implementation.serializer.HttpResponseDecodeData;
 import com.azure.core.implementation.serializer.SerializerAdapter;
 import com.azure.core.implementation.util.ImplUtils;
@@ -63,6 +64,12 @@ public class SwaggerMethodParser implements HttpResponseDecodeData {
     private final List<Substitution> formSubstitutions = new ArrayList<>();
     private final List<Substitution> headerSubstitutions = new ArrayList<>();
     private final HttpHeaders headers = new HttpHeaders();
+    private final UrlTemplate hostTemplate;
+    private final UrlTemplate pathTemplate;
+    private final String constantScheme;
+    private final String constantHost;
+    private final UrlBuilder constantBaseUrl;
+    private final List<HttpHeader> constantHeaders;
     private Integer bodyContentMethodParameterIndex;
     private String bodyContentType;
     private Type bodyJavaType;
@@ -81,7 +88,20 @@ public class SwaggerMethodParser implements HttpResponseDecodeData {
      *     request, it must be processed through the possible host substitutions.
      */
     SwaggerMethodParser(Method swaggerMethod, String rawHost) {
-        this.serializer = JacksonAdapter.createDefaultSerializerAdapter();
+        this(swaggerMethod, rawHost, null);
+    }
+
+    /**
+     * Create a SwaggerMethodParser object using the provided fully qualified method name.
+     *
+     * @param swaggerMethod the Swagger method to parse.
+     * @param rawHost the raw host value from the @Host annotation. Before this can be used as the host value in an HTTP
+     *     request, it must be processed through the possible host substitutions.
+     * @param serializer the serializer used to serialize non-String header, query and path values, or null to use the
+     *     default serializer.
+     */
+    SwaggerMethodParser(Method swaggerMethod, String rawHost, SerializerAdapter serializer) {
+        this.serializer = serializer == null ? JacksonAdapter.createDefaultSerializerAdapter() : serializer;
         this.rawHost = rawHost;
 
         final Class<?> swaggerInterface = swaggerMethod.getDeclaringClass();
@@ -186,6 +206,26 @@ public class SwaggerMethodParser implements HttpResponseDecodeData {
                 }
             }
         }
+
+        // Compile everything that does not depend on the method arguments once, so building a request only has to
+        // fill in the placeholders.
+        hostTemplate = UrlTemplate.compile(rawHost, hostSubstitutions);
+        pathTemplate = UrlTemplate.compile(relativePath, pathSubstitutions);
+        if (hostTemplate.isConstant() && rawHost != null) {
+            constantScheme = parseScheme(rawHost);
+            constantHost = parseHost(rawHost);
+            constantBaseUrl = new UrlBuilder().setScheme(constantScheme).setHost(constantHost);
+        } else {
+            constantScheme = null;
+            constantHost = null;
+            constantBaseUrl = null;
+        }
+
+        final List<HttpHeader> headerList = new ArrayList<>(this.headers.getSize());
+        for (HttpHeader header : this.headers) {
+            headerList.add(header);
+        }
+        constantHeaders = Collections.unmodifiableList(headerList);
     }
 
     /**
@@ -225,10 +265,11 @@ public class SwaggerMethodParser implements HttpResponseDecodeData {
      * @return the final host to use for HTTP requests for this Swagger method.
      */
     public String setScheme(Object[] swaggerMethodArguments) {
-        final String substitutedHost =
-            applySubstitutions(rawHost, hostSubstitutions, swaggerMethodArguments, UrlEscapers.PATH_ESCAPER);
-        final String[] substitutedHostParts = substitutedHost.split("://");
-        return substitutedHostParts.length < 1 ? null : substitutedHostParts[0];
+        if (constantScheme != null) {
+            return constantScheme;
+        }
+
+        return parseScheme(applySubstitutions(hostTemplate, swaggerMethodArguments, UrlEscapers.PATH_ESCAPER));
     }
 
     /**
@@ -238,10 +279,28 @@ public class SwaggerMethodParser implements HttpResponseDecodeData {
      * @return the final host to use for HTTP requests for this Swagger method
      */
     public String setHost(Object[] swaggerMethodArguments) {
-        final String substitutedHost =
-            applySubstitutions(rawHost, hostSubstitutions, swaggerMethodArguments, UrlEscapers.PATH_ESCAPER);
-        final String[] substitutedHostParts = substitutedHost.split("://");
-        return substitutedHostParts.length < 2 ? substitutedHost : substitutedHost.split("://")[1];
+        if (constantHost != null) {
+            return constantHost;
+        }
+
+        return parseHost(applySubstitutions(hostTemplate, swaggerMethodArguments, UrlEscapers.PATH_ESCAPER));
+    }
+
+    /**
+     * Creates a UrlBuilder with the scheme and host to use for HTTP requests for this Swagger method. When the host has
+     * no substitutions, it is parsed once and each request gets a copy of the parsed UrlBuilder.
+     *
+     * @param swaggerMethodArguments the arguments to use for scheme/host substitutions
+     * @return a new UrlBuilder with the scheme and host set
+     */
+    public UrlBuilder createBaseUrlBuilder(Object[] swaggerMethodArguments) {
+        if (constantBaseUrl != null) {
+            return constantBaseUrl.copy();
+        }
+
+        return new UrlBuilder()
+            .setScheme(setScheme(swaggerMethodArguments))
+            .setHost(setHost(swaggerMethodArguments));
     }
 
     /**
@@ -251,7 +310,7 @@ public class SwaggerMethodParser implements HttpResponseDecodeData {
      * @return the path value with its placeholders replaced by the matching substitutions
      */
     public String setPath(Object[] methodArguments) {
-        return applySubstitutions(relativePath, pathSubstitutions, methodArguments, UrlEscapers.PATH_ESCAPER);
+        return applySubstitutions(pathTemplate, methodArguments, UrlEscapers.PATH_ESCAPER);
     }
 
     /**
@@ -306,6 +365,10 @@ public class SwaggerMethodParser implements HttpResponseDecodeData {
      * @return An Iterable with the headers.
      */
     public Iterable<HttpHeader> setHeaders(Object[] swaggerMethodArguments) {
+        if (headerSubstitutions.isEmpty()) {
+            return constantHeaders;
+        }
+
         final HttpHeaders result = new HttpHeaders(headers);
 
         if (headerSubstitutions != null) {
@@ -537,33 +600,57 @@ public class SwaggerMethodParser implements HttpResponseDecodeData {
         return result;
     }
 
-    private String applySubstitutions(String originalValue, Iterable<Substitution> substitutions,
-                                      Object[] methodArguments, PercentEscaper escaper) {
-        String result = originalValue;
-
-        if (methodArguments != null) {
-            for (Substitution substitution : substitutions) {
-                final int substitutionParameterIndex = substitution.getMethodParameterIndex();
-                if (0 <= substitutionParameterIndex && substitutionParameterIndex < methodArguments.length) {
-                    final Object methodArgument = methodArguments[substitutionParameterIndex];
-
-                    String substitutionValue = serialize(methodArgument);
-                    if (substitutionValue != null
-                        && !substitutionValue.isEmpty()
-                        && substitution.shouldEncode() && escaper != null) {
-                        substitutionValue = escaper.escape(substitutionValue);
-                    }
-                    // if a parameter is null, we treat it as empty string. This is
-                    // assuming no {...} will be allowed otherwise in a path template
-                    if (substitutionValue == null) {
-                        substitutionValue = "";
-                    }
-                    result = result.replace("{" + substitution.getUrlParameterName() + "}", substitutionValue);
+    private String applySubstitutions(UrlTemplate template, Object[] methodArguments, PercentEscaper escaper) {
+        if (methodArguments == null || template.isConstant()) {
+            return template.getTemplate();
+        }
+
+        final StringBuilder result = new StringBuilder(template.getTemplate().length() + 32);
+        final int placeholderCount = template.getPlaceholderCount();
+        for (int i = 0; i < placeholderCount; i++) {
+            result.append(template.getLiteral(i));
+
+            final Substitution substitution = template.getSubstitution(i);
+            final int substitutionParameterIndex = substitution.getMethodParameterIndex();
+            if (0 <= substitutionParameterIndex && substitutionParameterIndex < methodArguments.length) {
+                final Object methodArgument = methodArguments[substitutionParameterIndex];
+
+                String substitutionValue = serialize(methodArgument);
+                if (substitutionValue != null
+                    && !substitutionValue.isEmpty()
+                    && substitution.shouldEncode() && escaper != null) {
+                    substitutionValue = escaper.escape(substitutionValue);
+                }
+                // if a parameter is null, we treat it as empty string. This is
+                // assuming no {...} will be allowed otherwise in a path template
+                if (substitutionValue != null) {
+                    result.append(substitutionValue);
                 }
+            } else {
+                result.append('{').append(substitution.getUrlParameterName()).append('}');
             }
         }
+        result.append(template.getLiteral(placeholderCount));
 
-        return result;
+        return result.toString();
+    }
+
+    private static String parseScheme(String host) {
+        final int separator = host.indexOf("://");
+        return separator < 0 ? host : host.substring(0, separator);
+    }
+
+    private static String parseHost(String host) {
+        final int separator = host.indexOf("://");
+        if (separator < 0) {
+            return host;
+        }
+
+        final int start = separator + 3;
+        final int end = host.indexOf("://", start);
+        final String result = host.substring(start, end < 0 ? host.length() : end);
+        // Match String.split, which drops a trailing empty segment: "https://" is returned unchanged.
+        return result.isEmpty() && end < 0 ? host : result;
     }
 
     private Map<Integer, UnexpectedExceptionInformation> processUnexpectedResponseExceptionTypes() {
@@ -0,0 +1,117 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A pre-split form of a host or path template such as {@code "{accountName}.blob.core.windows.net"} or
+ * {@code "{containerName}/{blob}"}. The template is split once into literal fragments and the substitutions that
+ * fill the placeholders between them, so a request URL can be built in a single pass without searching the template
+ * for every substitution.
+ */
+final class UrlTemplate {
+    private final String template;
+    private final String[] literals;
+    private final Substitution[] substitutions;
+
+    private UrlTemplate(String template, String[] literals, Substitution[] substitutions) {
+        this.template = template;
+        this.literals = literals;
+        this.substitutions = substitutions;
+    }
+
+    /**
+     * Splits the template into literal fragments and placeholders. Placeholders without a matching substitution are
+     * kept as literal text. If several substitutions share a name, the first one declared is used.
+     *
+     * @param template the raw template, may be null
+     * @param substitutions the substitutions available to the template
+     * @return the compiled template
+     */
+    static UrlTemplate compile(String template, List<Substitution> substitutions) {
+        final List<String> literals = new ArrayList<>();
+        final List<Substitution> placeholders = new ArrayList<>();
+
+        if (template != null && !substitutions.isEmpty()) {
+            final StringBuilder literal = new StringBuilder();
+            int index = 0;
+            while (index < template.length()) {
+                final int open = template.indexOf('{', index);
+                final int close = open < 0 ? -1 : template.indexOf('}', open + 1);
+                if (close < 0) {
+                    break;
+                }
+
+                final Substitution substitution = find(substitutions, template.substring(open + 1, close));
+                if (substitution == null) {
+                    // Not one of ours, keep the brace and continue scanning right after it.
+                    literal.append(template, index, open + 1);
+                    index = open + 1;
+                } else {
+                    literal.append(template, index, open);
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    placeholders.add(substitution);
+                    index = close + 1;
+                }
+            }
+            literal.append(template, index, template.length());
+            literals.add(literal.toString());
+        } else {
+            literals.add(template);
+        }
+
+        return new UrlTemplate(template, literals.toArray(new String[0]),
+            placeholders.toArray(new Substitution[0]));
+    }
+
+    private static Substitution find(List<Substitution> substitutions, String name) {
+        for (Substitution substitution : substitutions) {
+            if (substitution.getUrlParameterName().equals(name)) {
+                return substitution;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the template this was compiled from
+     */
+    String getTemplate() {
+        return template;
+    }
+
+    /**
+     * @return true if the template contains no placeholders and always expands to itself
+     */
+    boolean isConstant() {
+        return substitutions.length == 0;
+    }
+
+    /**
+     * @return the number of placeholders in the template
+     */
+    int getPlaceholderCount() {
+        return substitutions.length;
+    }
+
+    /**
+     * @param index the placeholder index
+     * @return the literal text preceding the placeholder at {@code index}, or the trailing text when {@code index}
+     *     equals {@link #getPlaceholderCount()}
+     */
+    String getLiteral(int index) {
+        return literals[index];
+    }
+
+    /**
+     * @param index the placeholder index
+     * @return the substitution that fills the placeholder at {@code index}
+     */
+    Substitution getSubstitution(int index) {
+        return substitutions[index];
+    }
+}
@@ -3,8 +3,6 @@
 
 package com.azure.core.implementation.http;
 
-import com.azure.core.util.logging.ClientLogger;
-
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.LinkedHashMap;
@@ -14,8 +12,6 @@ import java.util.Map;
  * A builder class that is used to create URLs.
  */
 public final class UrlBuilder {
-    private final ClientLogger logger = new ClientLogger(UrlBuilder.class);
-
     private String scheme;
     private String host;
     private String port;
@@ -171,17 +167,36 @@ public final class UrlBuilder {
             return "";
         }
 
-        StringBuilder queryBuilder = new StringBuilder("?");
+        StringBuilder queryBuilder = new StringBuilder();
+        appendQueryString(queryBuilder);
+        return queryBuilder.toString();
+    }
+
+    private void appendQueryString(StringBuilder builder) {
+        char separator = '?';
         for (Map.Entry<String, String> entry : query.entrySet()) {
-            if (queryBuilder.length() > 1) {
-                queryBuilder.append("&");
-            }
-            queryBuilder.append(entry.getKey());
-            queryBuilder.append("=");
-            queryBuilder.append(entry.getValue());
+            builder.append(separator);
+            builder.append(entry.getKey());
+            builder.append('=');
+            builder.append(entry.getValue());
+            separator = '&';
         }
+    }
 
-        return queryBuilder.toString();
+    /**
+     * Creates a copy of this UrlBuilder, which can be modified without modifying this UrlBuilder. Copying a parsed
+     * UrlBuilder is cheaper than parsing the same URL again.
+     *
+     * @return A copy of this UrlBuilder.
+     */
+    public UrlBuilder copy() {
+        final UrlBuilder copy = new UrlBuilder();
+        copy.scheme = scheme;
+        copy.host = host;
+        copy.port = port;
+        copy.path = path;
+        copy.query.putAll(query);
+        return copy;
     }
 
     private UrlBuilder with(String text, UrlTokenizerState startState) {
@@ -253,7 +268,7 @@ public final class UrlBuilder {
      * @return The string representation of the URL that is being built.
      */
     public String toString() {
-        final StringBuilder result = new StringBuilder();
+        final StringBuilder result = new StringBuilder(estimateLength());
 
         final boolean isAbsolutePath = path != null && (path.startsWith("http://") || path.startsWith("https://"));
         if (!isAbsolutePath) {
@@ -282,11 +297,24 @@ public final class UrlBuilder {
             result.append(path);
         }
 
-        result.append(queryString());
+        appendQueryString(result);
 
         return result.toString();
     }
 
+    private int estimateLength() {
+        // Room for "://", ':' and '/' separators, so that the builder does not grow.
+        int length = 8 + lengthOf(scheme) + lengthOf(host) + lengthOf(port) + lengthOf(path);
+        for (Map.Entry<String, String> entry : query.entrySet()) {
+            length += 2 + lengthOf(entry.getKey()) + lengthOf(entry.getValue());
+        }
+        return length;
+    }
+
+    private static int lengthOf(String value) {
+        return value == null ? 0 : value.length();
+    }
+
     /**
      * Parse a UrlBuilder from the provided URL string.
      *
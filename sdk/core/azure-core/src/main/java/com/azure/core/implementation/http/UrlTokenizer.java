@@ -40,12 +40,8 @@ class UrlTokenizer {
         }
     }
 
-    private String peekCharacters(int charactersToPeek) {
-        int endIndex = currentIndex + charactersToPeek;
-        if (textLength < endIndex) {
-            endIndex = textLength;
-        }
-        return text.substring(currentIndex, endIndex);
+    private boolean startsWithSchemeSeparator() {
+        return text.startsWith("://", currentIndex);
     }
 
     UrlToken current() {
@@ -68,12 +64,12 @@ class UrlTokenizer {
                     break;
 
                 case SCHEME_OR_HOST:
-                    final String schemeOrHost = readUntilCharacter(':', '/', '?');
+                    final String schemeOrHost = readUntilCharacter(":/?");
                     if (!hasCurrentCharacter()) {
                         currentToken = UrlToken.host(schemeOrHost);
                         state = UrlTokenizerState.DONE;
                     } else if (currentCharacter() == ':') {
-                        if (peekCharacters(3).equals("://")) {
+                        if (startsWithSchemeSeparator()) {
                             currentToken = UrlToken.scheme(schemeOrHost);
                             state = UrlTokenizerState.HOST;
                         } else {
@@ -90,11 +86,11 @@ class UrlTokenizer {
                     break;
 
                 case HOST:
-                    if (peekCharacters(3).equals("://")) {
+                    if (startsWithSchemeSeparator()) {
                         nextCharacter(3);
                     }
 
-                    final String host = readUntilCharacter(':', '/', '?');
+                    final String host = readUntilCharacter(":/?");
                     currentToken = UrlToken.host(host);
 
                     if (!hasCurrentCharacter()) {
@@ -113,7 +109,7 @@ class UrlTokenizer {
                         nextCharacter();
                     }
 
-                    final String port = readUntilCharacter('/', '?');
+                    final String port = readUntilCharacter("/?");
                     currentToken = UrlToken.port(port);
 
                     if (!hasCurrentCharacter()) {
@@ -126,7 +122,7 @@ class UrlTokenizer {
                     break;
 
                 case PATH:
-                    final String path = readUntilCharacter('?');
+                    final String path = readUntilCharacter("?");
                     currentToken = UrlToken.path(path);
 
                     if (!hasCurrentCharacter()) {
@@ -155,52 +151,19 @@ class UrlTokenizer {
     }
 
     private String readUntilNotLetterOrDigit() {
-        String result = "";
-
-        if (hasCurrentCharacter()) {
-            final StringBuilder builder = new StringBuilder();
-            while (hasCurrentCharacter()) {
-                final char currentCharacter = currentCharacter();
-                if (!Character.isLetterOrDigit(currentCharacter)) {
-                    break;
-                } else {
-                    builder.append(currentCharacter);
-                    nextCharacter();
-                }
-            }
-            result = builder.toString();
+        final int start = currentIndex;
+        while (hasCurrentCharacter() && Character.isLetterOrDigit(currentCharacter())) {
+            currentIndex++;
         }
-
-        return result;
+        return text.substring(start, currentIndex);
     }
 
-    private String readUntilCharacter(char... terminatingCharacters) {
-        String result = "";
-
-        if (hasCurrentCharacter()) {
-            final StringBuilder builder = new StringBuilder();
-            boolean foundTerminator = false;
-            while (hasCurrentCharacter()) {
-                final char currentCharacter = currentCharacter();
-
-                for (final char terminatingCharacter : terminatingCharacters) {
-                    if (currentCharacter == terminatingCharacter) {
-                        foundTerminator = true;
-                        break;
-                    }
-                }
-
-                if (foundTerminator) {
-                    break;
-                } else {
-                    builder.append(currentCharacter);
-                    nextCharacter();
-                }
-            }
-            result = builder.toString();
+    private String readUntilCharacter(String terminatingCharacters) {
+        final int start = currentIndex;
+        while (hasCurrentCharacter() && terminatingCharacters.indexOf(currentCharacter()) < 0) {
+            currentIndex++;
         }
-
-        return result;
+        return text.substring(start, currentIndex);
     }
 
     private String readRemaining() {
@@ -8,6 +8,7 @@ import com.azure.core.implementation.CollectionFormat;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -24,6 +25,22 @@ public interface SerializerAdapter {
      */
     String serialize(Object object, SerializerEncoding encoding) throws IOException;
 
+    /**
+     * Serializes an object into UTF-8 encoded bytes.
+     *
+     * The default implementation serializes into a string first and then encodes it, implementations should
+     * override this to write directly into a byte array without the intermediate string.
+     *
+     * @param object the object to serialize
+     * @param encoding the encoding to use for serialization
+     * @return the serialized bytes. Null if the object to serialize is null
+     * @throws IOException exception from serialization
+     */
+    default byte[] serializeToBytes(Object object, SerializerEncoding encoding) throws IOException {
+        final String serialized = serialize(object, encoding);
+        return serialized == null ? null : serialized.getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * Serializes an object into a raw string. The leading and trailing quotes will be trimmed.
      *
@@ -55,6 +72,23 @@ public interface SerializerAdapter {
      */
     <U> U deserialize(String value, Type type, SerializerEncoding encoding) throws IOException;
 
+    /**
+     * Deserializes a byte array into a {@link U} object.
+     *
+     * The default implementation decodes the bytes as UTF-8 into a string first, implementations should override
+     * this to parse the bytes directly.
+     *
+     * @param value the byte array to deserialize
+     * @param <U> the type of the deserialized object
+     * @param type the type to deserialize
+     * @param encoding the encoding used in the serialized value
+     * @return the deserialized object
+     * @throws IOException exception from deserialization
+     */
+    default <U> U deserialize(byte[] value, Type type, SerializerEncoding encoding) throws IOException {
+        return deserialize(value == null ? null : new String(value, StandardCharsets.UTF_8), type, encoding);
+    }
+
     /**
      * Deserialize the provided headers returned from a REST API to an entity instance declared as
      * the model to hold 'Matching' headers.
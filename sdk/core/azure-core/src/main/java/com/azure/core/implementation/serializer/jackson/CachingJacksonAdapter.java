@@ -0,0 +1,77 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.serializer.jackson;
+
+import com.azure.core.implementation.serializer.SerializerEncoding;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link JacksonAdapter} that keeps an {@link ObjectReader} per deserialized type and an {@link ObjectWriter} per
+ * serialized class, whose root deserializer and serializer are looked up once instead of on every call, and caches the
+ * Jackson types of classes.
+ *
+ * <p>Additional Jackson modules, such as a module generating bytecode accessors for model properties, can be
+ * registered on all the mappers of the adapter. A client selects this adapter by passing it to
+ * {@link com.azure.core.implementation.RestProxy#create(Class, com.azure.core.http.HttpPipeline,
+ * com.azure.core.implementation.serializer.SerializerAdapter)}, which also uses it to serialize header and query
+ * values.</p>
+ */
+public class CachingJacksonAdapter extends JacksonAdapter {
+    private final Map<Class<?>, JavaType> javaTypes = new ConcurrentHashMap<>();
+    private final Map<JavaType, ObjectReader> jsonReaders = new ConcurrentHashMap<>();
+    private final Map<JavaType, ObjectReader> xmlReaders = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> jsonWriters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> xmlWriters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a CachingJacksonAdapter with default mapper settings and additional modules.
+     *
+     * @param modules the additional modules, registered on every mapper of the adapter
+     */
+    public CachingJacksonAdapter(Module... modules) {
+        super(Arrays.asList(modules));
+    }
+
+    @Override
+    protected ObjectWriter getWriter(Class<?> valueClass, SerializerEncoding encoding) {
+        final Map<Class<?>, ObjectWriter> writers = encoding == SerializerEncoding.XML ? xmlWriters : jsonWriters;
+        ObjectWriter writer = writers.get(valueClass);
+        if (writer == null) {
+            writer = writers.computeIfAbsent(valueClass,
+                ignored -> super.getWriter(valueClass, encoding).forType(valueClass));
+        }
+        return writer;
+    }
+
+    @Override
+    protected ObjectReader getReader(JavaType type, SerializerEncoding encoding) {
+        final Map<JavaType, ObjectReader> readers = encoding == SerializerEncoding.XML ? xmlReaders : jsonReaders;
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            reader = readers.computeIfAbsent(type, ignored -> super.getReader(type, encoding));
+        }
+        return reader;
+    }
+
+    @Override
+    protected JavaType createJavaType(Type type) {
+        // Parameterized types are often created per call and compare by identity, only classes are cached.
+        if (!(type instanceof Class<?>)) {
+            return super.createJavaType(type);
+        }
+        JavaType javaType = javaTypes.get(type);
+        if (javaType == null) {
+            javaType = javaTypes.computeIfAbsent((Class<?>) type, super::createJavaType);
+        }
+        return javaType;
+    }
+}
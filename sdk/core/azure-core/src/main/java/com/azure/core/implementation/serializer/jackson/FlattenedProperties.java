@@ -0,0 +1,130 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.serializer.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The flattened properties of a type annotated with {@link com.azure.core.annotation.JsonFlatten}, computed once per
+ * type from the names of its properties.
+ *
+ * <p>A property named {@code properties.name} is flattened: its value is found at the path
+ * {@code ["properties", "name"]} of the payload. Dots escaped with a backslash, as in {@code more\.props}, are part of
+ * a path segment. The paths of all the flattened properties of the type are kept in a tree whose nodes are the path
+ * segments, so that a payload can be matched against all of them in a single pass.</p>
+ */
+final class FlattenedProperties {
+    private static final Pattern FLATTENED = Pattern.compile(".+[^\\\\]\\..+");
+    private static final Pattern SEPARATOR = Pattern.compile("((?<!\\\\))\\.");
+
+    private final List<String> names;
+    private final Map<String, Integer> indexes;
+    private final Node root;
+
+    private FlattenedProperties(List<String> names, Node root) {
+        this.names = names;
+        this.indexes = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            indexes.put(names.get(i), i);
+        }
+        this.root = root;
+    }
+
+    /**
+     * Computes the flattened properties of a type.
+     *
+     * @param beanDesc the description of the type
+     * @return the flattened properties of the type, or null if the type has none
+     */
+    static FlattenedProperties of(BeanDescription beanDesc) {
+        final List<String> names = new ArrayList<>();
+        final Node root = new Node();
+        for (BeanPropertyDefinition property : beanDesc.findProperties()) {
+            final String name = property.getName();
+            final boolean flattened = FLATTENED.matcher(name).matches();
+            if (!flattened && !name.contains("\\.")) {
+                continue;
+            }
+
+            final String[] segments = flattened ? SEPARATOR.split(name) : new String[] {name};
+            Node node = root;
+            for (String segment : segments) {
+                node = node.children.computeIfAbsent(segment.replace("\\.", "."), ignored -> new Node());
+            }
+            node.index = names.size();
+            names.add(name);
+        }
+        return names.isEmpty() ? null : new FlattenedProperties(names, root);
+    }
+
+    /**
+     * @return the number of flattened properties
+     */
+    int size() {
+        return names.size();
+    }
+
+    /**
+     * @param index the index of a flattened property
+     * @return the name of the property, as found in the type
+     */
+    String getName(int index) {
+        return names.get(index);
+    }
+
+    /**
+     * @param name the name of a property, as found in the type
+     * @return the index of the property, or -1 if the property is not flattened
+     */
+    int indexOf(String name) {
+        final Integer index = indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @return the root of the tree of the property paths, whose children are the first path segments
+     */
+    Node getRoot() {
+        return root;
+    }
+
+    /**
+     * A path segment in the tree of the property paths.
+     */
+    static final class Node {
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private int index = -1;
+
+        /**
+         * @return the index of the flattened property whose path ends at this segment, or -1 if none does
+         */
+        int getIndex() {
+            return index;
+        }
+
+        /**
+         * @param segment the next path segment
+         * @return the node of the next path segment, or null if no property path continues with it
+         */
+        Node getChild(String segment) {
+            return children.get(segment);
+        }
+
+        /**
+         * @return the next path segments, in the order the properties were declared
+         */
+        Collection<Map.Entry<String, Node>> getChildren() {
+            return children.entrySet();
+        }
+    }
+}
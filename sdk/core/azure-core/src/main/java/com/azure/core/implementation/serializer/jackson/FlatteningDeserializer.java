@@ -4,30 +4,29 @@
 package com.azure.core.implementation.serializer.jackson;
 
 import com.azure.core.annotation.JsonFlatten;
-import com.azure.core.implementation.util.TypeUtil;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
 import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
 
 /**
  * Custom serializer for deserializing complex types with wrapped properties.
  * For example, a property with annotation @JsonProperty(value = "properties.name")
  * will be mapped to a top level "name" property in the POJO model.
+ *
+ * <p>The paths of the flattened properties are computed once per type. The payload is copied token by token to a
+ * {@link TokenBuffer}, the values found at the paths are collected on the way and appended as top level properties,
+ * and the buffer is then read by the default deserializer of the type, without building a tree of the payload.</p>
  */
 final class FlatteningDeserializer extends StdDeserializer<Object> implements ResolvableDeserializer {
     /**
@@ -36,37 +35,35 @@ final class FlatteningDeserializer extends StdDeserializer<Object> implements Re
     private final JsonDeserializer<?> defaultDeserializer;
 
     /**
-     * The object mapper for default deserializations.
+     * The flattened properties of the current type, or null if it has none.
      */
-    private final ObjectMapper mapper;
+    private final FlattenedProperties properties;
 
     /**
      * Creates an instance of FlatteningDeserializer.
-     * @param vc handled type
+     * @param beanDesc the description of the handled type
      * @param defaultDeserializer the default JSON mapperAdapter
-     * @param mapper the object mapper for default deserializations
      */
-    protected FlatteningDeserializer(Class<?> vc, JsonDeserializer<?> defaultDeserializer, ObjectMapper mapper) {
-        super(vc);
+    protected FlatteningDeserializer(BeanDescription beanDesc, JsonDeserializer<?> defaultDeserializer) {
+        super(beanDesc.getBeanClass());
         this.defaultDeserializer = defaultDeserializer;
-        this.mapper = mapper;
+        this.properties = FlattenedProperties.of(beanDesc);
     }
 
     /**
      * Gets a module wrapping this serializer as an adapter for the Jackson
      * ObjectMapper.
      *
-     * @param mapper the object mapper for default deserializations
      * @return a simple module to be plugged onto Jackson ObjectMapper.
      */
-    public static SimpleModule getModule(final ObjectMapper mapper) {
+    public static SimpleModule getModule() {
         SimpleModule module = new SimpleModule();
         module.setDeserializerModifier(new BeanDeserializerModifier() {
             @Override
             public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
                                                           JsonDeserializer<?> deserializer) {
                 if (beanDesc.getBeanClass().getAnnotation(JsonFlatten.class) != null) {
-                    return new FlatteningDeserializer(beanDesc.getBeanClass(), deserializer, mapper);
+                    return new FlatteningDeserializer(beanDesc, deserializer);
                 }
                 return deserializer;
             }
@@ -74,36 +71,38 @@ final class FlatteningDeserializer extends StdDeserializer<Object> implements Re
         return module;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public Object deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-        JsonNode root = mapper.readTree(jp);
-        final Class<?> tClass = this.defaultDeserializer.handledType();
-        for (Class<?> c : TypeUtil.getAllClasses(tClass)) {
-            // Ignore checks for Object type.
-            if (c.isAssignableFrom(Object.class)) {
-                continue;
-            }
-            for (Field field : c.getDeclaredFields()) {
-                JsonNode node = root;
-                JsonProperty property = field.getAnnotation(JsonProperty.class);
-                if (property != null) {
-                    String value = property.value();
-                    if (value.matches(".+[^\\\\]\\..+")) {
-                        String[] values = value.split("((?<!\\\\))\\.");
-                        for (String val : values) {
-                            val = val.replace("\\.", ".");
-                            node = node.get(val);
-                            if (node == null) {
-                                break;
-                            }
-                        }
-                        ((ObjectNode) root).put(value, node);
-                    }
-                }
+        JsonToken token = jp.currentToken();
+        if (properties == null
+            || (token != JsonToken.START_OBJECT && token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT)) {
+            return defaultDeserializer.deserialize(jp, ctxt);
+        }
+        if (token == JsonToken.START_OBJECT) {
+            token = jp.nextToken();
+        }
+
+        // The original properties are kept, the flattened ones are added after them.
+        TokenBuffer[] values = new TokenBuffer[properties.size()];
+        TokenBuffer buffer = new TokenBuffer(jp, ctxt);
+        buffer.writeStartObject();
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String name = jp.getCurrentName();
+            buffer.writeFieldName(name);
+            jp.nextToken();
+            copyValue(jp, ctxt, properties.getRoot().getChild(name), values, buffer);
+        }
+        for (int i = 0; i < values.length; i++) {
+            buffer.writeFieldName(properties.getName(i));
+            if (values[i] == null) {
+                buffer.writeNull();
+            } else {
+                buffer.append(values[i]);
             }
         }
-        JsonParser parser = new JsonFactory().createParser(root.toString());
+        buffer.writeEndObject();
+
+        JsonParser parser = buffer.asParser(jp);
         parser.nextToken();
         return defaultDeserializer.deserialize(parser, ctxt);
     }
@@ -112,4 +111,31 @@ final class FlatteningDeserializer extends StdDeserializer<Object> implements Re
     public void resolve(DeserializationContext ctxt) throws JsonMappingException {
         ((ResolvableDeserializer) defaultDeserializer).resolve(ctxt);
     }
+
+    /*
+     * Copies the current value to the buffer, collecting the values of the flattened properties whose paths go
+     * through it.
+     */
+    private static void copyValue(JsonParser jp, DeserializationContext ctxt, FlattenedProperties.Node node,
+                                  TokenBuffer[] values, TokenBuffer buffer) throws IOException {
+        if (node == null) {
+            buffer.copyCurrentStructure(jp);
+        } else if (node.getIndex() >= 0) {
+            TokenBuffer value = new TokenBuffer(jp, ctxt);
+            value.copyCurrentStructure(jp);
+            values[node.getIndex()] = value;
+            buffer.append(value);
+        } else if (jp.currentToken() != JsonToken.START_OBJECT) {
+            buffer.copyCurrentStructure(jp);
+        } else {
+            buffer.writeStartObject();
+            while (jp.nextToken() == JsonToken.FIELD_NAME) {
+                String name = jp.getCurrentName();
+                buffer.writeFieldName(name);
+                jp.nextToken();
+                copyValue(jp, ctxt, node.getChild(name), values, buffer);
+            }
+            buffer.writeEndObject();
+        }
+    }
 }
@@ -18,8 +18,12 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -32,6 +36,7 @@ import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -58,32 +63,47 @@ public class JacksonAdapter implements SerializerAdapter {
     private final ObjectMapper headerMapper;
 
     /*
-     * The lazily-created serializer for this ServiceClient.
+     * BOM header from some response bodies. To be removed in deserialization.
      */
-    private static SerializerAdapter serializerAdapter;
+    private static final String BOM = "\uFEFF";
 
     /*
-     * BOM header from some response bodies. To be removed in deserialization.
+     * UTF-8 encoded BOM header from some response bodies. To be skipped in deserialization.
      */
-    private static final String BOM = "\uFEFF";
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
 
     /**
      * Creates a new JacksonAdapter instance with default mapper settings.
      */
     public JacksonAdapter() {
-        simpleMapper = initializeObjectMapper(new ObjectMapper());
+        this(Collections.emptyList());
+    }
+
+    /**
+     * Creates a new JacksonAdapter instance with default mapper settings and additional modules, registered last on
+     * every mapper so that their serializer and deserializer modifiers see the default bean serializers and
+     * deserializers before they are wrapped for flattening and additional properties.
+     *
+     * @param modules the additional modules
+     */
+    protected JacksonAdapter(List<? extends Module> modules) {
+        simpleMapper = initializeObjectMapper(new ObjectMapper())
+                .registerModules(modules);
         xmlMapper = initializeObjectMapper(new XmlMapper());
         xmlMapper.configure(ToXmlGenerator.Feature.WRITE_XML_DECLARATION, true);
         xmlMapper.setDefaultUseWrapper(false);
+        xmlMapper.registerModules(modules);
         ObjectMapper flatteningMapper = initializeObjectMapper(new ObjectMapper())
-                .registerModule(FlatteningSerializer.getModule(simpleMapper()))
-                .registerModule(FlatteningDeserializer.getModule(simpleMapper()));
+                .registerModule(FlatteningSerializer.getModule())
+                .registerModule(FlatteningDeserializer.getModule())
+                .registerModules(modules);
         mapper = initializeObjectMapper(new ObjectMapper())
                 // Order matters: must register in reverse order of hierarchy
                 .registerModule(AdditionalPropertiesSerializer.getModule(flatteningMapper))
                 .registerModule(AdditionalPropertiesDeserializer.getModule(flatteningMapper))
-                .registerModule(FlatteningSerializer.getModule(simpleMapper()))
-                .registerModule(FlatteningDeserializer.getModule(simpleMapper()));
+                .registerModule(FlatteningSerializer.getModule())
+                .registerModule(FlatteningDeserializer.getModule())
+                .registerModules(modules);
         headerMapper = simpleMapper
             .copy()
             .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true);
@@ -103,11 +123,8 @@ public class JacksonAdapter implements SerializerAdapter {
      *
      * @return the default serializer
      */
-    public static synchronized SerializerAdapter createDefaultSerializerAdapter() {
-        if (serializerAdapter == null) {
-            serializerAdapter = new JacksonAdapter();
-        }
-        return serializerAdapter;
+    public static SerializerAdapter createDefaultSerializerAdapter() {
+        return DefaultSerializerAdapterHolder.INSTANCE;
     }
 
     /**
@@ -123,15 +140,20 @@ public class JacksonAdapter implements SerializerAdapter {
             return null;
         }
         StringWriter writer = new StringWriter();
-        if (encoding == SerializerEncoding.XML) {
-            xmlMapper.writeValue(writer, object);
-        } else {
-            serializer().writeValue(writer, object);
-        }
+        getWriter(object.getClass(), encoding).writeValue(writer, object);
 
         return writer.toString();
     }
 
+    @Override
+    public byte[] serializeToBytes(Object object, SerializerEncoding encoding) throws IOException {
+        if (object == null) {
+            return null;
+        }
+        // Jackson writes into recycled buffers and copies once into the result, no intermediate String is created.
+        return getWriter(object.getClass(), encoding).writeValueAsBytes(object);
+    }
+
     @Override
     public String serializeRaw(Object object) {
         if (object == null) {
@@ -169,13 +191,27 @@ public class JacksonAdapter implements SerializerAdapter {
             value = value.replaceFirst(BOM, "");
         }
 
-        final JavaType javaType = createJavaType(type);
         try {
-            if (encoding == SerializerEncoding.XML) {
-                return (T) xmlMapper.readValue(value, javaType);
-            } else {
-                return (T) serializer().readValue(value, javaType);
-            }
+            return (T) getReader(createJavaType(type), encoding).readValue(value);
+        } catch (JsonParseException jpe) {
+            throw logger.logExceptionAsError(new MalformedValueException(jpe.getMessage(), jpe));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deserialize(byte[] value, final Type type, SerializerEncoding encoding) throws IOException {
+        if (value == null) {
+            return null;
+        }
+        // Skip BOM
+        final int offset = startsWithUtf8Bom(value) ? UTF8_BOM.length : 0;
+        if (value.length == offset) {
+            return null;
+        }
+
+        try {
+            return (T) getReader(createJavaType(type), encoding).readValue(value, offset, value.length - offset);
         } catch (JsonParseException jpe) {
             throw logger.logExceptionAsError(new MalformedValueException(jpe.getMessage(), jpe));
         }
@@ -187,9 +223,11 @@ public class JacksonAdapter implements SerializerAdapter {
             return null;
         }
 
-        final String headersJsonString = headerMapper.writeValueAsString(headers);
+        // Buffer the header tokens rather than writing them out as a JSON string to read back.
+        final TokenBuffer headersTokens = new TokenBuffer(headerMapper, false);
+        headerMapper.writeValue(headersTokens, headers);
         T deserializedHeaders =
-            headerMapper.readValue(headersJsonString, createJavaType(deserializedHeadersType));
+            headerMapper.readValue(headersTokens.asParser(), createJavaType(deserializedHeadersType));
 
         final Class<?> deserializedHeadersClass = TypeUtil.getRawClass(deserializedHeadersType);
         final Field[] declaredFields = deserializedHeadersClass.getDeclaredFields();
@@ -242,6 +280,28 @@ public class JacksonAdapter implements SerializerAdapter {
         return deserializedHeaders;
     }
 
+    /**
+     * Gets the writer used to serialize values of a class.
+     *
+     * @param valueClass the class of the value to serialize
+     * @param encoding the encoding of the serialized value
+     * @return the writer
+     */
+    protected ObjectWriter getWriter(Class<?> valueClass, SerializerEncoding encoding) {
+        return encoding == SerializerEncoding.XML ? xmlMapper.writer() : serializer().writer();
+    }
+
+    /**
+     * Gets the reader used to deserialize values of a type.
+     *
+     * @param type the type to deserialize
+     * @param encoding the encoding of the serialized value
+     * @return the reader
+     */
+    protected ObjectReader getReader(JavaType type, SerializerEncoding encoding) {
+        return encoding == SerializerEncoding.XML ? xmlMapper.readerFor(type) : serializer().readerFor(type);
+    }
+
     /**
      * Initializes an instance of JacksonMapperAdapter with default configurations
      * applied to the object mapper.
@@ -271,7 +331,20 @@ public class JacksonAdapter implements SerializerAdapter {
         return mapper;
     }
 
-    private JavaType createJavaType(Type type) {
+    private static boolean startsWithUtf8Bom(byte[] value) {
+        return value.length >= UTF8_BOM.length
+            && value[0] == UTF8_BOM[0]
+            && value[1] == UTF8_BOM[1]
+            && value[2] == UTF8_BOM[2];
+    }
+
+    /**
+     * Creates the Jackson type of a type.
+     *
+     * @param type the type
+     * @return the Jackson type, or null if the type is null
+     */
+    protected JavaType createJavaType(Type type) {
         JavaType result;
         if (type == null) {
             result = null;
@@ -293,4 +366,10 @@ public class JacksonAdapter implements SerializerAdapter {
         return result;
     }
 
+    /*
+     * Holds the default serializer adapter, created on first use.
+     */
+    private static final class DefaultSerializerAdapterHolder {
+        private static final SerializerAdapter INSTANCE = new JacksonAdapter();
+    }
 }
@@ -7,6 +7,7 @@ import com.azure.core.annotation.Immutable;
 import com.azure.core.implementation.util.ImplUtils;
 import com.azure.core.util.logging.ClientLogger;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Objects;
@@ -17,7 +18,9 @@ import java.util.Objects;
  * {@code null}.
  * <p>
  * Each context object is immutable. The {@link #addData(Object, Object)} method creates a new
- * {@code Context} object that refers to its parent, forming a linked list.
+ * {@code Context} object that refers to its parent, forming a linked list. Lookups scan at most a few links of the
+ * list before probing a hash index of the rest of it. The index is built by the first lookup that needs it, on an
+ * ancestor shared by the contexts created from it, and reuses the index of its own nearest indexed ancestor.
  */
 @Immutable
 public class Context {
@@ -30,9 +33,27 @@ public class Context {
      */
     public static final Context NONE = new Context(null, null, null);
 
+    /*
+     * Number of links a lookup scans before it uses an index of the rest of the linked list.
+     */
+    private static final int INDEX_THRESHOLD = 8;
+
+    /*
+     * Value of the keys missing from an index, as values may be null.
+     */
+    private static final Object MISSING = new Object();
+
     private final Context parent;
     private final Object key;
     private final Object value;
+    private final int size;
+
+    /*
+     * The key-value pairs of the linked list ending at this context, lazily built when a lookup from a descendant
+     * would otherwise scan more than INDEX_THRESHOLD links. The index is never modified once published, so it can
+     * be built by several threads.
+     */
+    private volatile Map<Object, Object> index;
 
     /**
      * Constructs a new {@link Context} object.
@@ -49,12 +70,14 @@ public class Context {
         this.parent = null;
         this.key = Objects.requireNonNull(key, "'key' cannot be null.");
         this.value = value;
+        this.size = 1;
     }
 
     private Context(Context parent, Object key, Object value) {
         this.parent = parent;
         this.key = key;
         this.value = value;
+        this.size = key == null ? 0 : parent.size + 1;
     }
 
     /**
@@ -108,6 +131,7 @@ public class Context {
     /**
      * Scans the linked-list of {@link Context} objects looking for one with the specified key.
      * Note that the first key found, i.e. the most recently added, will be returned.
+     * Lookups in contexts holding many key-value pairs probe an index instead of scanning the whole list.
      *
      * <p><strong>Code samples</strong></p>
      *
@@ -122,10 +146,35 @@ public class Context {
             throw logger.logExceptionAsError(new IllegalArgumentException("key cannot be null"));
         }
         for (Context c = this; c != null; c = c.parent) {
+            Map<Object, Object> index = c.index;
+            if (index == null && c.key != null && size - c.size == INDEX_THRESHOLD) {
+                // The nearest index is too far up the list: index this ancestor, which is shared by the contexts
+                // created from it.
+                index = c.buildIndex();
+                c.index = index;
+            }
+            if (index != null) {
+                Object value = index.getOrDefault(key, MISSING);
+                return value == MISSING ? Optional.empty() : Optional.of(value);
+            }
             if (key.equals(c.key)) {
                 return Optional.of(c.value);
             }
         }
         return Optional.empty();
     }
+
+    private Map<Object, Object> buildIndex() {
+        Map<Object, Object> index = new HashMap<>((int) (size / 0.75f) + 1);
+        Context c = this;
+        for (; c != null && c.key != null && c.index == null; c = c.parent) {
+            index.putIfAbsent(c.key, c.value);
+        }
+        if (c != null && c.index != null) {
+            for (Map.Entry<Object, Object> entry : c.index.entrySet()) {
+                index.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+        }
+        return index;
+    }
 }
@@ -0,0 +1,43 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.metrics;
+
+/**
+ * Contract that meters must implement to receive the timings of an instrumented
+ * {@link com.azure.core.http.HttpPipeline}. A meter is plugged in with
+ * {@link com.azure.core.http.HttpPipelineBuilder#meter(HttpPipelineMeter)}.
+ *
+ * <p>Methods are called on the threads that complete the request, often I/O threads, and must not block.</p>
+ *
+ * @see InMemoryHttpPipelineMeter
+ */
+public interface HttpPipelineMeter {
+    /**
+     * Records the time a policy took to produce its response, measured from the moment the policy is subscribed to
+     * until it emits a response or an error. This includes the time spent in the policies after it and in the
+     * HttpClient, the time spent in the policy itself is the difference with the next policy.
+     *
+     * @param policyName The name of the policy, its simple class name.
+     * @param durationNanos The duration in nanoseconds.
+     * @param failed Whether the policy completed with an error instead of a response.
+     */
+    void recordPolicy(String policyName, long durationNanos, boolean failed);
+
+    /**
+     * Records the time the HttpClient took to receive the response status and headers of a request, which includes
+     * acquiring a connection and the time to first byte.
+     *
+     * @param durationNanos The duration in nanoseconds.
+     * @param failed Whether the request failed instead of receiving a response.
+     */
+    void recordSend(long durationNanos, boolean failed);
+
+    /**
+     * Records the time taken to read a response body, measured from the moment the response headers were received
+     * until the body was fully read, failed or was cancelled.
+     *
+     * @param durationNanos The duration in nanoseconds.
+     */
+    void recordBodyRead(long durationNanos);
+}
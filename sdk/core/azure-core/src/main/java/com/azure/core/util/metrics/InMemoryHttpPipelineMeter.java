@@ -0,0 +1,58 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link HttpPipelineMeter} that keeps a {@link LatencyHistogram} for every policy, for sending requests and for
+ * reading response bodies. Failed attempts are recorded in the same histograms as successful ones.
+ */
+public final class InMemoryHttpPipelineMeter implements HttpPipelineMeter {
+    private final Map<String, LatencyHistogram> policies = new ConcurrentHashMap<>();
+    private final LatencyHistogram send = new LatencyHistogram();
+    private final LatencyHistogram bodyRead = new LatencyHistogram();
+
+    @Override
+    public void recordPolicy(String policyName, long durationNanos, boolean failed) {
+        LatencyHistogram histogram = policies.get(policyName);
+        if (histogram == null) {
+            histogram = policies.computeIfAbsent(policyName, name -> new LatencyHistogram());
+        }
+        histogram.record(durationNanos);
+    }
+
+    @Override
+    public void recordSend(long durationNanos, boolean failed) {
+        send.record(durationNanos);
+    }
+
+    @Override
+    public void recordBodyRead(long durationNanos) {
+        bodyRead.record(durationNanos);
+    }
+
+    /**
+     * @return the latencies of each policy by policy name, including the time spent in the policies after it
+     */
+    public Map<String, LatencyHistogram> getPolicyLatencies() {
+        return Collections.unmodifiableMap(policies);
+    }
+
+    /**
+     * @return the latencies of the HttpClient until response headers were received
+     */
+    public LatencyHistogram getSendLatency() {
+        return send;
+    }
+
+    /**
+     * @return the latencies of reading response bodies
+     */
+    public LatencyHistogram getBodyReadLatency() {
+        return bodyRead;
+    }
+}
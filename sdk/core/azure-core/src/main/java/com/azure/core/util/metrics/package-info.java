@@ -0,0 +1,7 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+/**
+ * Package containing API for HTTP pipeline metrics.
+ */
+package com.azure.core.util.metrics;
@@ -0,0 +1,163 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.polling;
+
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Batches the status checks of long-running operations whose service can return the status of several operations in
+ * a single call.
+ *
+ * <p>{@link #getPollOperation(Object)} creates the poll operation of a {@link Poller} from the identifier of its
+ * operation. The polls of all the operations sharing a {@link PollBatcher} that happen within the same
+ * {@code batchWindow} are sent as one call of the batch poll operation, which returns the latest {@link PollResponse}
+ * of each requested operation. A batch is sent early once it holds {@code maxBatchSize} operations.</p>
+ *
+ * <p>A poll fails if the batch poll operation fails or returns no response for its operation. As for any poll
+ * operation failure, the {@link Poller} disregards it and polls again after its poll interval.</p>
+ *
+ * <p><strong>Code samples</strong></p>
+ *
+ * <p><strong>Batch the polls of several operations</strong></p>
+ * {@codesnippet com.azure.core.util.polling.pollbatcher.getPollOperation}
+ *
+ * @param <K> Type of the identifier of an operation
+ * @param <T> Type of poll response value
+ * @see Poller
+ */
+public final class PollBatcher<K, T> {
+    private final ClientLogger logger = new ClientLogger(PollBatcher.class);
+    private final Function<List<K>, Mono<Map<K, PollResponse<T>>>> batchPollOperation;
+    private final int maxBatchSize;
+    private final Duration batchWindow;
+
+    private final Object lock = new Object();
+    private List<PendingPoll<K, T>> pending = new ArrayList<>();
+
+    /**
+     * Creates a {@link PollBatcher}.
+     *
+     * @param batchPollOperation The operation returning the latest {@link PollResponse} of each of the given operation
+     *     identifiers. The identifiers are distinct and at most {@code maxBatchSize}.
+     * @param maxBatchSize The maximum number of operations whose status is requested in one call.
+     * @param batchWindow The time a poll waits for the polls of other operations before the batch is sent.
+     * @throws NullPointerException if {@code batchPollOperation} or {@code batchWindow} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxBatchSize} is less than one or {@code batchWindow} is negative.
+     */
+    public PollBatcher(Function<List<K>, Mono<Map<K, PollResponse<T>>>> batchPollOperation, int maxBatchSize,
+                       Duration batchWindow) {
+        this.batchPollOperation = Objects.requireNonNull(batchPollOperation,
+            "'batchPollOperation' cannot be null.");
+        this.batchWindow = Objects.requireNonNull(batchWindow, "'batchWindow' cannot be null.");
+        if (maxBatchSize < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(
+                "'maxBatchSize' must be greater than zero."));
+        }
+        if (batchWindow.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(
+                "Negative value for 'batchWindow' is not allowed."));
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Creates the poll operation of the {@link Poller} of an operation, which polls it as part of a batch.
+     *
+     * @param operationId The identifier of the operation.
+     * @return The poll operation of the operation.
+     * @throws NullPointerException if {@code operationId} is {@code null}.
+     */
+    public Function<PollResponse<T>, Mono<PollResponse<T>>> getPollOperation(K operationId) {
+        Objects.requireNonNull(operationId, "'operationId' cannot be null.");
+        return ignored -> Mono.create(sink -> add(new PendingPoll<>(operationId, sink)));
+    }
+
+    private void add(PendingPoll<K, T> poll) {
+        final List<PendingPoll<K, T>> batch;
+        synchronized (lock) {
+            pending.add(poll);
+            if (pending.size() == 1 && maxBatchSize > 1) {
+                final List<PendingPoll<K, T>> scheduled = pending;
+                TimingWheel.SHARED.schedule(() -> flush(scheduled), batchWindow);
+                return;
+            }
+            if (pending.size() < maxBatchSize) {
+                return;
+            }
+            batch = pending;
+            pending = new ArrayList<>();
+        }
+        send(batch);
+    }
+
+    private void flush(List<PendingPoll<K, T>> scheduled) {
+        synchronized (lock) {
+            // The batch was already sent because it was full.
+            if (pending != scheduled) {
+                return;
+            }
+            pending = new ArrayList<>();
+        }
+        send(scheduled);
+    }
+
+    private void send(List<PendingPoll<K, T>> batch) {
+        final Set<K> operationIds = new LinkedHashSet<>();
+        for (PendingPoll<K, T> poll : batch) {
+            operationIds.add(poll.operationId);
+        }
+
+        Mono<Map<K, PollResponse<T>>> responses;
+        try {
+            responses = batchPollOperation.apply(new ArrayList<>(operationIds));
+        } catch (RuntimeException ex) {
+            responses = Mono.error(ex);
+        }
+        responses.defaultIfEmpty(Collections.emptyMap())
+            .subscribe(response -> complete(batch, response), error -> fail(batch, error));
+    }
+
+    private void complete(List<PendingPoll<K, T>> batch, Map<K, PollResponse<T>> response) {
+        for (PendingPoll<K, T> poll : batch) {
+            final PollResponse<T> pollResponse = response.get(poll.operationId);
+            if (pollResponse == null) {
+                poll.sink.error(logger.logExceptionAsWarning(new IllegalStateException(
+                    "The batch poll operation returned no response for operation " + poll.operationId)));
+            } else {
+                poll.sink.success(pollResponse);
+            }
+        }
+    }
+
+    private static <K, T> void fail(List<PendingPoll<K, T>> batch, Throwable error) {
+        for (PendingPoll<K, T> poll : batch) {
+            poll.sink.error(error);
+        }
+    }
+
+    /*
+     * A poll waiting for its batch to be sent.
+     */
+    private static final class PendingPoll<K, T> {
+        private final K operationId;
+        private final MonoSink<PollResponse<T>> sink;
+
+        PendingPoll(K operationId, MonoSink<PollResponse<T>> sink) {
+            this.operationId = operationId;
+            this.sink = sink;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -39,6 +40,12 @@ import static com.azure.core.util.polling.PollResponse.OperationStatus.FAILED;
  * successful long-running operation at the time the last auto-polling or last manual polling, whichever happened most
  * recently.
  *
+ * <p>The delays between auto polls of all the {@link Poller} instances are kept by a single timer thread, and a random
+ * jitter of up to a tenth of the delay is added to each so that operations started together spread their polls. Auto
+ * polling holds no thread while waiting, unlike {@link #block()} and {@link #blockUntil(OperationStatus)}, which park
+ * the calling thread: prefer {@link #getObserver()} when tracking many operations. Operations whose service can return
+ * the status of several operations in one call can share a {@link PollBatcher}.
+ *
  * <p><strong>Disable auto polling</strong></p>
  * For those scenarios which require manual control of the polling cycle, disable auto-polling by calling
  * {@link #setAutoPollingEnabled(boolean) setAutoPollingEnabled(false)}. Then perform manual polling by invoking
@@ -67,6 +74,10 @@ import static com.azure.core.util.polling.PollResponse.OperationStatus.FAILED;
  * @see OperationStatus
  */
 public class Poller<T, R> {
+    /*
+     * The maximum jitter added to the delay before the next auto poll, as a fraction of that delay.
+     */
+    private static final double MAX_JITTER = 0.1;
 
     private final ClientLogger logger = new ClientLogger(Poller.class);
 
@@ -397,7 +408,7 @@ public class Poller<T, R> {
      */
     private Mono<PollResponse<T>> asyncPollRequestWithDelay() {
         return Mono.defer(() -> this.pollOperation.apply(this.pollResponse)
-            .delaySubscription(getCurrentDelay())
+            .delaySubscription(TimingWheel.SHARED.delay(getCurrentDelay()))
             .onErrorResume(throwable -> {
                 // We should never get here and since we want to continue polling.
                 logger.warning("Failed to apply delay and call poll operation.", throwable); 
@@ -411,14 +422,17 @@ public class Poller<T, R> {
     }
 
     /**
-     * We will use {@link PollResponse#getRetryAfter()} if it is greater than zero otherwise use poll interval.
+     * We will use {@link PollResponse#getRetryAfter()} if it is greater than zero otherwise use poll interval. A random
+     * jitter of up to a tenth of the delay is added, so that operations started together do not keep
+     * polling the service at the same instant. The jitter only lengthens the delay, {@code retryAfter} is honored.
      */
     private Duration getCurrentDelay() {
         final PollResponse<T> current = pollResponse;
 
-        return (current != null
+        final Duration delay = (current != null
             && current.getRetryAfter() != null
             && current.getRetryAfter().compareTo(Duration.ZERO) > 0) ? current.getRetryAfter() : pollInterval;
+        return delay.plusNanos((long) (delay.toNanos() * MAX_JITTER * ThreadLocalRandom.current().nextDouble()));
     }
 
     /**
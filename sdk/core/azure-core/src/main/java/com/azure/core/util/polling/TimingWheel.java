@@ -0,0 +1,202 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.polling;
+
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * A hashed timing wheel shared by all the pollers of the process to delay their polls.
+ *
+ * <p>Scheduling and cancelling a task is constant time and the wheel is driven by a single daemon thread, whatever the
+ * number of pollers. The thread parks while no task is scheduled. Due tasks are not run on the thread of the wheel but
+ * handed to a dispatcher, so that slow poll operations or subscribers do not delay the other pollers. Tasks run at
+ * most one tick after their delay, never before.</p>
+ */
+final class TimingWheel {
+    /*
+     * The wheel used by pollers, which runs the due tasks on the parallel scheduler of Reactor.
+     */
+    static final TimingWheel SHARED = new TimingWheel(Duration.ofMillis(10), 512,
+        task -> Schedulers.parallel().schedule(task));
+
+    private final ClientLogger logger = new ClientLogger(TimingWheel.class);
+    private final long tickNanos;
+    private final List<Timeout>[] buckets;
+    private final int mask;
+    private final Consumer<Runnable> dispatcher;
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final long startNanos = System.nanoTime();
+
+    private volatile Thread worker;
+    private volatile boolean idle;
+
+    // Only accessed by the worker thread.
+    private long tick;
+    private int size;
+
+    /**
+     * Creates a TimingWheel.
+     *
+     * @param tickDuration the precision of the wheel
+     * @param ticksPerWheel the number of buckets of the wheel, rounded up to a power of two
+     * @param dispatcher runs the due tasks
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TimingWheel(Duration tickDuration, int ticksPerWheel, Consumer<Runnable> dispatcher) {
+        this.tickNanos = tickDuration.toNanos();
+        final int length = Integer.highestOneBit(Math.max(ticksPerWheel, 2) - 1) << 1;
+        this.buckets = new List[length];
+        for (int i = 0; i < length; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.mask = length - 1;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Schedules a task.
+     *
+     * @param task the task to run once the delay elapsed
+     * @param delay the delay
+     * @return a {@link Disposable} cancelling the task if it did not run yet
+     */
+    Disposable schedule(Runnable task, Duration delay) {
+        final Timeout timeout = new Timeout(task, System.nanoTime() - startNanos + Math.max(delay.toNanos(), 0));
+        scheduled.add(timeout);
+
+        final Thread current = worker;
+        if (current == null) {
+            start();
+        } else if (idle) {
+            LockSupport.unpark(current);
+        }
+        return timeout;
+    }
+
+    /**
+     * Creates a {@link Mono} emitting once the delay elapsed, as {@link Mono#delay(Duration)} does on the timer of a
+     * Reactor scheduler.
+     *
+     * @param delay the delay
+     * @return a {@link Mono} emitting 0 once the delay elapsed
+     */
+    Mono<Long> delay(Duration delay) {
+        return Mono.create(sink -> sink.onCancel(schedule(() -> sink.success(0L), delay)));
+    }
+
+    private synchronized void start() {
+        if (worker == null) {
+            final Thread thread = new Thread(this::run, "azure-polling-timer");
+            thread.setDaemon(true);
+            thread.start();
+            worker = thread;
+        }
+    }
+
+    private void run() {
+        while (true) {
+            if (size == 0) {
+                idle = true;
+                if (scheduled.isEmpty()) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                // No task was due during the ticks elapsed while parked.
+                tick = Math.max(tick, (System.nanoTime() - startNanos) / tickNanos);
+                transferScheduled();
+                continue;
+            }
+
+            final long sleepNanos = (tick + 1) * tickNanos - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+
+            transferScheduled();
+            expire(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferScheduled() {
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (timeout.isDisposed()) {
+                continue;
+            }
+            // Rounded up so that the task never runs before its deadline.
+            final long target = Math.max((timeout.deadlineNanos + tickNanos - 1) / tickNanos, tick);
+            timeout.rounds = (target - tick) / buckets.length;
+            buckets[(int) (target & mask)].add(timeout);
+            size++;
+        }
+    }
+
+    private void expire(List<Timeout> bucket) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            final Timeout timeout = bucket.get(i);
+            if (timeout.rounds > 0 && !timeout.isDisposed()) {
+                timeout.rounds--;
+                bucket.set(kept++, timeout);
+                continue;
+            }
+
+            size--;
+            if (timeout.expire()) {
+                try {
+                    dispatcher.accept(timeout.task);
+                } catch (RuntimeException ex) {
+                    logger.warning("Failed to dispatch a polling task.", ex);
+                }
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    /*
+     * A scheduled task, which either expires or is cancelled.
+     */
+    private static final class Timeout implements Disposable {
+        private static final AtomicIntegerFieldUpdater<Timeout> DONE =
+            AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "done");
+
+        private final Runnable task;
+        private final long deadlineNanos;
+        private volatile int done;
+        private long rounds;
+
+        Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        boolean expire() {
+            return DONE.compareAndSet(this, 0, 1);
+        }
+
+        @Override
+        public void dispose() {
+            done = 1;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return done != 0;
+        }
+    }
+}
@@ -24,6 +24,7 @@ module com.azure.core {
     exports com.azure.core.http.rest;
     exports com.azure.core.util;
     exports com.azure.core.util.logging;
+    exports com.azure.core.util.metrics;
     exports com.azure.core.util.polling;
     exports com.azure.core.util.tracing;
     exports com.azure.core.cryptography;
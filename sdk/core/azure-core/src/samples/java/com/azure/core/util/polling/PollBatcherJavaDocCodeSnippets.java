@@ -0,0 +1,42 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.polling;
+
+import com.azure.core.util.polling.PollResponse.OperationStatus;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class contains code samples for generating javadocs through doclets for {@link PollBatcher}
+ */
+public final class PollBatcherJavaDocCodeSnippets {
+    /**
+     * Batch the polls of several operations
+     */
+    public void getPollOperation() {
+        // BEGIN: com.azure.core.util.polling.pollbatcher.getPollOperation
+        // Define the batch poll operation, returning the status of each requested operation in a single call
+        PollBatcher<String, String> batcher = new PollBatcher<String, String>(operationIds -> {
+            Map<String, PollResponse<String>> responses = new HashMap<>();
+            for (String operationId : operationIds) {
+                responses.put(operationId, new PollResponse<>(OperationStatus.SUCCESSFULLY_COMPLETED, operationId));
+            }
+            return Mono.just(responses);
+        }, 100, Duration.ofMillis(50));
+
+        // Create a poller per operation, whose polls are batched
+        for (String operationId : Arrays.asList("copy-1", "copy-2", "copy-3")) {
+            Poller<String, String> poller = new Poller<String, String>(Duration.ofSeconds(1),
+                batcher.getPollOperation(operationId),
+                () -> Mono.just("Final Output"));
+            poller.getObserver().subscribe(response ->
+                System.out.printf("Got response. Status: %s, Value: %s%n", response.getStatus(), response.getValue()));
+        }
+        // END: com.azure.core.util.polling.pollbatcher.getPollOperation
+    }
+}
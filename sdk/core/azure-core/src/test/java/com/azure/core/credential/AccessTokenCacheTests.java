@@ -0,0 +1,112 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.credential;
+
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AccessTokenCacheTests {
+    @Test
+    public void concurrentRequestsShareOneRefreshPerScopeSet() {
+        AtomicInteger refreshes = new AtomicInteger();
+        AccessTokenCache cache = new AccessTokenCache(request -> {
+            refreshes.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(500))
+                .map(ignored -> new Token(String.join(" ", request.getScopes()), Duration.ofMinutes(10)));
+        }, Duration.ofMinutes(1), Duration.ZERO);
+
+        List<AccessToken> tokens = Flux.range(0, 20)
+            .flatMap(i -> Mono.defer(() -> cache.getToken(i % 2 == 0
+                ? new TokenRequestContext().addScopes("a", "b")
+                : new TokenRequestContext().addScopes("b", "a")))
+                .subscribeOn(Schedulers.parallel()))
+            .collectList()
+            .block();
+
+        Assert.assertEquals(20, tokens.size());
+        Assert.assertEquals(1, refreshes.get());
+        Assert.assertTrue(tokens.stream().allMatch(token -> token == tokens.get(0)));
+
+        cache.getToken(new TokenRequestContext().addScopes("c")).block();
+        Assert.assertEquals(2, refreshes.get());
+    }
+
+    @Test
+    public void refreshesInBackgroundBeforeExpiry() throws Exception {
+        AtomicInteger refreshes = new AtomicInteger();
+        AccessTokenCache cache = new AccessTokenCache(request -> Mono.delay(Duration.ofMillis(200))
+            .map(ignored -> new Token(Integer.toString(refreshes.incrementAndGet()), Duration.ofSeconds(2))),
+            Duration.ofSeconds(1), Duration.ZERO);
+        TokenRequestContext request = new TokenRequestContext().addScopes("scope");
+
+        Assert.assertEquals("1", cache.getToken(request).block().getToken());
+
+        // Inside the refresh window: the cached token is returned right away while a new one is fetched.
+        Thread.sleep(1100);
+        long start = System.nanoTime();
+        Assert.assertEquals("1", cache.getToken(request).block().getToken());
+        Assert.assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 200);
+
+        Thread.sleep(400);
+        Assert.assertEquals("2", cache.getToken(request).block().getToken());
+        Assert.assertEquals(2, refreshes.get());
+    }
+
+    @Test
+    public void backgroundRefreshFailureKeepsCachedToken() throws Exception {
+        AtomicInteger refreshes = new AtomicInteger();
+        AccessTokenCache cache = new AccessTokenCache(request -> refreshes.incrementAndGet() == 1
+            ? Mono.just(new Token("1", Duration.ofSeconds(2)))
+            : Mono.error(new RuntimeException("token service unavailable")),
+            Duration.ofSeconds(1), Duration.ZERO);
+        TokenRequestContext request = new TokenRequestContext().addScopes("scope");
+
+        Assert.assertEquals("1", cache.getToken(request).block().getToken());
+
+        Thread.sleep(1100);
+        Assert.assertEquals("1", cache.getToken(request).block().getToken());
+        Assert.assertEquals("1", cache.getToken(request).block().getToken());
+        // The failed refresh is not retried on every request.
+        Assert.assertEquals(2, refreshes.get());
+    }
+
+    @Test
+    public void expiredTokenWaitsForRefresh() {
+        AtomicInteger refreshes = new AtomicInteger();
+        AccessTokenCache cache = new AccessTokenCache(request ->
+            Mono.just(new Token(Integer.toString(refreshes.incrementAndGet()), Duration.ZERO)),
+            AccessTokenCache.DEFAULT_REFRESH_OFFSET, AccessTokenCache.DEFAULT_REFRESH_JITTER);
+        TokenRequestContext request = new TokenRequestContext().addScopes("scope");
+
+        Assert.assertEquals("1", cache.getToken(request).block().getToken());
+        Assert.assertEquals("2", cache.getToken(request).block().getToken());
+    }
+
+    private static class Token extends AccessToken {
+        private final OffsetDateTime expiry;
+
+        Token(String token, Duration validity) {
+            super(token, OffsetDateTime.now().plus(validity));
+            this.expiry = OffsetDateTime.now().plus(validity);
+        }
+
+        @Override
+        public OffsetDateTime getExpiresAt() {
+            return expiry;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return OffsetDateTime.now().isAfter(expiry);
+        }
+    }
+}
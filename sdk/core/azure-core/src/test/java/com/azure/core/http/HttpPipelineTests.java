@@ -9,15 +9,20 @@ import com.azure.core.http.policy.ProtocolPolicy;
 import com.azure.core.http.policy.RequestIdPolicy;
 import com.azure.core.http.policy.RetryPolicy;
 import com.azure.core.http.policy.UserAgentPolicy;
+import com.azure.core.util.metrics.InMemoryHttpPipelineMeter;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class HttpPipelineTests {
     @Test
@@ -146,4 +151,38 @@ public class HttpPipelineTests {
         assertNotNull(response);
         assertEquals(200, response.getStatusCode());
     }
+
+    @Test
+    public void meteredPipelineRecordsPoliciesSendAndBodyRead() throws MalformedURLException {
+        final InMemoryHttpPipelineMeter meter = new InMemoryHttpPipelineMeter();
+        final RequestIdPolicy requestIdPolicy = new RequestIdPolicy();
+        final HttpPipeline httpPipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    return Mono.delay(Duration.ofMillis(50))
+                        .map(ignored -> new MockHttpResponse(request, 200, new HttpHeaders(), "body".getBytes()));
+                }
+            })
+            .policies(new UserAgentPolicy(), requestIdPolicy)
+            .meter(meter)
+            .build();
+
+        // The policies are recorded without being wrapped.
+        assertSame(requestIdPolicy, httpPipeline.getPolicy(1));
+
+        for (int i = 0; i < 3; i++) {
+            final HttpResponse response = httpPipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost")))
+                .block();
+            assertEquals("body", response.getBodyAsString().block());
+        }
+
+        assertEquals(3, meter.getSendLatency().getCount());
+        assertTrue(meter.getSendLatency().getPercentileNanos(50) >= TimeUnit.MILLISECONDS.toNanos(40));
+        assertEquals(3, meter.getBodyReadLatency().getCount());
+        assertEquals(3, meter.getPolicyLatencies().get("UserAgentPolicy").getCount());
+        assertEquals(3, meter.getPolicyLatencies().get("RequestIdPolicy").getCount());
+        assertTrue(meter.getPolicyLatencies().get("UserAgentPolicy").getTotalNanos()
+            >= meter.getSendLatency().getTotalNanos());
+    }
 }
@@ -0,0 +1,230 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.MockHttpResponse;
+import com.azure.core.http.clients.NoOpHttpClient;
+import org.junit.Assert;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Mono;
+
+import java.net.URL;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class HedgingPolicyTests {
+
+    @Test
+    public void slowRequestIsHedgedAndLoserCancelled() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final AtomicBoolean primaryCancelled = new AtomicBoolean();
+        final List<Object> hedgeMarkers = new CopyOnWriteArrayList<>();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    if (count.getAndIncrement() == 0) {
+                        return Mono.delay(Duration.ofSeconds(5))
+                            .map(ignored -> (HttpResponse) new MockHttpResponse(request, 500))
+                            .doOnCancel(() -> primaryCancelled.set(true));
+                    }
+                    return Mono.just(new MockHttpResponse(request, 200));
+                }
+            })
+            .policies(new HedgingPolicy(Duration.ofMillis(100)), (context, next) -> {
+                hedgeMarkers.add(context.getData(HedgingPolicy.HEDGE_CONTEXT_KEY).orElse(false));
+                return next.process();
+            })
+            .build();
+
+        final long start = System.currentTimeMillis();
+        HttpResponse response = pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))).block();
+
+        Assert.assertEquals(200, response.getStatusCode());
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000);
+        Assert.assertEquals(2, count.get());
+        Assert.assertTrue(primaryCancelled.get());
+        Assert.assertEquals(2, hedgeMarkers.size());
+        Assert.assertEquals(false, hedgeMarkers.get(0));
+        Assert.assertEquals(true, hedgeMarkers.get(1));
+    }
+
+    @Test
+    public void hedgeIsForkedFromUnmodifiedRequest() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final List<String> sentUrls = new CopyOnWriteArrayList<>();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    sentUrls.add(request.getUrl().toString());
+                    if (count.getAndIncrement() == 0) {
+                        return Mono.delay(Duration.ofSeconds(5)).map(ignored -> new MockHttpResponse(request, 500));
+                    }
+                    return Mono.just(new MockHttpResponse(request, 200));
+                }
+            })
+            // Appends a SAS token to the URL the way a credential policy does, which is not safe to run twice.
+            .policies(new HedgingPolicy(Duration.ofMillis(100)), (context, next) -> {
+                final HttpRequest request = context.getHttpRequest();
+                request.setUrl(request.getUrl().toString() + "?sig=token");
+                return next.process();
+            })
+            .build();
+
+        HttpResponse response = pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))).block();
+
+        Assert.assertEquals(200, response.getStatusCode());
+        Assert.assertEquals(2, sentUrls.size());
+        Assert.assertEquals("http://localhost/?sig=token", sentUrls.get(0));
+        Assert.assertEquals("http://localhost/?sig=token", sentUrls.get(1));
+    }
+
+    @Test
+    public void lateLosingResponseIsClosed() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final AtomicReference<Subscriber<? super HttpResponse>> primarySubscriber = new AtomicReference<>();
+        final AtomicBoolean lateResponseClosed = new AtomicBoolean();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    if (count.getAndIncrement() == 0) {
+                        // A primary request which ignores cancellation, it answers once the hedge already won.
+                        return Mono.from(subscriber -> {
+                            subscriber.onSubscribe(new Subscription() {
+                                @Override
+                                public void request(long n) {
+                                }
+
+                                @Override
+                                public void cancel() {
+                                }
+                            });
+                            primarySubscriber.set(subscriber);
+                        });
+                    }
+                    return Mono.just(new MockHttpResponse(request, 200));
+                }
+            })
+            .policies(new HedgingPolicy(Duration.ofMillis(50)))
+            .build();
+
+        final HttpRequest request = new HttpRequest(HttpMethod.GET, new URL("http://localhost/"));
+        HttpResponse response = pipeline.send(request).block();
+        Assert.assertEquals(200, response.getStatusCode());
+
+        primarySubscriber.get().onNext(new MockHttpResponse(request, 500) {
+            @Override
+            public void close() {
+                lateResponseClosed.set(true);
+            }
+        });
+
+        Assert.assertTrue(lateResponseClosed.get());
+    }
+
+    @Test
+    public void fastRequestIsNotHedged() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    count.incrementAndGet();
+                    return Mono.just(new MockHttpResponse(request, 200));
+                }
+            })
+            .policies(new HedgingPolicy(Duration.ofMillis(50)))
+            .build();
+
+        pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))).block();
+        Thread.sleep(200);
+
+        Assert.assertEquals(1, count.get());
+    }
+
+    @Test
+    public void nonIdempotentRequestIsNotHedged() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    count.incrementAndGet();
+                    return Mono.delay(Duration.ofMillis(300)).map(ignored -> new MockHttpResponse(request, 200));
+                }
+            })
+            .policies(new HedgingPolicy(Duration.ofMillis(50)))
+            .build();
+
+        pipeline.send(new HttpRequest(HttpMethod.POST, new URL("http://localhost/"))).block();
+
+        Assert.assertEquals(1, count.get());
+    }
+
+    @Test
+    public void failedHedgeDoesNotFailRequest() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    if (count.getAndIncrement() == 0) {
+                        return Mono.delay(Duration.ofMillis(300)).map(ignored -> new MockHttpResponse(request, 200));
+                    }
+                    return Mono.error(new RuntimeException("connection reset"));
+                }
+            })
+            .policies(new HedgingPolicy(Duration.ofMillis(50)))
+            .build();
+
+        HttpResponse response = pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))).block();
+
+        Assert.assertEquals(200, response.getStatusCode());
+        Assert.assertEquals(2, count.get());
+    }
+
+    @Test
+    public void hedgedTryCountsOnceTowardsRetries() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    // Every try is slow enough to be hedged, the hedge answers first with a retriable status.
+                    final int sent = count.getAndIncrement();
+                    return sent % 2 == 0
+                        ? Mono.delay(Duration.ofSeconds(5)).map(ignored -> new MockHttpResponse(request, 200))
+                        : Mono.just(new MockHttpResponse(request, sent < 3 ? 503 : 200));
+                }
+            })
+            .policies(new RetryPolicy(new FixedDelay(3, Duration.of(0, ChronoUnit.MILLIS))),
+                new HedgingPolicy(Duration.ofMillis(50)))
+            .build();
+
+        HttpResponse response = pipeline.send(new HttpRequest(HttpMethod.GET, new URL("http://localhost/"))).block();
+
+        // Two tries, each sent twice.
+        Assert.assertEquals(200, response.getStatusCode());
+        Assert.assertEquals(4, count.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPercentile() {
+        new HedgingPolicy(0, Duration.ofMillis(50));
+    }
+}
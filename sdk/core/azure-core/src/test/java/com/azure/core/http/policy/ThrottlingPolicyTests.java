@@ -0,0 +1,123 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.policy;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.MockHttpResponse;
+import com.azure.core.http.clients.NoOpHttpClient;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ThrottlingPolicyTests {
+
+    @Test
+    public void limitsConcurrentRequestsPerHost() throws Exception {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    return Mono.defer(() -> {
+                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        return Mono.delay(Duration.ofMillis(50))
+                            .map(ignored -> {
+                                inFlight.decrementAndGet();
+                                return new MockHttpResponse(request, 200);
+                            });
+                    });
+                }
+            })
+            .policies(new ThrottlingPolicy(2, 2))
+            .build();
+        final URL url = new URL("http://localhost/");
+
+        List<HttpResponse> responses = Flux.range(0, 10)
+            .flatMap(i -> pipeline.send(new HttpRequest(HttpMethod.GET, url)))
+            .collectList()
+            .block();
+
+        Assert.assertEquals(10, responses.size());
+        Assert.assertEquals(2, maxInFlight.get());
+    }
+
+    @Test
+    public void throttlingResponseHalvesLimitAndSuccessGrowsIt() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final ThrottlingPolicy policy = new ThrottlingPolicy(8, 16);
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    return Mono.just(new MockHttpResponse(request, count.getAndIncrement() < 2 ? 429 : 200));
+                }
+            })
+            .policies(policy)
+            .build();
+        final URL url = new URL("http://localhost/");
+
+        pipeline.send(new HttpRequest(HttpMethod.GET, url)).block();
+        Assert.assertEquals(4, policy.getConcurrencyLimit("localhost"));
+
+        // A second throttling response within the decrease interval does not lower the limit again.
+        pipeline.send(new HttpRequest(HttpMethod.GET, url)).block();
+        Assert.assertEquals(4, policy.getConcurrencyLimit("localhost"));
+
+        for (int i = 0; i < 5; i++) {
+            pipeline.send(new HttpRequest(HttpMethod.GET, url)).block();
+        }
+        Assert.assertEquals(5, policy.getConcurrencyLimit("localhost"));
+        Assert.assertEquals(8, policy.getConcurrencyLimit("otherhost"));
+    }
+
+    @Test
+    public void retryAfterPausesHost() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(new NoOpHttpClient() {
+                @Override
+                public Mono<HttpResponse> send(HttpRequest request) {
+                    if (count.getAndIncrement() == 0) {
+                        return Mono.just(new MockHttpResponse(request, 503,
+                            new HttpHeaders().put("x-ms-retry-after-ms", "500")));
+                    }
+                    return Mono.just(new MockHttpResponse(request, 200));
+                }
+            })
+            .policies(new ThrottlingPolicy())
+            .build();
+        final URL url = new URL("http://localhost/");
+
+        Assert.assertEquals(503, pipeline.send(new HttpRequest(HttpMethod.GET, url)).block().getStatusCode());
+        final long start = System.currentTimeMillis();
+        Assert.assertEquals(200, pipeline.send(new HttpRequest(HttpMethod.GET, url)).block().getStatusCode());
+        Assert.assertTrue(System.currentTimeMillis() - start >= 400);
+    }
+
+    @Test
+    public void readsRetryAfterHeaders() throws Exception {
+        final HttpRequest request = new HttpRequest(HttpMethod.GET, new URL("http://localhost/"));
+
+        Assert.assertEquals(250, ThrottlingPolicy.getRetryAfterMillis(
+            new MockHttpResponse(request, 429, new HttpHeaders().put("retry-after-ms", "250"))));
+        Assert.assertEquals(2000, ThrottlingPolicy.getRetryAfterMillis(
+            new MockHttpResponse(request, 429, new HttpHeaders().put("Retry-After", "2"))));
+        Assert.assertEquals(-1, ThrottlingPolicy.getRetryAfterMillis(
+            new MockHttpResponse(request, 429, new HttpHeaders().put("Retry-After", "soon"))));
+        Assert.assertEquals(-1, ThrottlingPolicy.getRetryAfterMillis(
+            new MockHttpResponse(request, 200, new HttpHeaders().put("Retry-After", "2"))));
+    }
+}
@@ -9,7 +9,11 @@ import com.azure.core.http.HttpRequest;
 import com.azure.core.implementation.http.PagedResponseBase;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.Before;
@@ -18,6 +22,9 @@ import org.junit.Test;
 import org.junit.rules.TestName;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * Unit tests for {@link PagedFlux}
@@ -166,6 +173,111 @@ public class PagedFluxTest {
             .verifyComplete();
     }
 
+    @Test
+    public void testPagedFluxPrefetchesAheadOfDemand() throws MalformedURLException {
+        AtomicInteger fetches = new AtomicInteger();
+        PagedFlux<Integer> pagedFlux = getCountingPagedFlux(10, fetches);
+
+        StepVerifier.create(pagedFlux.byPage(2), 0)
+            .thenRequest(1)
+            .expectNext(pagedResponses.get(0))
+            .then(() -> assertEquals(3, fetches.get()))
+            .thenRequest(1)
+            .expectNext(pagedResponses.get(1))
+            .then(() -> assertEquals(4, fetches.get()))
+            .thenCancel()
+            .verify();
+    }
+
+    @Test
+    public void testPagedFluxWithoutPrefetchFetchesOnDemand() throws MalformedURLException {
+        AtomicInteger fetches = new AtomicInteger();
+        PagedFlux<Integer> pagedFlux = getCountingPagedFlux(10, fetches);
+
+        StepVerifier.create(pagedFlux.byPage(0), 0)
+            .then(() -> assertEquals(0, fetches.get()))
+            .thenRequest(2)
+            .expectNext(pagedResponses.get(0), pagedResponses.get(1))
+            .then(() -> assertEquals(2, fetches.get()))
+            .thenCancel()
+            .verify();
+    }
+
+    @Test
+    public void testPagedFluxPrefetchWithAsyncPages() throws MalformedURLException {
+        getIntegerPagedFlux(5);
+        PagedFlux<Integer> pagedFlux = new PagedFlux<>(
+            () -> Mono.delay(Duration.ofMillis(10)).map(ignored -> pagedResponses.get(0)),
+            continuationToken -> Mono.delay(Duration.ofMillis(10))
+                .then(getNextPage(continuationToken, pagedResponses)));
+
+        StepVerifier.create(pagedFlux.byPage(3))
+            .expectNext(pagedResponses.get(0), pagedResponses.get(1), pagedResponses.get(2),
+                pagedResponses.get(3), pagedResponses.get(4))
+            .verifyComplete();
+
+        StepVerifier.create(pagedFlux.byPage("2", 3))
+            .expectNext(pagedResponses.get(2), pagedResponses.get(3), pagedResponses.get(4))
+            .verifyComplete();
+    }
+
+    @Test
+    public void testPagedFluxPageError() throws MalformedURLException {
+        getIntegerPagedFlux(5);
+        PagedFlux<Integer> pagedFlux = new PagedFlux<>(() -> Mono.just(pagedResponses.get(0)),
+            continuationToken -> Mono.error(new IllegalStateException("page " + continuationToken)));
+
+        StepVerifier.create(pagedFlux.byPage(2))
+            .expectNext(pagedResponses.get(0))
+            .verifyErrorMessage("page 1");
+    }
+
+    @Test
+    public void testPagedFluxManySynchronousPages() throws MalformedURLException {
+        PagedFlux<Integer> pagedFlux = getIntegerPagedFlux(10000);
+        StepVerifier.create(pagedFlux.byPage().count())
+            .expectNext(10000L)
+            .verifyComplete();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPagedFluxNegativePrefetch() throws MalformedURLException {
+        getIntegerPagedFlux(1).byPage(-1);
+    }
+
+    @Test
+    public void testPagedFluxSubscriberContextReachesPageRetrievers() throws MalformedURLException {
+        getIntegerPagedFlux(3);
+        List<String> seen = new ArrayList<>();
+        PagedFlux<Integer> pagedFlux = new PagedFlux<>(
+            () -> Mono.subscriberContext().flatMap(context -> {
+                seen.add(context.get("key"));
+                return Mono.just(pagedResponses.get(0));
+            }),
+            continuationToken -> Mono.subscriberContext().flatMap(context -> {
+                seen.add(context.get("key"));
+                return getNextPage(continuationToken, pagedResponses);
+            }));
+
+        StepVerifier.create(pagedFlux.byPage()
+            .subscriberContext(Context.of("key", "value")))
+            .expectNextCount(3)
+            .verifyComplete();
+        assertEquals(Arrays.asList("value", "value", "value"), seen);
+    }
+
+    private PagedFlux<Integer> getCountingPagedFlux(int noOfPages, AtomicInteger fetches)
+        throws MalformedURLException {
+        getIntegerPagedFlux(noOfPages);
+        return new PagedFlux<>(() -> Mono.fromCallable(() -> {
+            fetches.incrementAndGet();
+            return pagedResponses.get(0);
+        }), continuationToken -> Mono.defer(() -> {
+            fetches.incrementAndGet();
+            return getNextPage(continuationToken, pagedResponses);
+        }));
+    }
+
     private PagedFlux<Integer> getIntegerPagedFlux(int noOfPages) throws MalformedURLException {
         HttpHeaders httpHeaders = new HttpHeaders().put("header1", "value1")
             .put("header2", "value2");
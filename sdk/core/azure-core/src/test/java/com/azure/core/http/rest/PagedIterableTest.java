@@ -56,6 +56,20 @@ public class PagedIterableTest {
         }
     }
 
+    @Test
+    public void testPageIterableWithPrefetch() {
+        PagedFlux<Integer> pagedFlux = getIntegerPagedFlux(5);
+        PagedIterable<Integer> pagedIterable = new PagedIterable<>(pagedFlux);
+
+        int index = 0;
+        for (PagedResponse<Integer> pagedResponse : pagedIterable.iterableByPage(2)) {
+            assertEquals(pagedResponses.get(index++), pagedResponse);
+        }
+        assertEquals(5, index);
+        assertEquals(pagedResponses.subList(3, 5),
+            pagedIterable.streamByPage("3", 2).collect(Collectors.toList()));
+    }
+
     @Test
     public void testStream() {
         PagedFlux<Integer> pagedFlux = getIntegerPagedFlux(5);
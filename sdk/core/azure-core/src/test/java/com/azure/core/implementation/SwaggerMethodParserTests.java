@@ -6,19 +6,29 @@ package com.azure.core.implementation;
 import com.azure.core.MyOtherRestException;
 import com.azure.core.MyRestException;
 import com.azure.core.annotation.ExpectedResponses;
+import com.azure.core.annotation.Get;
+import com.azure.core.annotation.HeaderParam;
+import com.azure.core.annotation.Headers;
+import com.azure.core.annotation.HostParam;
 import com.azure.core.annotation.Patch;
+import com.azure.core.annotation.PathParam;
 import com.azure.core.annotation.UnexpectedResponseExceptionType;
 import com.azure.core.implementation.entities.HttpBinJSON;
 import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpHeader;
+import com.azure.core.http.HttpHeaders;
 import com.azure.core.http.HttpMethod;
 import com.azure.core.implementation.exception.MissingRequiredAnnotationException;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Iterator;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 public class SwaggerMethodParserTests {
 
@@ -206,4 +216,68 @@ public class SwaggerMethodParserTests {
         assertEquals("https", methodParser.setScheme(null));
         assertEquals("raw.host.com", methodParser.setHost(null));
     }
+
+    interface TestInterface9 {
+        @Get("{container}/{blob}/{container}?comp={comp}&{unknown}")
+        void testMethod9(@PathParam("container") String container, @PathParam("blob") String blob,
+                         @PathParam(value = "comp", encoded = true) String comp);
+    }
+
+    @Test
+    public void pathTemplateSubstitutions() {
+        final Method testMethod9 = TestInterface9.class.getDeclaredMethods()[0];
+        final SwaggerMethodParser methodParser = new SwaggerMethodParser(testMethod9, "https://raw.host.com");
+
+        assertEquals("c/b/c?comp=x&{unknown}", methodParser.setPath(new Object[] { "c", "b", "x" }));
+        assertEquals("c%20d/a%2fb/c%20d?comp=x/y&{unknown}",
+            methodParser.setPath(new Object[] { "c d", "a/b", "x/y" }));
+        assertEquals("//?comp=&{unknown}", methodParser.setPath(new Object[] { null, "", "" }));
+        assertEquals("c/{blob}/c?comp={comp}&{unknown}", methodParser.setPath(new Object[] { "c" }));
+        assertEquals("{container}/{blob}/{container}?comp={comp}&{unknown}", methodParser.setPath(null));
+    }
+
+    interface TestInterface10 {
+        @Get("path")
+        @Headers({ "x-ms-version: 2019-02-02", "x-ms-constant: value" })
+        void testMethod10(@HostParam("accountName") String accountName, @HeaderParam("x-ms-meta-") Object meta);
+    }
+
+    @Test
+    public void hostTemplateAndHeaderSubstitutions() {
+        final Method testMethod10 = TestInterface10.class.getDeclaredMethods()[0];
+        final SwaggerMethodParser methodParser =
+            new SwaggerMethodParser(testMethod10, "https://{accountName}.blob.core.windows.net");
+
+        final Object[] arguments = new Object[] { "myaccount", Collections.singletonMap("key", "value") };
+        assertEquals("https", methodParser.setScheme(arguments));
+        assertEquals("myaccount.blob.core.windows.net", methodParser.setHost(arguments));
+
+        final HttpHeaders headers = new HttpHeaders(methodParser.setHeaders(arguments));
+        assertEquals(3, headers.getSize());
+        assertEquals("2019-02-02", headers.getValue("x-ms-version"));
+        assertEquals("value", headers.getValue("x-ms-constant"));
+        assertEquals("value", headers.getValue("x-ms-meta-key"));
+    }
+
+    interface TestInterface11 {
+        @Get("path")
+        @Headers({ "x-ms-version: 2019-02-02" })
+        void testMethod11();
+    }
+
+    @Test
+    public void constantHostAndHeaders() {
+        final Method testMethod11 = TestInterface11.class.getDeclaredMethods()[0];
+        final SwaggerMethodParser methodParser = new SwaggerMethodParser(testMethod11, "raw.host.com");
+
+        assertEquals("raw.host.com", methodParser.setScheme(new Object[0]));
+        assertEquals("raw.host.com", methodParser.setHost(new Object[0]));
+        assertEquals("path", methodParser.setPath(new Object[0]));
+
+        final Iterator<HttpHeader> headers = methodParser.setHeaders(new Object[0]).iterator();
+        final HttpHeader header = headers.next();
+        assertEquals("x-ms-version", header.getName());
+        assertEquals("2019-02-02", header.getValue());
+        assertFalse(headers.hasNext());
+    }
 }
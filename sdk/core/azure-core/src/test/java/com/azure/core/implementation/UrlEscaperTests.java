@@ -67,4 +67,29 @@ public class UrlEscaperTests {
         String actual = escaper.escape(safeForQuery);
         Assert.assertEquals(safeForQuery, actual);
     }
+
+    @Test
+    public void safeInputIsReturnedUnchanged() {
+        Assert.assertSame(simple, UrlEscapers.PATH_ESCAPER.escape(simple));
+        Assert.assertSame(safeForQuery, UrlEscapers.QUERY_ESCAPER.escape(safeForQuery));
+    }
+
+    @Test
+    public void canEscapeSpace() {
+        Assert.assertEquals("a%20b", UrlEscapers.PATH_ESCAPER.escape("a b"));
+        Assert.assertEquals("a+b", UrlEscapers.FORM_ESCAPER.escape("a b"));
+    }
+
+    @Test
+    public void canEscapeAfterSafePrefix() {
+        Assert.assertEquals("container/blob%20name%2b1.txt",
+            UrlEscapers.QUERY_ESCAPER.escape("container/blob name+1.txt"));
+    }
+
+    @Test
+    public void canEscapeNonAsciiAsUtf8() {
+        Assert.assertEquals("caf%c3%a9", UrlEscapers.PATH_ESCAPER.escape("caf\u00e9"));
+        Assert.assertEquals("%e2%82%ac1", UrlEscapers.PATH_ESCAPER.escape("\u20ac1"));
+        Assert.assertEquals("a%f0%9f%98%80b", UrlEscapers.PATH_ESCAPER.escape("a\ud83d\ude00b"));
+    }
 }
@@ -729,4 +729,15 @@ public class UrlBuilderTests {
         final UrlBuilder builder = UrlBuilder.parse(new URL("http://www.bing.com"));
         assertEquals("http://www.bing.com", builder.toString());
     }
+
+    @Test
+    public void copyIsIndependentOfOriginal() {
+        final UrlBuilder original = UrlBuilder.parse("https://www.bing.com:987/my/path?a=1");
+        final UrlBuilder copy = original.copy()
+            .setPath("other")
+            .setQueryParameter("b", "2");
+
+        assertEquals("https://www.bing.com:987/my/path?a=1", original.toString());
+        assertEquals("https://www.bing.com:987/other?a=1&b=2", copy.toString());
+    }
 }
@@ -0,0 +1,120 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.serializer.jackson;
+
+import com.azure.core.implementation.serializer.SerializerEncoding;
+import com.azure.core.implementation.util.Foo;
+import com.azure.core.implementation.util.TypeUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class CachingJacksonAdapterTests {
+    @Test
+    public void serializesLikeJacksonAdapter() throws IOException {
+        final Foo foo = new Foo();
+        foo.bar("hello.world");
+        foo.baz(new ArrayList<>(Arrays.asList("hello", "hello.world")));
+        foo.qux(new HashMap<>());
+        foo.qux().put("a.b", "c.d");
+        foo.moreProps("hello");
+        foo.additionalProperties(new HashMap<>());
+        foo.additionalProperties().put("extra", "value");
+
+        final JacksonAdapter expected = new JacksonAdapter();
+        final CachingJacksonAdapter adapter = new CachingJacksonAdapter();
+        final String serialized = expected.serialize(foo, SerializerEncoding.JSON);
+        assertEquals(serialized, adapter.serialize(foo, SerializerEncoding.JSON));
+        assertEquals(serialized, adapter.serialize(foo, SerializerEncoding.JSON));
+        assertArrayEquals(serialized.getBytes(StandardCharsets.UTF_8),
+            adapter.serializeToBytes(foo, SerializerEncoding.JSON));
+
+        final Greeting greeting = new Greeting("world");
+        final String xml = expected.serialize(greeting, SerializerEncoding.XML);
+        assertEquals(xml, adapter.serialize(greeting, SerializerEncoding.XML));
+        assertEquals("world", adapter.<Greeting>deserialize(xml, Greeting.class, SerializerEncoding.XML).name);
+    }
+
+    @Test
+    public void deserializesLikeJacksonAdapter() throws IOException {
+        final String json = "{\"$type\":\"foo\",\"properties\":{\"bar\":\"hello.world\",\"props\":{\"baz\":[\"a\"]},"
+            + "\"more.props\":\"hello\"},\"extra\":\"value\"}";
+        final CachingJacksonAdapter adapter = new CachingJacksonAdapter();
+
+        for (int i = 0; i < 2; i++) {
+            final Foo fromString = adapter.deserialize(json, Foo.class, SerializerEncoding.JSON);
+            final Foo fromBytes = adapter.deserialize(json.getBytes(StandardCharsets.UTF_8), Foo.class,
+                SerializerEncoding.JSON);
+            for (Foo foo : Arrays.asList(fromString, fromBytes)) {
+                assertEquals("hello.world", foo.bar());
+                assertEquals(Arrays.asList("a"), foo.baz());
+                assertEquals("hello", foo.moreProps());
+                assertEquals("value", foo.additionalProperties().get("extra"));
+            }
+        }
+    }
+
+    @Test
+    public void deserializesParameterizedTypes() throws IOException {
+        final CachingJacksonAdapter adapter = new CachingJacksonAdapter();
+        for (int i = 0; i < 2; i++) {
+            // A new, identity compared, parameterized type on every call.
+            final Type listType = TypeUtil.createParameterizedType(List.class, Integer.class);
+            final List<Integer> list = adapter.deserialize("[1,2,3]", listType, SerializerEncoding.JSON);
+            assertEquals(Arrays.asList(1, 2, 3), list);
+        }
+    }
+
+    @Test
+    public void cachesReadersAndWriters() {
+        final CachingJacksonAdapter adapter = new CachingJacksonAdapter();
+
+        assertSame(adapter.createJavaType(Foo.class), adapter.createJavaType(Foo.class));
+        assertSame(adapter.getReader(adapter.createJavaType(Foo.class), SerializerEncoding.JSON),
+            adapter.getReader(adapter.createJavaType(Foo.class), SerializerEncoding.JSON));
+        assertSame(adapter.getWriter(Foo.class, SerializerEncoding.XML),
+            adapter.getWriter(Foo.class, SerializerEncoding.XML));
+    }
+
+    @Test
+    public void registersAdditionalModules() throws IOException {
+        final SimpleModule module = new SimpleModule();
+        module.addSerializer(new StdSerializer<Greeting>(Greeting.class) {
+            @Override
+            public void serialize(Greeting value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                gen.writeString("hello " + value.name);
+            }
+        });
+
+        final CachingJacksonAdapter adapter = new CachingJacksonAdapter(module);
+        assertEquals("\"hello world\"", adapter.serialize(new Greeting("world"), SerializerEncoding.JSON));
+        assertEquals("[\"hello world\"]",
+            adapter.serialize(Arrays.asList(new Greeting("world")), SerializerEncoding.JSON));
+    }
+
+    private static final class Greeting {
+        private String name;
+
+        Greeting() {
+        }
+
+        Greeting(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -33,7 +33,11 @@ public class FlatteningSerializerTests {
 
         // serialization
         String serialized = adapter.serialize(foo, SerializerEncoding.JSON);
-        Assert.assertEquals("{\"$type\":\"foo\",\"properties\":{\"bar\":\"hello.world\",\"props\":{\"baz\":[\"hello\",\"hello.world\"],\"q\":{\"qux\":{\"hello\":\"world\",\"a.b\":\"c.d\",\"bar.b\":\"uuzz\",\"bar.a\":\"ttyy\"}}},\"more.props\":\"hello\"}}", serialized);
+        Assert.assertEquals("{\"$type\":\"foo\",\"properties\":{\"bar\":\"hello.world\",\"props\":{\"baz\":[\"hello\",\"hello.world\"],\"q\":{\"qux\":{\"a.b\":\"c.d\",\"bar.a\":\"ttyy\",\"bar.b\":\"uuzz\",\"hello\":\"world\"}}},\"more.props\":\"hello\"}}", serialized);
+
+        // the map keys of the serialized object are left unchanged
+        Assert.assertEquals("c.d", foo.qux().get("a.b"));
+        Assert.assertEquals("ttyy", foo.qux().get("bar.a"));
 
         // deserialization
         Foo deserialized = adapter.deserialize(serialized, Foo.class, SerializerEncoding.JSON);
@@ -47,10 +51,23 @@ public class FlatteningSerializerTests {
         Assert.assertEquals("hello", deserialized.moreProps());
     }
 
+    @Test
+    public void canDeserializePartialPayload() throws Exception {
+        String wireValue = "{\"$type\":\"foo\",\"unknown\":{\"properties\":{\"bar\":\"nested\"}},"
+            + "\"properties\":{\"props\":\"not an object\",\"more.props\":\"hello\",\"bar\":\"hello.world\"}}";
+
+        Foo deserialized = new JacksonAdapter().deserialize(wireValue, Foo.class, SerializerEncoding.JSON);
+        Assert.assertEquals("hello.world", deserialized.bar());
+        Assert.assertEquals("hello", deserialized.moreProps());
+        Assert.assertNull(deserialized.baz());
+        Assert.assertNull(deserialized.qux());
+        Assert.assertNull(deserialized.empty());
+    }
+
     @Test
     public void canSerializeMapKeysWithDotAndSlash() throws Exception {
         String serialized = new JacksonAdapter().serialize(prepareSchoolModel(), SerializerEncoding.JSON);
-        Assert.assertEquals("{\"teacher\":{\"students\":{\"af.B/D\":{},\"af.B/C\":{}}},\"tags\":{\"foo.aa\":\"bar\",\"x.y\":\"zz\"},\"properties\":{\"name\":\"school1\"}}", serialized);
+        Assert.assertEquals("{\"teacher\":{\"students\":{\"af.B/C\":{},\"af.B/D\":{}}},\"tags\":{\"x.y\":\"zz\",\"foo.aa\":\"bar\"},\"properties\":{\"name\":\"school1\"}}", serialized);
     }
 
     @JsonFlatten
@@ -3,15 +3,21 @@
 
 package com.azure.core.implementation.serializer.jackson;
 
+import com.azure.core.annotation.HeaderCollection;
+import com.azure.core.http.HttpHeaders;
 import com.azure.core.implementation.serializer.SerializerEncoding;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class JacksonAdapterTests {
     @Test
@@ -56,6 +62,57 @@ public class JacksonAdapterTests {
         assertEquals("{\"\":\"test\"}", serializer.serialize(map, SerializerEncoding.JSON));
     }
 
+    @Test
+    public void serializeToBytesMatchesSerialize() throws IOException {
+        final MapHolder mapHolder = new MapHolder();
+        mapHolder.map().put("k\u00e9y", "v\u00e0lue");
+        final JacksonAdapter serializer = new JacksonAdapter();
+        final String expected = serializer.serialize(mapHolder, SerializerEncoding.JSON);
+        assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8),
+            serializer.serializeToBytes(mapHolder, SerializerEncoding.JSON));
+    }
+
+    @Test
+    public void serializeToBytesNull() throws IOException {
+        final JacksonAdapter serializer = new JacksonAdapter();
+        assertNull(serializer.serializeToBytes(null, SerializerEncoding.JSON));
+    }
+
+    @Test
+    public void deserializeBytesWithBom() throws IOException {
+        final byte[] json = "\uFEFF{\"map\":{\"key\":\"value\"}}".getBytes(StandardCharsets.UTF_8);
+        final JacksonAdapter serializer = new JacksonAdapter();
+        final MapHolder mapHolder = serializer.deserialize(json, MapHolder.class, SerializerEncoding.JSON);
+        assertEquals("value", mapHolder.map().get("key"));
+    }
+
+    @Test
+    public void deserializeEmptyBytes() throws IOException {
+        final JacksonAdapter serializer = new JacksonAdapter();
+        assertNull(serializer.deserialize(new byte[0], MapHolder.class, SerializerEncoding.JSON));
+        assertNull(serializer.deserialize("\uFEFF".getBytes(StandardCharsets.UTF_8), MapHolder.class,
+            SerializerEncoding.JSON));
+    }
+
+    @Test
+    public void deserializeHeaders() throws IOException {
+        final HttpHeaders headers = new HttpHeaders()
+            .put("ETag", "tag")
+            .put("x-ms-meta-color", "blue");
+        final JacksonAdapter serializer = new JacksonAdapter();
+        final HeadersHolder holder = serializer.deserialize(headers, HeadersHolder.class);
+        assertEquals("tag", holder.etag);
+        assertEquals("blue", holder.metadata.get("color"));
+    }
+
+    private static class HeadersHolder {
+        @JsonProperty("etag")
+        private String etag;
+
+        @HeaderCollection("x-ms-meta-")
+        private Map<String, String> metadata;
+    }
+
     private static class MapHolder {
         @JsonInclude(content = JsonInclude.Include.ALWAYS)
         private Map<String, String> map = new HashMap<>();
@@ -0,0 +1,86 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class ContextTests {
+    @Test
+    public void getDataFromShortChain() {
+        Context context = new Context("a", 1).addData("b", 2).addData("a", 3);
+
+        assertEquals(Optional.of(3), context.getData("a"));
+        assertEquals(Optional.of(2), context.getData("b"));
+        assertFalse(context.getData("c").isPresent());
+    }
+
+    @Test
+    public void getDataFromLongChain() {
+        Context context = Context.NONE;
+        for (int i = 0; i < 50; i++) {
+            context = context.addData("key" + i, i);
+        }
+        Context overridden = context.addData("key10", "overridden");
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(Optional.of(i), context.getData("key" + i));
+        }
+        assertEquals(Optional.of("overridden"), overridden.getData("key10"));
+        assertEquals(Optional.of(10), context.getData("key10"));
+        assertEquals(Optional.of(49), overridden.getData("key49"));
+        assertFalse(overridden.getData("key50").isPresent());
+    }
+
+    @Test
+    public void getDataFromEachContextOfLongChain() {
+        Context[] contexts = new Context[20];
+        Context context = new Context("key", 0);
+        contexts[0] = context;
+        for (int i = 1; i < contexts.length; i++) {
+            context = context.addData(i % 2 == 0 ? "key" : "other" + i, i);
+            contexts[i] = context;
+        }
+
+        for (int i = 0; i < contexts.length; i++) {
+            assertEquals(Optional.of(i - i % 2), contexts[i].getData("key"));
+            assertFalse(contexts[i].getData("other" + (i + 1)).isPresent());
+        }
+    }
+
+    @Test
+    public void getDataFromContextsSharingAnIndexedAncestor() {
+        Context base = Context.NONE;
+        for (int i = 0; i < 30; i++) {
+            base = base.addData("key" + i, i);
+        }
+        Context left = base;
+        Context right = base;
+        for (int i = 0; i < 30; i++) {
+            left = left.addData("left" + i, i);
+            right = right.addData("key" + i, "right" + i);
+            assertEquals(Optional.of(0), left.getData("key0"));
+            assertEquals(Optional.of("right0"), right.getData("key0"));
+            assertFalse(right.getData("left0").isPresent());
+        }
+
+        assertEquals(Optional.of(29), left.getData("left29"));
+        assertEquals(Optional.of("right29"), right.getData("key29"));
+        assertEquals(Optional.of(29), base.getData("key29"));
+        assertFalse(base.getData("left0").isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getDataWithNullKey() {
+        Context context = Context.NONE;
+        for (int i = 0; i < 20; i++) {
+            context = context.addData("key" + i, i);
+        }
+        context.getData(null);
+    }
+}
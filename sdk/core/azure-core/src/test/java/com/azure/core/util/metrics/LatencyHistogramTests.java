@@ -0,0 +1,42 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTests {
+    @Test
+    public void bucketsCoverValuesWithBoundedError() {
+        for (long value : new long[] { 0, 1, 7, 8, 9, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE / 3 }) {
+            final long upperBound = LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(value));
+            Assert.assertTrue(upperBound >= value);
+            Assert.assertTrue(upperBound - value <= value / 8);
+        }
+        Assert.assertEquals(Long.MAX_VALUE,
+            LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void percentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getPercentileNanos(99));
+
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+
+        Assert.assertEquals(100, histogram.getCount());
+        Assert.assertEquals(5050 * 1_000_000L, histogram.getTotalNanos());
+        Assert.assertEquals(100_000_000L, histogram.getMaxNanos());
+        assertWithin(50_000_000L, histogram.getPercentileNanos(50));
+        assertWithin(99_000_000L, histogram.getPercentileNanos(99));
+        Assert.assertEquals(100_000_000L, histogram.getPercentileNanos(100));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        Assert.assertTrue(actual >= expected);
+        Assert.assertTrue(actual <= expected + expected / 8);
+    }
+}
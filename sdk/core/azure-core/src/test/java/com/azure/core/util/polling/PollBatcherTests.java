@@ -0,0 +1,110 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.polling;
+
+import com.azure.core.util.polling.PollResponse.OperationStatus;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PollBatcherTests {
+    @Test
+    public void batchesPollsWithinWindow() {
+        final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        final PollBatcher<String, String> batcher = new PollBatcher<>(ids -> {
+            batches.add(ids);
+            return Mono.just(completed(ids));
+        }, 10, Duration.ofMillis(100));
+
+        final List<PollResponse<String>> responses = Flux.just("a", "b", "c", "a")
+            .flatMap(id -> batcher.getPollOperation(id).apply(null))
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertEquals(1, batches.size());
+        assertEquals(Arrays.asList("a", "b", "c"), batches.get(0));
+        assertEquals(4, responses.size());
+    }
+
+    @Test
+    public void sendsFullBatchesEarly() {
+        final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        final PollBatcher<String, String> batcher = new PollBatcher<>(ids -> {
+            batches.add(ids);
+            return Mono.just(completed(ids));
+        }, 2, Duration.ofSeconds(30));
+
+        final List<PollResponse<String>> responses = Flux.just("a", "b", "c", "d")
+            .flatMap(id -> batcher.getPollOperation(id).apply(null))
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertEquals(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c", "d")), batches);
+        assertEquals(4, responses.size());
+    }
+
+    @Test
+    public void pollFailsWithoutResponseForOperation() {
+        final PollBatcher<String, String> batcher = new PollBatcher<>(ids -> Mono.just(completed(
+            Collections.singletonList("a"))), 10, Duration.ZERO);
+
+        assertEquals("a", batcher.getPollOperation("a").apply(null).block(Duration.ofSeconds(5)).getValue());
+        try {
+            batcher.getPollOperation("b").apply(null).block(Duration.ofSeconds(5));
+        } catch (IllegalStateException ex) {
+            assertTrue(ex.getMessage().contains("b"));
+            return;
+        }
+        throw new AssertionError("Expected the poll to fail.");
+    }
+
+    @Test
+    public void pollerCompletesWithBatchedPolls() {
+        final Map<String, Integer> pollCounts = new HashMap<>();
+        final PollBatcher<String, String> batcher = new PollBatcher<>(ids -> {
+            final Map<String, PollResponse<String>> responses = new HashMap<>();
+            synchronized (pollCounts) {
+                for (String id : ids) {
+                    final int count = pollCounts.merge(id, 1, Integer::sum);
+                    responses.put(id, new PollResponse<>(count < 2 ? OperationStatus.IN_PROGRESS
+                        : OperationStatus.SUCCESSFULLY_COMPLETED, id));
+                }
+            }
+            return Mono.just(responses);
+        }, 10, Duration.ofMillis(10));
+
+        final List<Poller<String, String>> pollers = new ArrayList<>();
+        for (String id : Arrays.asList("a", "b", "c")) {
+            pollers.add(new Poller<>(Duration.ofMillis(50), batcher.getPollOperation(id), () -> Mono.just(id)));
+        }
+        for (Poller<String, String> poller : pollers) {
+            assertEquals(OperationStatus.SUCCESSFULLY_COMPLETED,
+                poller.blockUntil(OperationStatus.SUCCESSFULLY_COMPLETED, Duration.ofSeconds(5)).getStatus());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorMaxBatchSizeZero() {
+        new PollBatcher<String, String>(ids -> Mono.empty(), 0, Duration.ZERO);
+    }
+
+    private static Map<String, PollResponse<String>> completed(List<String> ids) {
+        final Map<String, PollResponse<String>> responses = new HashMap<>();
+        for (String id : ids) {
+            responses.put(id, new PollResponse<>(OperationStatus.SUCCESSFULLY_COMPLETED, id));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,67 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.util.polling;
+
+import org.junit.Test;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TimingWheelTests {
+    @Test
+    public void runsTasksAfterTheirDelay() throws InterruptedException {
+        // A small wheel, so that some delays take several rounds.
+        final TimingWheel wheel = new TimingWheel(Duration.ofMillis(5), 4, Runnable::run);
+        final List<Long> lateness = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(4);
+
+        for (long delayMillis : new long[] {0, 20, 50, 120}) {
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+            wheel.schedule(() -> {
+                lateness.add(System.nanoTime() - deadline);
+                latch.countDown();
+            }, Duration.ofMillis(delayMillis));
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        for (long nanos : lateness) {
+            assertTrue("Task ran " + nanos + "ns early.", nanos >= 0);
+        }
+    }
+
+    @Test
+    public void cancelledTasksDoNotRun() throws InterruptedException {
+        final TimingWheel wheel = new TimingWheel(Duration.ofMillis(5), 4, Runnable::run);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        final CountDownLatch scheduled = new CountDownLatch(1);
+
+        final Disposable disposable = wheel.schedule(cancelled::countDown, Duration.ofMillis(50));
+        wheel.schedule(scheduled::countDown, Duration.ofMillis(100));
+        disposable.dispose();
+
+        assertTrue(disposable.isDisposed());
+        assertTrue(scheduled.await(5, TimeUnit.SECONDS));
+        assertEquals(1, cancelled.getCount());
+    }
+
+    @Test
+    public void wakesUpWhenIdle() throws InterruptedException {
+        final TimingWheel wheel = new TimingWheel(Duration.ofMillis(5), 4, Runnable::run);
+        for (int i = 0; i < 3; i++) {
+            final CountDownLatch latch = new CountDownLatch(1);
+            wheel.schedule(latch::countDown, Duration.ofMillis(10));
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            // Let the wheel park before scheduling the next task.
+            Thread.sleep(50);
+        }
+        assertEquals(Long.valueOf(0), wheel.delay(Duration.ofMillis(10)).block(Duration.ofSeconds(5)));
+    }
+}
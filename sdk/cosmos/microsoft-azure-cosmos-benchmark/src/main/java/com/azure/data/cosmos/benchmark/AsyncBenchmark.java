@@ -76,7 +76,8 @@ abstract class AsyncBenchmark<T> {
 
         if (configuration.getOperationType() != Operation.WriteLatency
                 && configuration.getOperationType() != Operation.WriteThroughput
-                && configuration.getOperationType() != Operation.ReadMyWrites) {
+                && configuration.getOperationType() != Operation.ReadMyWrites
+                && configuration.getOperationType() != Operation.BulkIngest) {
             String dataFieldValue = RandomStringUtils.randomAlphabetic(cfg.getDocumentDataFieldSize());
             for (int i = 0; i < cfg.getNumberOfPreCreatedDocuments(); i++) {
                 String uuid = UUID.randomUUID().toString();
@@ -0,0 +1,79 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.benchmark;
+
+import com.azure.data.cosmos.BridgeInternal;
+import com.azure.data.cosmos.internal.BulkExecutor;
+import com.azure.data.cosmos.internal.Document;
+import com.azure.data.cosmos.internal.ResourceResponse;
+import org.apache.commons.lang3.RandomStringUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.UnicastProcessor;
+
+import java.util.UUID;
+
+/**
+ * Ingests documents through a single {@link BulkExecutor}, which groups them by physical partition and adapts the
+ * concurrency of each partition to its throttling.
+ */
+class AsyncBulkIngestBenchmark extends AsyncBenchmark<ResourceResponse<Document>> {
+
+    private final String uuid;
+    private final String dataFieldValue;
+    private final FluxSink<BulkExecutor.ItemOperation<BaseSubscriber<ResourceResponse<Document>>>> operations;
+    private final Disposable execution;
+
+    AsyncBulkIngestBenchmark(Configuration cfg) {
+        super(cfg);
+        uuid = UUID.randomUUID().toString();
+        dataFieldValue = RandomStringUtils.randomAlphabetic(configuration.getDocumentDataFieldSize());
+
+        UnicastProcessor<BulkExecutor.ItemOperation<BaseSubscriber<ResourceResponse<Document>>>> processor =
+            UnicastProcessor.create();
+        operations = processor.sink();
+
+        // The concurrency of the benchmark bounds the operations queued or in flight, the executor the requests sent.
+        BulkExecutor executor = new BulkExecutor(client, getCollectionLink(), Math.min(4, cfg.getConcurrency()),
+            cfg.getConcurrency(), 9);
+        execution = executor.execute(processor).subscribe(this::onResult,
+            error -> logger.error("Bulk ingestion failed", error));
+    }
+
+    @Override
+    protected void performWorkload(BaseSubscriber<ResourceResponse<Document>> baseSubscriber, long i) throws InterruptedException {
+
+        String idString = uuid + i;
+        Document newDoc = new Document();
+        newDoc.id(idString);
+        BridgeInternal.setProperty(newDoc, partitionKey, idString);
+        BridgeInternal.setProperty(newDoc, "dataField1", dataFieldValue);
+        BridgeInternal.setProperty(newDoc, "dataField2", dataFieldValue);
+        BridgeInternal.setProperty(newDoc, "dataField3", dataFieldValue);
+        BridgeInternal.setProperty(newDoc, "dataField4", dataFieldValue);
+        BridgeInternal.setProperty(newDoc, "dataField5", dataFieldValue);
+
+        concurrencyControlSemaphore.acquire();
+
+        operations.next(new BulkExecutor.ItemOperation<>(false, newDoc, null, baseSubscriber));
+    }
+
+    @Override
+    void shutdown() {
+        operations.complete();
+        execution.dispose();
+        super.shutdown();
+    }
+
+    private void onResult(BulkExecutor.ItemResult<BaseSubscriber<ResourceResponse<Document>>> result) {
+        BaseSubscriber<ResourceResponse<Document>> baseSubscriber = result.getOperation().getContext();
+        if (result.getError() != null) {
+            Mono.<ResourceResponse<Document>>error(result.getError()).subscribe(baseSubscriber);
+        } else {
+            Mono.just(result.getResponse()).subscribe(baseSubscriber);
+        }
+    }
+}
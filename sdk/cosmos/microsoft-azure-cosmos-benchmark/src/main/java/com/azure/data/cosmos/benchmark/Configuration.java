@@ -84,6 +84,7 @@ class Configuration {
             + "\tQueryTopOrderby - run a 'Select top 1000 * from c order by c._ts' workload that prints throughput\n"
             + "\tMixed - runa workload of 90 reads, 9 writes and 1 QueryTopOrderby per 100 operations *\n"
             + "\tReadMyWrites - run a workflow of writes followed by reads and queries attempting to read the write.*\n"
+            + "\tBulkIngest - run a Write workload grouped by physical partition, with adaptive concurrency per partition, that prints only throughput\n"
             + "\n\t* writes 10k documents initially, which are used in the reads", converter = OperationTypeConverter.class)
     private Operation operation = Operation.WriteThroughput;
 
@@ -131,7 +132,8 @@ class Configuration {
         QueryAggregateTopOrderby,
         QueryTopOrderby,
         Mixed,
-        ReadMyWrites;
+        ReadMyWrites,
+        BulkIngest;
 
         static Operation fromString(String code) {
 
@@ -61,6 +61,10 @@ public class Main {
                 benchmark = new ReadMyWriteWorkflow(cfg);
                 break;
 
+            case BulkIngest:
+                benchmark = new AsyncBulkIngestBenchmark(cfg);
+                break;
+
             default:
                 throw new RuntimeException(cfg.getOperationType() + " is not supported");
             }
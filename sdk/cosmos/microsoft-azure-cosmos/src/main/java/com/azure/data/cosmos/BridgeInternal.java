@@ -315,6 +315,17 @@ public class BridgeInternal {
         return jsonSerializable.getObject(propertyName);
     }
 
+    public static Document createDocumentFromObjectNode(ObjectNode objectNode) {
+        Document document = new Document();
+        ((JsonSerializable) document).propertyBag = objectNode;
+        return document;
+    }
+
+    public static ObjectNode getPropertyBag(JsonSerializable jsonSerializable) {
+        jsonSerializable.populatePropertyBag();
+        return jsonSerializable.propertyBag;
+    }
+
     public static void remove(JsonSerializable jsonSerializable, String propertyName) {
         jsonSerializable.remove(propertyName);
     }
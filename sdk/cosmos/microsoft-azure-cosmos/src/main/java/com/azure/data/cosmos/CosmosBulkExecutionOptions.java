@@ -0,0 +1,87 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos;
+
+/**
+ * Encapsulates options that can be specified for item operations executed in bulk.
+ *
+ * Operations are sent concurrently to each physical partition of the container. The concurrency of a partition starts
+ * at {@link #initialConcurrencyPerPartition()} and adapts to the throughput of the partition: it grows while
+ * operations succeed, up to {@link #maxConcurrencyPerPartition()}, and is halved when the partition throttles an
+ * operation. The operations read ahead of the partitions are bounded by the maximum concurrency of every partition,
+ * so the memory held by an execution does not depend on the number of operations.
+ */
+public final class CosmosBulkExecutionOptions {
+    private static final int DEFAULT_INITIAL_CONCURRENCY_PER_PARTITION = 4;
+    private static final int DEFAULT_MAX_CONCURRENCY_PER_PARTITION = 64;
+    private static final int DEFAULT_MAX_THROTTLE_RETRIES = 9;
+
+    private int initialConcurrencyPerPartition = DEFAULT_INITIAL_CONCURRENCY_PER_PARTITION;
+    private int maxConcurrencyPerPartition = DEFAULT_MAX_CONCURRENCY_PER_PARTITION;
+    private int maxThrottleRetries = DEFAULT_MAX_THROTTLE_RETRIES;
+
+    /**
+     * Gets the number of concurrent operations of a partition when the execution starts.
+     *
+     * @return the initial concurrency per partition.
+     */
+    public int initialConcurrencyPerPartition() {
+        return initialConcurrencyPerPartition;
+    }
+
+    /**
+     * Sets the number of concurrent operations of a partition when the execution starts.
+     *
+     * @param initialConcurrencyPerPartition the initial concurrency per partition.
+     * @return the current bulk execution options
+     */
+    public CosmosBulkExecutionOptions initialConcurrencyPerPartition(int initialConcurrencyPerPartition) {
+        this.initialConcurrencyPerPartition = initialConcurrencyPerPartition;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of concurrent operations of a partition.
+     *
+     * @return the maximum concurrency per partition.
+     */
+    public int maxConcurrencyPerPartition() {
+        return maxConcurrencyPerPartition;
+    }
+
+    /**
+     * Sets the maximum number of concurrent operations of a partition.
+     *
+     * @param maxConcurrencyPerPartition the maximum concurrency per partition.
+     * @return the current bulk execution options
+     */
+    public CosmosBulkExecutionOptions maxConcurrencyPerPartition(int maxConcurrencyPerPartition) {
+        this.maxConcurrencyPerPartition = maxConcurrencyPerPartition;
+        return this;
+    }
+
+    /**
+     * Gets the number of times an operation throttled by the service is retried. Bulk operations are not retried as
+     * set in the {@link RetryOptions} of the client when they are throttled, so that the concurrency of their
+     * partition is lowered before they are retried.
+     *
+     * @return the maximum number of retries of a throttled operation.
+     */
+    public int maxThrottleRetries() {
+        return maxThrottleRetries;
+    }
+
+    /**
+     * Sets the number of times an operation throttled by the service is retried. Bulk operations are not retried as
+     * set in the {@link RetryOptions} of the client when they are throttled, so that the concurrency of their
+     * partition is lowered before they are retried.
+     *
+     * @param maxThrottleRetries the maximum number of retries of a throttled operation.
+     * @return the current bulk execution options
+     */
+    public CosmosBulkExecutionOptions maxThrottleRetries(int maxThrottleRetries) {
+        this.maxThrottleRetries = maxThrottleRetries;
+        return this;
+    }
+}
@@ -0,0 +1,55 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos;
+
+/**
+ * The outcome of an item operation executed in bulk: either the response of the item or the failure of the operation.
+ */
+public final class CosmosBulkItemResponse {
+    private final CosmosItemOperation operation;
+    private final CosmosItemResponse response;
+    private final Throwable error;
+
+    CosmosBulkItemResponse(CosmosItemOperation operation, CosmosItemResponse response, Throwable error) {
+        this.operation = operation;
+        this.response = response;
+        this.error = error;
+    }
+
+    /**
+     * Gets the operation.
+     *
+     * @return the operation.
+     */
+    public CosmosItemOperation operation() {
+        return operation;
+    }
+
+    /**
+     * Gets the response of the item.
+     *
+     * @return the response, or null if the operation failed.
+     */
+    public CosmosItemResponse response() {
+        return response;
+    }
+
+    /**
+     * Gets the failure of the operation, a {@link CosmosClientException} if the service rejected it.
+     *
+     * @return the error, or null if the operation succeeded.
+     */
+    public Throwable error() {
+        return error;
+    }
+
+    /**
+     * Gets whether the operation succeeded.
+     *
+     * @return true if the operation succeeded.
+     */
+    public boolean succeeded() {
+        return error == null;
+    }
+}
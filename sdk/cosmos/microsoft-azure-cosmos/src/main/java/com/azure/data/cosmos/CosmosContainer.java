@@ -2,6 +2,8 @@
 // Licensed under the MIT License.
 package com.azure.data.cosmos;
 
+import com.azure.data.cosmos.internal.BulkExecutor;
+import com.azure.data.cosmos.internal.Document;
 import com.azure.data.cosmos.internal.HttpConstants;
 import com.azure.data.cosmos.internal.Offer;
 import com.azure.data.cosmos.internal.Paths;
@@ -229,6 +231,63 @@ public class CosmosContainer {
                 .map(response -> new CosmosItemResponse(response, requestOptions.getPartitionKey(), this)).single();
     }
 
+    /**
+     * Executes item operations in bulk.
+     *
+     * After subscription the operations will be performed, grouped by the physical
+     * partition of their item. The {@link Flux} will contain the response of each
+     * operation, in completion order. The failure of an operation is reported in its
+     * response. In case the container cannot be read the {@link Flux} will error.
+     *
+     * @param operations the item operations.
+     * @return an {@link Flux} containing the response of each operation or an error.
+     */
+    public Flux<CosmosBulkItemResponse> executeBulkOperations(Flux<CosmosItemOperation> operations) {
+        return executeBulkOperations(operations, null);
+    }
+
+    /**
+     * Executes item operations in bulk.
+     *
+     * After subscription the operations will be performed, grouped by the physical
+     * partition of their item. The {@link Flux} will contain the response of each
+     * operation, in completion order. The failure of an operation is reported in its
+     * response. In case the container cannot be read the {@link Flux} will error.
+     *
+     * @param operations the item operations.
+     * @param options    the bulk execution options.
+     * @return an {@link Flux} containing the response of each operation or an error.
+     */
+    public Flux<CosmosBulkItemResponse> executeBulkOperations(Flux<CosmosItemOperation> operations,
+                                                              CosmosBulkExecutionOptions options) {
+        if (options == null) {
+            options = new CosmosBulkExecutionOptions();
+        }
+        BulkExecutor executor = new BulkExecutor(database.getDocClientWrapper(), getLink(),
+                options.initialConcurrencyPerPartition(), options.maxConcurrencyPerPartition(),
+                options.maxThrottleRetries());
+
+        return executor.execute(operations.map(operation -> {
+                    Document document;
+                    try {
+                        document = CosmosItemProperties.fromObject(operation.item());
+                    } catch (IllegalArgumentException e) {
+                        // The item is reported as failed, without failing the other operations.
+                        return BulkExecutor.ItemOperation.failed(e, operation);
+                    }
+                    return new BulkExecutor.ItemOperation<>(operation.operationType() == CosmosItemOperationType.UPSERT,
+                            document, operation.options().toRequestOptions(), operation);
+                }))
+                .map(result -> {
+                    CosmosItemOperation operation = result.getOperation().getContext();
+                    if (result.getError() != null) {
+                        return new CosmosBulkItemResponse(operation, null, result.getError());
+                    }
+                    return new CosmosBulkItemResponse(operation, new CosmosItemResponse(result.getResponse(),
+                            operation.options().partitionKey(), this), null);
+                });
+    }
+
     /**
      * Reads all cosmos items in the container.
      *
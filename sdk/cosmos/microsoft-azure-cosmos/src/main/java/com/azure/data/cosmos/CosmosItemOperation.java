@@ -0,0 +1,108 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos;
+
+/**
+ * An item operation executed in bulk by {@link CosmosContainer#executeBulkOperations(reactor.core.publisher.Flux)}.
+ */
+public final class CosmosItemOperation {
+    private final CosmosItemOperationType operationType;
+    private final Object item;
+    private final CosmosItemRequestOptions options;
+    private final Object context;
+
+    private CosmosItemOperation(CosmosItemOperationType operationType, Object item, CosmosItemRequestOptions options,
+                                Object context) {
+        if (item == null) {
+            throw new IllegalArgumentException("item");
+        }
+
+        this.operationType = operationType;
+        this.item = item;
+        this.options = options == null ? new CosmosItemRequestOptions() : options;
+        this.context = context;
+    }
+
+    /**
+     * Creates an operation creating an item.
+     *
+     * @param item the item represented as a POJO or cosmos item object.
+     * @return the operation.
+     */
+    public static CosmosItemOperation createItemOperation(Object item) {
+        return new CosmosItemOperation(CosmosItemOperationType.CREATE, item, null, null);
+    }
+
+    /**
+     * Creates an operation creating an item.
+     *
+     * @param item    the item represented as a POJO or cosmos item object.
+     * @param options the request options.
+     * @param context an object returned with the response of the operation, or null.
+     * @return the operation.
+     */
+    public static CosmosItemOperation createItemOperation(Object item, CosmosItemRequestOptions options,
+                                                          Object context) {
+        return new CosmosItemOperation(CosmosItemOperationType.CREATE, item, options, context);
+    }
+
+    /**
+     * Creates an operation upserting an item.
+     *
+     * @param item the item represented as a POJO or cosmos item object.
+     * @return the operation.
+     */
+    public static CosmosItemOperation upsertItemOperation(Object item) {
+        return new CosmosItemOperation(CosmosItemOperationType.UPSERT, item, null, null);
+    }
+
+    /**
+     * Creates an operation upserting an item.
+     *
+     * @param item    the item represented as a POJO or cosmos item object.
+     * @param options the request options.
+     * @param context an object returned with the response of the operation, or null.
+     * @return the operation.
+     */
+    public static CosmosItemOperation upsertItemOperation(Object item, CosmosItemRequestOptions options,
+                                                          Object context) {
+        return new CosmosItemOperation(CosmosItemOperationType.UPSERT, item, options, context);
+    }
+
+    /**
+     * Gets the type of the operation.
+     *
+     * @return the operation type.
+     */
+    public CosmosItemOperationType operationType() {
+        return operationType;
+    }
+
+    /**
+     * Gets the item of the operation.
+     *
+     * @return the item.
+     */
+    public Object item() {
+        return item;
+    }
+
+    /**
+     * Gets the request options of the operation.
+     *
+     * @return the request options.
+     */
+    public CosmosItemRequestOptions options() {
+        return options;
+    }
+
+    /**
+     * Gets the object returned with the response of the operation.
+     *
+     * @return the context, or null.
+     */
+    public Object context() {
+        return context;
+    }
+}
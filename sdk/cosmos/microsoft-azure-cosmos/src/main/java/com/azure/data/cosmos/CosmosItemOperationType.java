@@ -0,0 +1,20 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos;
+
+/**
+ * Specifies the type of an item operation executed in bulk in the Azure Cosmos DB database service.
+ */
+public enum CosmosItemOperationType {
+
+    /**
+     * Create the item.
+     */
+    CREATE,
+
+    /**
+     * Create the item, or replace it if it exists.
+     */
+    UPSERT
+}
@@ -11,6 +11,7 @@ import com.azure.data.cosmos.FeedOptions;
 import com.azure.data.cosmos.FeedResponse;
 import com.azure.data.cosmos.SqlQuerySpec;
 import com.azure.data.cosmos.TokenResolver;
+import com.azure.data.cosmos.internal.caches.IPartitionKeyRangeCache;
 import org.apache.commons.lang3.StringUtils;
 import reactor.core.publisher.Flux;
 
@@ -1314,6 +1315,14 @@ public interface AsyncDocumentClient {
      */
     Flux<DatabaseAccount> getDatabaseAccount();
 
+    /**
+     * Gets the cache of the partition key ranges of the collections, which maps partition keys to the physical
+     * partitions serving them.
+     *
+     * @return the partition key range cache.
+     */
+    IPartitionKeyRangeCache getPartitionKeyRangeCache();
+
     /**
      * Close this {@link AsyncDocumentClient} instance and cleans up the resources.
      */
@@ -0,0 +1,372 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal;
+
+import com.azure.data.cosmos.CosmosClientException;
+import com.azure.data.cosmos.NotFoundException;
+import com.azure.data.cosmos.PartitionKeyDefinition;
+import com.azure.data.cosmos.internal.routing.CollectionRoutingMap;
+import com.azure.data.cosmos.internal.routing.PartitionKeyInternal;
+import com.azure.data.cosmos.internal.routing.PartitionKeyInternalHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Executes a stream of item operations against a collection, grouped by the physical partition serving each item.
+ *
+ * While this class is public, but it is not part of our published public APIs.
+ * This is meant to be internally used only by our sdk.
+ *
+ * The partition of an item is found by hashing its partition key, as the service does, and looking the effective
+ * partition key up in the routing map of the collection, which is resolved once per execution through the partition
+ * key range cache. Each partition has its own concurrency limit, adapted to the throughput it grants: the limit grows
+ * by one once as many operations as the limit succeeded, and is halved when the partition throttles an operation,
+ * which is then retried after the delay requested by the service.
+ *
+ * The operations read ahead of the partitions are bounded to {@value #READ_AHEAD_PER_CONCURRENCY} times the maximum
+ * concurrency of every partition, so that a throttled partition does not hold up the operations of the others until
+ * its waiting operations fill the read ahead. The input is then consumed as fast as that partition accepts
+ * operations, and the memory held by an execution does not depend on the size of its input.
+ *
+ * Operations are still sent as individual document requests, as the service offers no batch operation to this SDK.
+ * They go through the retry policies of the client, except for throttling: a throttled operation is returned to the
+ * executor as soon as the service throttles it, so that the concurrency of its partition is lowered before it is
+ * retried.
+ */
+public class BulkExecutor {
+    private final static Logger logger = LoggerFactory.getLogger(BulkExecutor.class);
+    private final static String UNKNOWN_PARTITION_KEY_RANGE_ID = "";
+    private final static int READ_AHEAD_PER_CONCURRENCY = 4;
+
+    private final AsyncDocumentClient client;
+    private final String collectionLink;
+    private final int initialConcurrencyPerPartition;
+    private final int maxConcurrencyPerPartition;
+    private final int maxThrottleRetries;
+
+    /**
+     * Creates a BulkExecutor.
+     *
+     * @param client the client sending the requests.
+     * @param collectionLink the link of the collection.
+     * @param initialConcurrencyPerPartition the concurrency limit of a partition when the execution starts.
+     * @param maxConcurrencyPerPartition the maximum concurrency limit of a partition.
+     * @param maxThrottleRetries the number of times an operation throttled by the service is retried.
+     */
+    public BulkExecutor(AsyncDocumentClient client, String collectionLink, int initialConcurrencyPerPartition,
+                        int maxConcurrencyPerPartition, int maxThrottleRetries) {
+        if (initialConcurrencyPerPartition < 1 || maxConcurrencyPerPartition < initialConcurrencyPerPartition) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid concurrency per partition: initial %d, maximum %d",
+                initialConcurrencyPerPartition, maxConcurrencyPerPartition));
+        }
+        if (maxThrottleRetries < 0) {
+            throw new IllegalArgumentException("maxThrottleRetries");
+        }
+
+        this.client = client;
+        this.collectionLink = collectionLink;
+        this.initialConcurrencyPerPartition = initialConcurrencyPerPartition;
+        this.maxConcurrencyPerPartition = maxConcurrencyPerPartition;
+        this.maxThrottleRetries = maxThrottleRetries;
+    }
+
+    /**
+     * Executes item operations.
+     *
+     * @param operations the operations.
+     * @param <T> the type of the context of the operations.
+     * @return a {@link Flux} of the result of each operation, in completion order. The {@link Flux} only errors if
+     * the collection or its partition key ranges could not be resolved, the failure of an operation is reported in
+     * its result.
+     */
+    public <T> Flux<ItemResult<T>> execute(Flux<ItemOperation<T>> operations) {
+        return client.readCollection(collectionLink, null)
+            .single()
+            .flatMap(response -> {
+                DocumentCollection collection = response.getResource();
+                return client.getPartitionKeyRangeCache()
+                    .tryLookupAsync(collection.resourceId(), null, null)
+                    .switchIfEmpty(Mono.error(new NotFoundException(String.format(
+                        "The partition key ranges of collection %s could not be resolved", collectionLink))))
+                    .map(routingMap -> new CollectionInfo(collection.getPartitionKey(), routingMap));
+            })
+            .flatMapMany(collection -> {
+                // groupBy only requests more operations once the groups consumed the ones it read ahead, a partition
+                // holding all of them stops the input until it accepts some.
+                int readAhead = (collection.getPartitionCount() + 1) * maxConcurrencyPerPartition
+                    * READ_AHEAD_PER_CONCURRENCY;
+                return operations
+                    .groupBy(collection::getPartitionKeyRangeId, readAhead)
+                    .flatMap(group -> {
+                        PartitionExecutor executor = new PartitionExecutor(group.key());
+                        return group.flatMap(operation -> executor.execute(operation, 0), maxConcurrencyPerPartition);
+                    }, Integer.MAX_VALUE);
+            });
+    }
+
+    /**
+     * An item operation.
+     *
+     * @param <T> the type of the context of the operation.
+     */
+    public static final class ItemOperation<T> {
+        private final boolean upsert;
+        private final Document document;
+        private final RequestOptions options;
+        private final T context;
+        private final Throwable error;
+
+        /**
+         * Creates an ItemOperation.
+         *
+         * @param upsert whether the document is upserted, rather than created.
+         * @param document the document.
+         * @param options the request options, or null. The throttling retries of the client are disabled on them.
+         * @param context the context of the operation, returned with its result.
+         */
+        public ItemOperation(boolean upsert, Document document, RequestOptions options, T context) {
+            this(upsert, document, options, context, null);
+        }
+
+        private ItemOperation(boolean upsert, Document document, RequestOptions options, T context,
+                              Throwable error) {
+            this.upsert = upsert;
+            this.document = document;
+            this.options = options;
+            this.context = context;
+            this.error = error;
+        }
+
+        /**
+         * Creates an ItemOperation which failed before it could be executed, such as one whose item could not be
+         * serialized. It is not sent, its failure is reported in its result.
+         *
+         * @param error the failure of the operation.
+         * @param context the context of the operation, returned with its result.
+         * @param <T> the type of the context of the operation.
+         * @return the operation.
+         */
+        public static <T> ItemOperation<T> failed(Throwable error, T context) {
+            return new ItemOperation<>(false, null, null, context, error);
+        }
+
+        /**
+         * @return the context of the operation.
+         */
+        public T getContext() {
+            return context;
+        }
+    }
+
+    /**
+     * The result of an item operation.
+     *
+     * @param <T> the type of the context of the operation.
+     */
+    public static final class ItemResult<T> {
+        private final ItemOperation<T> operation;
+        private final ResourceResponse<Document> response;
+        private final Throwable error;
+
+        private ItemResult(ItemOperation<T> operation, ResourceResponse<Document> response, Throwable error) {
+            this.operation = operation;
+            this.response = response;
+            this.error = error;
+        }
+
+        /**
+         * @return the operation.
+         */
+        public ItemOperation<T> getOperation() {
+            return operation;
+        }
+
+        /**
+         * @return the response of the operation, or null if it failed.
+         */
+        public ResourceResponse<Document> getResponse() {
+            return response;
+        }
+
+        /**
+         * @return the failure of the operation, or null if it succeeded.
+         */
+        public Throwable getError() {
+            return error;
+        }
+    }
+
+    private Mono<ResourceResponse<Document>> send(ItemOperation<?> operation) {
+        // The executor retries throttled operations itself, once it lowered the concurrency of their partition.
+        RequestOptions options = operation.options != null ? operation.options : new RequestOptions();
+        options.setThrottlingRetryDisabled(true);
+        Flux<ResourceResponse<Document>> response = operation.upsert
+            ? client.upsertDocument(collectionLink, operation.document, options, true)
+            : client.createDocument(collectionLink, operation.document, options, true);
+        return response.single();
+    }
+
+    private static boolean isThrottled(Throwable error) {
+        CosmosClientException exception = Utils.as(error, CosmosClientException.class);
+        return exception != null && Exceptions.isStatusCode(exception, HttpConstants.StatusCodes.TOO_MANY_REQUESTS);
+    }
+
+    private static final class CollectionInfo {
+        private final PartitionKeyDefinition partitionKeyDefinition;
+        private final CollectionRoutingMap routingMap;
+
+        CollectionInfo(PartitionKeyDefinition partitionKeyDefinition, CollectionRoutingMap routingMap) {
+            this.partitionKeyDefinition = partitionKeyDefinition;
+            this.routingMap = routingMap;
+        }
+
+        int getPartitionCount() {
+            return routingMap.getOrderedPartitionKeyRanges().size();
+        }
+
+        String getPartitionKeyRangeId(ItemOperation<?> operation) {
+            if (operation.error != null) {
+                return UNKNOWN_PARTITION_KEY_RANGE_ID;
+            }
+            try {
+                PartitionKeyInternal partitionKey = RxDocumentClientImpl.getPartitionKeyInternal(operation.document,
+                    operation.options, partitionKeyDefinition);
+                String effectivePartitionKey = PartitionKeyInternalHelper.getEffectivePartitionKeyString(partitionKey,
+                    partitionKeyDefinition);
+                PartitionKeyRange range = routingMap.getRangeByEffectivePartitionKey(effectivePartitionKey);
+                return range == null ? UNKNOWN_PARTITION_KEY_RANGE_ID : range.id();
+            } catch (RuntimeException e) {
+                // The request of the operation reports the invalid partition key.
+                logger.debug("Failed to resolve the partition key range of a bulk operation", e);
+                return UNKNOWN_PARTITION_KEY_RANGE_ID;
+            }
+        }
+    }
+
+    /*
+     * Sends the operations of a partition, within a concurrency limit adapted to the throttling of the partition.
+     */
+    private final class PartitionExecutor {
+        private final String partitionKeyRangeId;
+        private final Queue<Permit> waiting = new ArrayDeque<>();
+        private int limit = initialConcurrencyPerPartition;
+        private int inFlight;
+        private int successes;
+
+        PartitionExecutor(String partitionKeyRangeId) {
+            this.partitionKeyRangeId = partitionKeyRangeId;
+        }
+
+        <T> Mono<ItemResult<T>> execute(ItemOperation<T> operation, int attempt) {
+            if (operation.error != null) {
+                return Mono.just(new ItemResult<>(operation, null, operation.error));
+            }
+            return acquire()
+                .flatMap(permit -> Mono.defer(() -> send(operation)).doFinally(signal -> permit.release()))
+                .map(response -> {
+                    onSuccess();
+                    return new ItemResult<>(operation, response, null);
+                })
+                .onErrorResume(error -> {
+                    if (!isThrottled(error) || attempt >= maxThrottleRetries) {
+                        return Mono.just(new ItemResult<>(operation, null, error));
+                    }
+
+                    onThrottled();
+                    long retryAfter = Utils.as(error, CosmosClientException.class).retryAfterInMilliseconds();
+                    return Mono.delay(Duration.ofMillis(Math.max(retryAfter, 1)))
+                        .then(Mono.defer(() -> execute(operation, attempt + 1)));
+                });
+        }
+
+        private Mono<Permit> acquire() {
+            return Mono.create(sink -> {
+                Permit permit = new Permit(sink);
+                sink.onCancel(() -> cancel(permit));
+                synchronized (this) {
+                    if (inFlight >= limit) {
+                        waiting.add(permit);
+                        return;
+                    }
+                    inFlight++;
+                    permit.granted = true;
+                }
+                sink.success(permit);
+            });
+        }
+
+        private void cancel(Permit permit) {
+            synchronized (this) {
+                if (!permit.granted) {
+                    waiting.remove(permit);
+                    return;
+                }
+            }
+            // The permit was granted to a subscriber cancelled before it received it.
+            permit.release();
+        }
+
+        private void release() {
+            List<Permit> granted = new ArrayList<>(1);
+            synchronized (this) {
+                inFlight--;
+                // The limit may have grown since the last release.
+                Permit next;
+                while (inFlight < limit && (next = waiting.poll()) != null) {
+                    inFlight++;
+                    next.granted = true;
+                    granted.add(next);
+                }
+            }
+            for (Permit permit : granted) {
+                permit.sink.success(permit);
+            }
+        }
+
+        private synchronized void onSuccess() {
+            if (++successes >= limit && limit < maxConcurrencyPerPartition) {
+                limit++;
+                successes = 0;
+            }
+        }
+
+        private synchronized void onThrottled() {
+            limit = Math.max(1, limit / 2);
+            successes = 0;
+            logger.debug("Partition key range {} throttled, concurrency limit lowered to {}", partitionKeyRangeId,
+                limit);
+        }
+
+        /*
+         * A slot within the concurrency limit, released once whether the operation was sent or cancelled.
+         */
+        private final class Permit {
+            private final MonoSink<Permit> sink;
+            private final AtomicBoolean released = new AtomicBoolean();
+            // Guarded by the PartitionExecutor.
+            private boolean granted;
+
+            Permit(MonoSink<Permit> sink) {
+                this.sink = sink;
+            }
+
+            void release() {
+                if (released.compareAndSet(false, true)) {
+                    PartitionExecutor.this.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.data.cosmos.internal;
+
+import com.azure.data.cosmos.CosmosClientException;
+import reactor.core.publisher.Mono;
+
+/**
+ * While this class is public, but it is not part of our published public APIs.
+ * This is meant to be internally used only by our sdk.
+ *
+ * A RetryPolicy implementation that returns throttled requests to the caller, and leaves the retry of any other
+ * failure to the wrapped policy. It is used for the requests of callers handling throttling themselves.
+ */
+public class NoThrottlingRetryPolicy implements IDocumentClientRetryPolicy {
+    private final IDocumentClientRetryPolicy nextRetryPolicy;
+
+    public NoThrottlingRetryPolicy(IDocumentClientRetryPolicy nextRetryPolicy) {
+        this.nextRetryPolicy = nextRetryPolicy;
+    }
+
+    @Override
+    public Mono<ShouldRetryResult> shouldRetry(Exception exception) {
+        CosmosClientException clientException = Utils.as(exception, CosmosClientException.class);
+        if (clientException != null
+                && Exceptions.isStatusCode(clientException, HttpConstants.StatusCodes.TOO_MANY_REQUESTS)) {
+            return Mono.just(ShouldRetryResult.noRetry());
+        }
+
+        return this.nextRetryPolicy.shouldRetry(exception);
+    }
+
+    @Override
+    public void onBeforeSendRequest(RxDocumentServiceRequest request) {
+        this.nextRetryPolicy.onBeforeSendRequest(request);
+    }
+}
@@ -30,6 +30,7 @@ public class RequestOptions {
     private String partitionKeyRangeId;
     private boolean scriptLoggingEnabled;
     private boolean populateQuotaInfo;
+    private boolean throttlingRetryDisabled;
     private Map<String, Object> properties;
 
     /**
@@ -272,6 +273,27 @@ public class RequestOptions {
         this.populateQuotaInfo = populateQuotaInfo;
     }
 
+    /**
+     * Gets whether a request throttled by the service is returned to the caller instead of being retried as set in
+     * the {@link com.azure.data.cosmos.RetryOptions} of the client. Only document writes honor this setting.
+     *
+     * @return true if the client does not retry throttled requests.
+     */
+    public boolean isThrottlingRetryDisabled() {
+        return throttlingRetryDisabled;
+    }
+
+    /**
+     * Sets whether a request throttled by the service is returned to the caller instead of being retried as set in
+     * the {@link com.azure.data.cosmos.RetryOptions} of the client, for callers handling throttling themselves. Only
+     * document writes honor this setting.
+     *
+     * @param throttlingRetryDisabled true if the client must not retry throttled requests.
+     */
+    public void setThrottlingRetryDisabled(boolean throttlingRetryDisabled) {
+        this.throttlingRetryDisabled = throttlingRetryDisabled;
+    }
+
     /**
      * Sets the custom request option value by key
      *
@@ -888,8 +888,14 @@ public class RxDocumentClientImpl implements AsyncDocumentClient, IAuthorization
 
     private void addPartitionKeyInformation(RxDocumentServiceRequest request, Document document, RequestOptions options,
                                             DocumentCollection collection) {
-        PartitionKeyDefinition partitionKeyDefinition = collection.getPartitionKey();
+        PartitionKeyInternal partitionKeyInternal = getPartitionKeyInternal(document, options,
+            collection.getPartitionKey());
 
+        request.getHeaders().put(HttpConstants.HttpHeaders.PARTITION_KEY, escapeNonAscii(partitionKeyInternal.toJson()));
+    }
+
+    static PartitionKeyInternal getPartitionKeyInternal(Document document, RequestOptions options,
+                                                        PartitionKeyDefinition partitionKeyDefinition) {
         PartitionKeyInternal partitionKeyInternal = null;
         if (options != null && options.getPartitionKey() != null && options.getPartitionKey().equals(PartitionKey.None)){
             partitionKeyInternal = BridgeInternal.getNonePartitionKey(partitionKeyDefinition);
@@ -904,8 +910,7 @@ public class RxDocumentClientImpl implements AsyncDocumentClient, IAuthorization
         } else {
             throw new UnsupportedOperationException("PartitionKey value must be supplied for this operation.");
         }
-
-        request.getHeaders().put(HttpConstants.HttpHeaders.PARTITION_KEY, escapeNonAscii(partitionKeyInternal.toJson()));
+        return partitionKeyInternal;
     }
 
     private static String escapeNonAscii(String partitionKeyJson) {
@@ -1070,13 +1075,31 @@ public class RxDocumentClientImpl implements AsyncDocumentClient, IAuthorization
     @Override
     public Flux<ResourceResponse<Document>> createDocument(String collectionLink, Object document,
                                                                  RequestOptions options, boolean disableAutomaticIdGeneration) {
-        IDocumentClientRetryPolicy requestRetryPolicy = this.resetSessionTokenRetryPolicy.getRequestPolicy();
+        IDocumentClientRetryPolicy requestRetryPolicy = getDocumentWriteRetryPolicy(
+                this.resetSessionTokenRetryPolicy, collectionCache, collectionLink, options);
+        return ObservableHelper.inlineIfPossibleAsObs(() -> createDocumentInternal(collectionLink, document, options, disableAutomaticIdGeneration, requestRetryPolicy), requestRetryPolicy);
+    }
+
+    /**
+     * Gets the retry policy of a document create or upsert request.
+     *
+     * @param retryPolicyFactory the factory of the retry policy of the client.
+     * @param collectionCache the collection cache.
+     * @param collectionLink the link of the collection of the document.
+     * @param options the request options, or null.
+     * @return the retry policy.
+     */
+    static IDocumentClientRetryPolicy getDocumentWriteRetryPolicy(IRetryPolicyFactory retryPolicyFactory,
+                                                                  RxClientCollectionCache collectionCache,
+                                                                  String collectionLink, RequestOptions options) {
+        IDocumentClientRetryPolicy requestRetryPolicy = retryPolicyFactory.getRequestPolicy();
         if (options == null || options.getPartitionKey() == null) {
             requestRetryPolicy = new PartitionKeyMismatchRetryPolicy(collectionCache, requestRetryPolicy, collectionLink, options);
         }
-
-        IDocumentClientRetryPolicy finalRetryPolicyInstance = requestRetryPolicy;
-        return ObservableHelper.inlineIfPossibleAsObs(() -> createDocumentInternal(collectionLink, document, options, disableAutomaticIdGeneration, finalRetryPolicyInstance), requestRetryPolicy);
+        if (options != null && options.isThrottlingRetryDisabled()) {
+            requestRetryPolicy = new NoThrottlingRetryPolicy(requestRetryPolicy);
+        }
+        return requestRetryPolicy;
     }
 
     private Flux<ResourceResponse<Document>> createDocumentInternal(String collectionLink, Object document,
@@ -1111,12 +1134,9 @@ public class RxDocumentClientImpl implements AsyncDocumentClient, IAuthorization
     public Flux<ResourceResponse<Document>> upsertDocument(String collectionLink, Object document,
                                                                  RequestOptions options, boolean disableAutomaticIdGeneration) {
 
-        IDocumentClientRetryPolicy requestRetryPolicy = this.resetSessionTokenRetryPolicy.getRequestPolicy();
-        if (options == null || options.getPartitionKey() == null) {
-            requestRetryPolicy = new PartitionKeyMismatchRetryPolicy(collectionCache, requestRetryPolicy, collectionLink, options);
-        }
-        IDocumentClientRetryPolicy finalRetryPolicyInstance = requestRetryPolicy;
-        return ObservableHelper.inlineIfPossibleAsObs(() -> upsertDocumentInternal(collectionLink, document, options, disableAutomaticIdGeneration, finalRetryPolicyInstance), requestRetryPolicy);
+        IDocumentClientRetryPolicy requestRetryPolicy = getDocumentWriteRetryPolicy(
+                this.resetSessionTokenRetryPolicy, collectionCache, collectionLink, options);
+        return ObservableHelper.inlineIfPossibleAsObs(() -> upsertDocumentInternal(collectionLink, document, options, disableAutomaticIdGeneration, requestRetryPolicy), requestRetryPolicy);
     }
 
     private Flux<ResourceResponse<Document>> upsertDocumentInternal(String collectionLink, Object document,
@@ -2662,6 +2682,7 @@ public class RxDocumentClientImpl implements AsyncDocumentClient, IAuthorization
         this.sessionContainer = (SessionContainer) sessionContainer;
     }
 
+    @Override
     public RxPartitionKeyRangeCache getPartitionKeyRangeCache() {
         return partitionKeyRangeCache;
     }
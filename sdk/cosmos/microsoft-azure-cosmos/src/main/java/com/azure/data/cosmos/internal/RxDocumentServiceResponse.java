@@ -11,11 +11,13 @@ import com.azure.data.cosmos.internal.directconnectivity.StoreResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -88,17 +90,35 @@ public class RxDocumentServiceResponse {
         return this.storeResponse.getResponseBody();
     }
 
-    public <T extends Resource> T getResource(Class<T> c) {
-        String responseBody = this.getReponseBodyAsString();
-        if (StringUtils.isEmpty(responseBody))
-            return null;
+    public byte[] getResponseBodyAsByteArray() {
+        return this.storeResponse.getResponseBodyAsByteArray();
+    }
 
+    public <T extends Resource> T getResource(Class<T> c) {
         T resource = null;
-        try {
-            resource =  c.getConstructor(String.class).newInstance(responseBody);
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
-            throw new IllegalStateException("Failed to instantiate class object.", e);
+        if (c == Document.class) {
+            // Parsed straight from the bytes of direct mode responses, without decoding them to a string first
+            byte[] responseBody = this.getResponseBodyAsByteArray();
+            if (responseBody == null || responseBody.length == 0)
+                return null;
+
+            JsonNode jobject = fromJson(responseBody);
+            if (jobject.isObject()) {
+                resource = c.cast(BridgeInternal.createDocumentFromObjectNode((ObjectNode) jobject));
+            }
+        }
+
+        if (resource == null) {
+            String responseBody = this.getReponseBodyAsString();
+            if (StringUtils.isEmpty(responseBody))
+                return null;
+
+            try {
+                resource =  c.getConstructor(String.class).newInstance(responseBody);
+            } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
+                    | NoSuchMethodException | SecurityException e) {
+                throw new IllegalStateException("Failed to instantiate class object.", e);
+            }
         }
         if(PathsHelper.isPublicResource(resource)) {
             BridgeInternal.setAltLink(resource, PathsHelper.generatePathForNameBased(resource, this.getOwnerFullName(),resource.id()));
@@ -108,7 +128,7 @@ public class RxDocumentServiceResponse {
     }
 
     public <T extends Resource> List<T> getQueryResponse(Class<T> c) {
-        String responseBody = this.getReponseBodyAsString();
+        byte[] responseBody = this.getResponseBodyAsByteArray();
         if (responseBody == null) {
             return new ArrayList<T>();
         }
@@ -128,6 +148,12 @@ public class RxDocumentServiceResponse {
         if (jTokenArray != null) {
             for (int i = 0; i < jTokenArray.size(); ++i) {
                 JsonNode jToken = jTokenArray.get(i);
+                if (c == Document.class && jToken.isObject()) {
+                    // Documents wrap the parsed tree, rather than being serialized and parsed again
+                    queryResults.add(c.cast(BridgeInternal.createDocumentFromObjectNode((ObjectNode) jToken)));
+                    continue;
+                }
+
                 // Aggregate on single partition collection may return the aggregated value only
                 // In that case it needs to encapsulated in a special document
                 String resourceJson = jToken.isNumber() || jToken.isBoolean()
@@ -156,11 +182,12 @@ public class RxDocumentServiceResponse {
         }
     }
 
-    private static JsonNode fromJson(String json){
+    private static JsonNode fromJson(byte[] json){
         try {
             return Utils.getSimpleObjectMapper().readTree(json);
         } catch (IOException e) {
-            throw new IllegalStateException(String.format("Unable to parse JSON %s", json), e);
+            throw new IllegalStateException(String.format("Unable to parse JSON %s",
+                new String(json, StandardCharsets.UTF_8)), e);
         }
     }
 
@@ -183,6 +183,7 @@ public final class RntbdTransportClient extends TransportClient {
         // region Fields
 
         private final int bufferPageSize;
+        private final Duration busyPollTimeout;
         private final String certificateHostNameOverride;
         private final Duration connectionTimeout;
         private final Duration idleChannelTimeout;
@@ -191,6 +192,7 @@ public final class RntbdTransportClient extends TransportClient {
         private final int maxChannelsPerEndpoint;
         private final int maxRequestsPerChannel;
         private final int partitionCount;
+        private final boolean preferNativeTransport;
         private final Duration receiveHangDetectionTime;
         private final Duration requestTimeout;
         private final Duration sendHangDetectionTime;
@@ -203,6 +205,7 @@ public final class RntbdTransportClient extends TransportClient {
 
         private Options(Builder builder) {
             this.bufferPageSize = builder.bufferPageSize;
+            this.busyPollTimeout = builder.busyPollTimeout;
             this.certificateHostNameOverride = builder.certificateHostNameOverride;
             this.connectionTimeout = builder.connectionTimeout == null ? builder.requestTimeout : builder.connectionTimeout;
             this.idleChannelTimeout = builder.idleChannelTimeout;
@@ -211,6 +214,7 @@ public final class RntbdTransportClient extends TransportClient {
             this.maxChannelsPerEndpoint = builder.maxChannelsPerEndpoint;
             this.maxRequestsPerChannel = builder.maxRequestsPerChannel;
             this.partitionCount = builder.partitionCount;
+            this.preferNativeTransport = builder.preferNativeTransport;
             this.receiveHangDetectionTime = builder.receiveHangDetectionTime;
             this.requestTimeout = builder.requestTimeout;
             this.sendHangDetectionTime = builder.sendHangDetectionTime;
@@ -226,6 +230,10 @@ public final class RntbdTransportClient extends TransportClient {
             return this.bufferPageSize;
         }
 
+        public Duration busyPollTimeout() {
+            return this.busyPollTimeout;
+        }
+
         public String certificateHostNameOverride() {
             return this.certificateHostNameOverride;
         }
@@ -258,6 +266,10 @@ public final class RntbdTransportClient extends TransportClient {
             return this.partitionCount;
         }
 
+        public boolean preferNativeTransport() {
+            return this.preferNativeTransport;
+        }
+
         public Duration receiveHangDetectionTime() {
             return this.receiveHangDetectionTime;
         }
@@ -302,6 +314,7 @@ public final class RntbdTransportClient extends TransportClient {
             private static final Duration TEN_SECONDS = Duration.ofSeconds(10L);
 
             private int bufferPageSize = 8192;
+            private Duration busyPollTimeout = Duration.ZERO;
             private String certificateHostNameOverride = null;
             private Duration connectionTimeout = null;
             private Duration idleChannelTimeout = Duration.ZERO;
@@ -310,6 +323,7 @@ public final class RntbdTransportClient extends TransportClient {
             private int maxChannelsPerEndpoint = 10;
             private int maxRequestsPerChannel = 30;
             private int partitionCount = 1;
+            private boolean preferNativeTransport = false;
             private Duration receiveHangDetectionTime = SIXTY_FIVE_SECONDS;
             private Duration requestTimeout;
             private Duration sendHangDetectionTime = TEN_SECONDS;
@@ -345,6 +359,13 @@ public final class RntbdTransportClient extends TransportClient {
                 return this;
             }
 
+            public Builder busyPollTimeout(final Duration value) {
+                checkNotNull(value, "value: null");
+                checkArgument(!value.isNegative() && value.toNanos() / 1_000L <= Integer.MAX_VALUE, "value: %s", value);
+                this.busyPollTimeout = value;
+                return this;
+            }
+
             public Builder certificateHostNameOverride(final String value) {
                 this.certificateHostNameOverride = value;
                 return this;
@@ -392,6 +413,11 @@ public final class RntbdTransportClient extends TransportClient {
                 return this;
             }
 
+            public Builder preferNativeTransport(final boolean value) {
+                this.preferNativeTransport = value;
+                return this;
+            }
+
             public Builder receiveHangDetectionTime(final Duration value) {
 
                 checkNotNull(value, "value: null");
@@ -10,6 +10,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map.Entry;
 
@@ -22,22 +23,36 @@ public class StoreResponse {
     final private String[] responseHeaderNames;
     final private String[] responseHeaderValues;
     final private InputStream httpEntityStream;
-    final private String content;
+    final private byte[] contentBytes;
+    private String content;
 
     private CosmosResponseDiagnostics cosmosResponseDiagnostics;
 
     public StoreResponse(int status, List<Entry<String, String>> headerEntries, InputStream inputStream) {
-        this(status, headerEntries, null, inputStream);
+        this(status, headerEntries, null, null, inputStream);
     }
 
     public StoreResponse(int status, List<Entry<String, String>> headerEntries, String content) {
-        this(status, headerEntries, content, null);
+        this(status, headerEntries, content, null, null);
+    }
+
+    /**
+     * Creates a response whose UTF-8 encoded content is only decoded to a {@link String} if it is requested as such.
+     * The content is parsed straight from its bytes otherwise.
+     *
+     * @param status the status code.
+     * @param headerEntries the response headers.
+     * @param contentBytes the UTF-8 encoded content, or null. The array is owned by the response.
+     */
+    public StoreResponse(int status, List<Entry<String, String>> headerEntries, byte[] contentBytes) {
+        this(status, headerEntries, null, contentBytes, null);
     }
 
     private StoreResponse(
             int status,
             List<Entry<String, String>> headerEntries, 
             String content,
+            byte[] contentBytes,
             InputStream inputStream) {
         responseHeaderNames = new String[headerEntries.size()];
         responseHeaderValues = new String[headerEntries.size()];
@@ -53,6 +68,7 @@ public class StoreResponse {
         this.status = status;
 
         this.content = content;
+        this.contentBytes = contentBytes;
         this.httpEntityStream = inputStream;
     }
 
@@ -69,9 +85,25 @@ public class StoreResponse {
     }
 
     public String getResponseBody() {
+        if (this.content == null && this.contentBytes != null) {
+            this.content = new String(this.contentBytes, StandardCharsets.UTF_8);
+        }
         return this.content;
     }
 
+    /**
+     * Gets the UTF-8 encoded content, without decoding it to a {@link String} when the response was created from
+     * bytes.
+     *
+     * @return the content bytes, or null if the response has no content. The array must not be modified.
+     */
+    public byte[] getResponseBodyAsByteArray() {
+        if (this.contentBytes != null) {
+            return this.contentBytes;
+        }
+        return this.content == null ? null : this.content.getBytes(StandardCharsets.UTF_8);
+    }
+
     public InputStream getResponseStream() {
         // Some operation type doesn't have a response stream so this can be null
         return this.httpEntityStream;
@@ -104,6 +104,12 @@ public interface RntbdEndpoint extends AutoCloseable {
             return this.options.bufferPageSize();
         }
 
+        @JsonProperty
+        public int busyPollTimeout() {
+            // Microseconds, the unit of SO_BUSY_POLL
+            return (int)(this.options.busyPollTimeout().toNanos() / 1_000L);
+        }
+
         @JsonProperty
         public int connectionTimeout() {
             final long value = this.options.connectionTimeout().toMillis();
@@ -136,6 +142,11 @@ public interface RntbdEndpoint extends AutoCloseable {
             return this.options.maxRequestsPerChannel();
         }
 
+        @JsonProperty
+        public boolean preferNativeTransport() {
+            return this.options.preferNativeTransport();
+        }
+
         @JsonProperty
         public long receiveHangDetectionTime() {
             return this.options.receiveHangDetectionTime().toNanos();
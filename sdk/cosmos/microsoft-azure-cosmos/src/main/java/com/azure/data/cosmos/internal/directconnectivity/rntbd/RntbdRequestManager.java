@@ -45,6 +45,7 @@ import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.ReferenceCounted;
 import io.netty.util.Timeout;
+import io.netty.util.collection.LongObjectHashMap;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
 import io.netty.util.internal.ThrowableUtil;
@@ -53,12 +54,13 @@ import org.slf4j.LoggerFactory;
 
 import java.net.SocketAddress;
 import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static com.azure.data.cosmos.internal.HttpConstants.StatusCodes;
 import static com.azure.data.cosmos.internal.HttpConstants.SubStatusCodes;
@@ -86,9 +88,14 @@ public final class RntbdRequestManager implements ChannelHandler, ChannelInbound
     private final CompletableFuture<RntbdContextRequest> contextRequestFuture = new CompletableFuture<>();
     private final ChannelHealthChecker healthChecker;
     private final int pendingRequestLimit;
-    private final ConcurrentHashMap<Long, RntbdRequestRecord> pendingRequests;
     private final Timestamps timestamps = new Timestamps();
 
+    // Confined to the event loop of the channel: records are added on write, looked up on read and removed when they
+    // complete, by hopping to the event loop if they complete elsewhere. The count is read by channel pool threads.
+
+    private final LongObjectHashMap<RntbdRequestRecord> pendingRequests;
+    private volatile int pendingRequestCount;
+
     private boolean closingExceptionally = false;
     private CoalescingBufferQueue pendingWrites;
 
@@ -99,7 +106,7 @@ public final class RntbdRequestManager implements ChannelHandler, ChannelInbound
         checkArgument(pendingRequestLimit > 0, "pendingRequestLimit: %s", pendingRequestLimit);
         checkNotNull(healthChecker, "healthChecker");
 
-        this.pendingRequests = new ConcurrentHashMap<>(pendingRequestLimit);
+        this.pendingRequests = new LongObjectHashMap<>(pendingRequestLimit);
         this.pendingRequestLimit = pendingRequestLimit;
         this.healthChecker = healthChecker;
     }
@@ -517,7 +524,7 @@ public final class RntbdRequestManager implements ChannelHandler, ChannelInbound
     // region Package private methods
 
     int pendingRequestCount() {
-        return this.pendingRequests.size();
+        return this.pendingRequestCount;
     }
 
     Optional<RntbdContext> rntbdContext() {
@@ -538,7 +545,7 @@ public final class RntbdRequestManager implements ChannelHandler, ChannelInbound
 
     boolean isServiceable(final int demand) {
         final int limit = this.hasRntbdContext() ? this.pendingRequestLimit : Math.min(this.pendingRequestLimit, demand);
-        return this.pendingRequests.size() < limit;
+        return this.pendingRequestCount < limit;
     }
 
     void pendWrite(final ByteBuf out, final ChannelPromise promise) {
@@ -555,34 +562,51 @@ public final class RntbdRequestManager implements ChannelHandler, ChannelInbound
 
     private RntbdRequestArgs addPendingRequestRecord(final ChannelHandlerContext context, final RntbdRequestRecord record) {
 
-        return this.pendingRequests.compute(record.transportRequestId(), (id, current) -> {
+        final long id = record.transportRequestId();
+        final RntbdRequestRecord current = this.pendingRequests.put(id, record);
+        this.pendingRequestCount = this.pendingRequests.size();
 
-            boolean predicate = current == null;
-            String format = "id: {}, current: {}, request: {}";
+        boolean predicate = current == null;
+        String format = "id: {}, current: {}, request: {}";
 
-            reportIssueUnless(predicate, context, format, record);
+        reportIssueUnless(predicate, context, format, record);
 
-            final Timeout pendingRequestTimeout = record.newTimeout(timeout -> {
+        final Timeout pendingRequestTimeout = record.newTimeout(timeout -> {
 
-                // We don't wish to complete on the timeout thread, but rather on a thread doled out by our executor
+            // We don't wish to complete on the timeout thread, but rather on a thread doled out by our executor
 
-                EventExecutor executor = context.executor();
+            EventExecutor executor = context.executor();
 
-                if (executor.inEventLoop()) {
-                    record.expire();
-                } else {
-                    executor.next().execute(record::expire);
-                }
-            });
+            if (executor.inEventLoop()) {
+                record.expire();
+            } else {
+                executor.next().execute(record::expire);
+            }
+        });
 
-            record.whenComplete((response, error) -> {
-                this.pendingRequests.remove(id);
-                pendingRequestTimeout.cancel();
-            });
+        record.whenComplete((response, error) -> {
+
+            pendingRequestTimeout.cancel();
+
+            // Records may be cancelled on any thread, but the pending request map is only updated on the event loop
 
-            return record;
+            final EventExecutor executor = context.executor();
 
-        }).args();
+            if (executor.inEventLoop()) {
+                this.removePendingRequestRecord(id, record);
+            } else {
+                executor.execute(() -> this.removePendingRequestRecord(id, record));
+            }
+        });
+
+        return record.args();
+    }
+
+    private void removePendingRequestRecord(final long id, final RntbdRequestRecord record) {
+        if (this.pendingRequests.get(id) == record) {
+            this.pendingRequests.remove(id);
+            this.pendingRequestCount = this.pendingRequests.size();
+        }
     }
 
     private void completeAllPendingRequestsExceptionally(final ChannelHandlerContext context, final Throwable throwable) {
@@ -660,7 +684,11 @@ public final class RntbdRequestManager implements ChannelHandler, ChannelInbound
                     : new ChannelException(throwable);
             }
 
-            for (RntbdRequestRecord record : this.pendingRequests.values()) {
+            // Completing a record removes it from the pending request map, which cannot be modified while iterated
+
+            final List<RntbdRequestRecord> records = new ArrayList<>(this.pendingRequests.values());
+
+            for (RntbdRequestRecord record : records) {
 
                 final Map<String, String> requestHeaders = record.args().serviceRequest().getHeaders();
                 final String requestUri = record.args().physicalAddress().toString();
@@ -688,7 +716,7 @@ public final class RntbdRequestManager implements ChannelHandler, ChannelInbound
             return;
         }
 
-        final RntbdRequestRecord pendingRequest = this.pendingRequests.get(transportRequestId);
+        final RntbdRequestRecord pendingRequest = this.pendingRequests.get(transportRequestId.longValue());
 
         if (pendingRequest == null) {
             logger.warn("{} response ignored because there is no matching pending request: {}", context, response);
@@ -19,7 +19,6 @@ import io.netty.util.ReferenceCounted;
 import io.netty.util.ResourceLeakDetector;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -231,11 +230,22 @@ public final class RntbdResponse implements ReferenceCounted {
 
         checkNotNull(context, "context");
         final int length = this.content.readableBytes();
+        final byte[] contentBytes;
+
+        // The payload is copied once, as is, so that this response can be released by the event loop: it is decoded
+        // or parsed later, and only if it is needed
+
+        if (length == 0) {
+            contentBytes = null;
+        } else {
+            contentBytes = new byte[length];
+            this.content.readBytes(contentBytes);
+        }
 
         return new StoreResponse(
             this.getStatus().code(),
             this.headers.asList(context, this.getActivityId()),
-            length == 0 ? null : this.content.readCharSequence(length, StandardCharsets.UTF_8).toString()
+            contentBytes
         );
     }
 
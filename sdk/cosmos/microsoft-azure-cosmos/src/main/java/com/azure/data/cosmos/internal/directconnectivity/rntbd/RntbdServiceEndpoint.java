@@ -18,6 +18,11 @@ import io.netty.channel.AdaptiveRecvByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.logging.LogLevel;
@@ -70,20 +75,35 @@ public final class RntbdServiceEndpoint implements RntbdEndpoint {
     // region Constructors
 
     private RntbdServiceEndpoint(
-        final Provider provider, final Config config, final NioEventLoopGroup group, final RntbdRequestTimer timer,
+        final Provider provider, final Config config, final EventLoopGroup group, final RntbdRequestTimer timer,
         final URI physicalAddress
     ) {
 
         final Bootstrap bootstrap = new Bootstrap()
-            .channel(NioSocketChannel.class)
             .group(group)
             .option(ChannelOption.ALLOCATOR, config.allocator())
             .option(ChannelOption.AUTO_READ, true)
             .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.connectionTimeout())
             .option(ChannelOption.RCVBUF_ALLOCATOR, receiveBufferAllocator)
             .option(ChannelOption.SO_KEEPALIVE, true)
+            .option(ChannelOption.TCP_NODELAY, true)
             .remoteAddress(physicalAddress.getHost(), physicalAddress.getPort());
 
+        if (provider.nativeTransport) {
+
+            // Responses are acknowledged as soon as they are received rather than with the next request, and sockets
+            // busy poll for data, when asked to, instead of sleeping until the next interrupt
+
+            bootstrap.channel(EpollSocketChannel.class).option(EpollChannelOption.TCP_QUICKACK, true);
+
+            if (config.busyPollTimeout() > 0) {
+                bootstrap.option(EpollChannelOption.SO_BUSY_POLL, config.busyPollTimeout());
+            }
+
+        } else {
+            bootstrap.channel(NioSocketChannel.class);
+        }
+
         this.channelPool = new RntbdClientChannelPool(this, bootstrap, config);
         this.remoteAddress = bootstrap.config().remoteAddress();
         this.concurrentRequests = new AtomicInteger();
@@ -305,8 +325,9 @@ public final class RntbdServiceEndpoint implements RntbdEndpoint {
         private final AtomicBoolean closed;
         private final Config config;
         private final ConcurrentHashMap<String, RntbdEndpoint> endpoints;
-        private final NioEventLoopGroup eventLoopGroup;
+        private final EventLoopGroup eventLoopGroup;
         private final AtomicInteger evictions;
+        private final boolean nativeTransport;
         private final RntbdRequestTimer requestTimer;
         private final RntbdTransportClient transportClient;
 
@@ -331,7 +352,10 @@ public final class RntbdServiceEndpoint implements RntbdEndpoint {
             this.transportClient = transportClient;
             this.config = new Config(options, sslContext, wireLogLevel);
             this.requestTimer = new RntbdRequestTimer(config.requestTimeout());
-            this.eventLoopGroup = new NioEventLoopGroup(threadCount, threadFactory);
+            this.nativeTransport = options.preferNativeTransport() && isNativeTransportAvailable();
+            this.eventLoopGroup = this.nativeTransport
+                ? new EpollEventLoopGroup(threadCount, threadFactory)
+                : new NioEventLoopGroup(threadCount, threadFactory);
 
             this.endpoints = new ConcurrentHashMap<>();
             this.evictions = new AtomicInteger();
@@ -389,6 +413,17 @@ public final class RntbdServiceEndpoint implements RntbdEndpoint {
             return this.endpoints.values().stream();
         }
 
+        private static boolean isNativeTransportAvailable() {
+
+            if (Epoll.isAvailable()) {
+                return true;
+            }
+
+            logger.warn("native transport unavailable, falling back to NIO: {}",
+                Epoll.unavailabilityCause().toString());
+            return false;
+        }
+
         private void evict(RntbdEndpoint endpoint) {
 
             // TODO: DANOBLE: Utilize this method of tearing down unhealthy endpoints
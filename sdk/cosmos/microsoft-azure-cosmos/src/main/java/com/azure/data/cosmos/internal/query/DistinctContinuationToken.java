@@ -0,0 +1,68 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.query;
+
+import com.azure.data.cosmos.BridgeInternal;
+import com.azure.data.cosmos.JsonSerializable;
+import com.azure.data.cosmos.internal.Utils.ValueHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * While this class is public, but it is not part of our published public APIs.
+ * This is meant to be internally used only by our sdk.
+ */
+public final class DistinctContinuationToken extends JsonSerializable {
+    private static final String LastHashPropertyName = "lastHash";
+    private static final String SourceTokenPropertyName = "sourceToken";
+    private static final Logger logger = LoggerFactory.getLogger(DistinctContinuationToken.class);
+
+    public DistinctContinuationToken(String lastHash, String sourceToken) {
+        // lastHash and sourceToken are allowed to be null.
+        this.setLastHash(lastHash);
+        this.setSourceToken(sourceToken);
+    }
+
+    private DistinctContinuationToken(String serializedDistinctContinuationToken) {
+        super(serializedDistinctContinuationToken);
+    }
+
+    public static boolean tryParse(String serializedDistinctContinuationToken,
+            ValueHolder<DistinctContinuationToken> outDistinctContinuationToken) {
+        boolean parsed;
+        try {
+            DistinctContinuationToken distinctContinuationToken =
+                    new DistinctContinuationToken(serializedDistinctContinuationToken);
+            distinctContinuationToken.getSourceToken();
+            distinctContinuationToken.getLastHash();
+            outDistinctContinuationToken.v = distinctContinuationToken;
+            parsed = true;
+        } catch (Exception ex) {
+            logger.debug(
+                    "Received exception {} when trying to parse: {}",
+                    ex.getMessage(),
+                    serializedDistinctContinuationToken);
+            parsed = false;
+            outDistinctContinuationToken.v = null;
+        }
+
+        return parsed;
+    }
+
+    public String getLastHash() {
+        return super.getString(LastHashPropertyName);
+    }
+
+    public String getSourceToken() {
+        return super.getString(SourceTokenPropertyName);
+    }
+
+    private void setLastHash(String lastHash) {
+        BridgeInternal.setProperty(this, LastHashPropertyName, lastHash);
+    }
+
+    private void setSourceToken(String sourceToken) {
+        BridgeInternal.setProperty(this, SourceTokenPropertyName, sourceToken);
+    }
+}
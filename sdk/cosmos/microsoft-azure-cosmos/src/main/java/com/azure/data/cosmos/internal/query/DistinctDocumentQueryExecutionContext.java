@@ -0,0 +1,124 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.query;
+
+import com.azure.data.cosmos.BridgeInternal;
+import com.azure.data.cosmos.CosmosClientException;
+import com.azure.data.cosmos.FeedResponse;
+import com.azure.data.cosmos.Resource;
+import com.azure.data.cosmos.internal.HttpConstants;
+import com.azure.data.cosmos.internal.Utils.ValueHolder;
+import com.google.common.hash.HashCode;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Removes the duplicate results of a DISTINCT query.
+ *
+ * Results are compared by their {@link DistinctHash}, only hashes are kept. The duplicates of an ordered query are
+ * adjacent, so each result is only compared with the previous one, which keeps the memory constant and lets the query
+ * resume from a continuation token holding the hash of the last result. An unordered query keeps the hash of every
+ * distinct result seen, whatever their number, which costs a small fraction of the memory of the results; as the
+ * hashes of the previous pages cannot be carried by a continuation token, it cannot be resumed.
+ */
+public class DistinctDocumentQueryExecutionContext<T extends Resource> implements IDocumentQueryExecutionComponent<T> {
+
+    private final IDocumentQueryExecutionComponent<T> component;
+    private final DistinctQueryType distinctQueryType;
+    private final Set<HashCode> hashes = new HashSet<>();
+    private HashCode lastHash;
+
+    public DistinctDocumentQueryExecutionContext(IDocumentQueryExecutionComponent<T> component,
+            DistinctQueryType distinctQueryType, HashCode lastHash) {
+        if (distinctQueryType == DistinctQueryType.None) {
+            throw new IllegalArgumentException("distinctQueryType cannot be None.");
+        }
+
+        this.component = component;
+        this.distinctQueryType = distinctQueryType;
+        this.lastHash = lastHash;
+    }
+
+    public static <T extends Resource> Flux<IDocumentQueryExecutionComponent<T>> createAsync(
+            Function<String, Flux<IDocumentQueryExecutionComponent<T>>> createSourceComponentFunction,
+            DistinctQueryType distinctQueryType, String distinctContinuationToken) {
+        if (distinctContinuationToken == null) {
+            return createSourceComponentFunction
+                    .apply(null)
+                    .map(component -> new DistinctDocumentQueryExecutionContext<>(component, distinctQueryType,
+                            null));
+        }
+
+        if (distinctQueryType != DistinctQueryType.Ordered) {
+            String message = "Continuation token is not supported for a DISTINCT query whose results are not ordered.";
+            CosmosClientException dce = BridgeInternal.createCosmosClientException(HttpConstants.StatusCodes.BADREQUEST,
+                    message);
+            return Flux.error(dce);
+        }
+
+        ValueHolder<DistinctContinuationToken> outDistinctContinuationToken = new ValueHolder<>();
+        HashCode lastHash = null;
+        boolean parsed = DistinctContinuationToken.tryParse(distinctContinuationToken, outDistinctContinuationToken);
+        if (parsed && outDistinctContinuationToken.v.getLastHash() != null) {
+            try {
+                lastHash = HashCode.fromString(outDistinctContinuationToken.v.getLastHash());
+            } catch (IllegalArgumentException e) {
+                parsed = false;
+            }
+        }
+
+        if (!parsed) {
+            String message = String.format("INVALID JSON in continuation token %s for Distinct~Context",
+                    distinctContinuationToken);
+            CosmosClientException dce = BridgeInternal.createCosmosClientException(HttpConstants.StatusCodes.BADREQUEST,
+                    message);
+            return Flux.error(dce);
+        }
+
+        HashCode continuationLastHash = lastHash;
+        return createSourceComponentFunction
+                .apply(outDistinctContinuationToken.v.getSourceToken())
+                .map(component -> new DistinctDocumentQueryExecutionContext<>(component, distinctQueryType,
+                        continuationLastHash));
+    }
+
+    @Override
+    public Flux<FeedResponse<T>> drainAsync(int maxPageSize) {
+        return this.component.drainAsync(maxPageSize).map(page -> {
+            List<T> results = new ArrayList<>(page.results().size());
+            for (T result : page.results()) {
+                HashCode hash = DistinctHash.hash(BridgeInternal.getPropertyBag(result));
+                if (this.distinctQueryType == DistinctQueryType.Ordered) {
+                    if (!hash.equals(this.lastHash)) {
+                        results.add(result);
+                    }
+                    this.lastHash = hash;
+                } else if (this.hashes.add(hash)) {
+                    results.add(result);
+                }
+            }
+
+            Map<String, String> headers = new HashMap<>(page.responseHeaders());
+            String sourceContinuationToken = page.continuationToken();
+            if (this.distinctQueryType == DistinctQueryType.Ordered && sourceContinuationToken != null) {
+                DistinctContinuationToken distinctContinuationToken = new DistinctContinuationToken(
+                        this.lastHash != null ? this.lastHash.toString() : null, sourceContinuationToken);
+                headers.put(HttpConstants.HttpHeaders.CONTINUATION, distinctContinuationToken.toJson());
+            } else {
+                // Null out the continuation token
+                headers.put(HttpConstants.HttpHeaders.CONTINUATION, null);
+            }
+
+            return BridgeInternal.createFeedResponseWithQueryMetrics(results, headers,
+                    BridgeInternal.queryMetricsFromFeedResponse(page));
+        });
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Hashes query results to compare them by value, as DISTINCT and GROUP BY do, without keeping the results.
+ *
+ * The hash does not depend on the order of the properties of an object, and numbers are hashed as doubles, so that
+ * 1 and 1.0 are equal as in the service. Values of different types never share an encoding, and a 128 bits hash makes
+ * collisions negligible.
+ */
+final class DistinctHash {
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    private static final byte UNDEFINED = 0;
+    private static final byte NULL = 1;
+    private static final byte FALSE = 2;
+    private static final byte TRUE = 3;
+    private static final byte NUMBER = 4;
+    private static final byte STRING = 5;
+    private static final byte ARRAY = 6;
+    private static final byte OBJECT = 7;
+
+    private DistinctHash() {
+    }
+
+    /**
+     * Hashes a value.
+     *
+     * @param value the value, or null if it is undefined.
+     * @return the hash of the value.
+     */
+    static HashCode hash(JsonNode value) {
+        Hasher hasher = HASH_FUNCTION.newHasher();
+        put(hasher, value);
+        return hasher.hash();
+    }
+
+    private static void put(Hasher hasher, JsonNode value) {
+        if (value == null || value.isMissingNode()) {
+            hasher.putByte(UNDEFINED);
+            return;
+        }
+
+        switch (value.getNodeType()) {
+            case NULL:
+                hasher.putByte(NULL);
+                break;
+            case BOOLEAN:
+                hasher.putByte(value.booleanValue() ? TRUE : FALSE);
+                break;
+            case NUMBER:
+                // -0.0 and 0.0 are equal numbers.
+                hasher.putByte(NUMBER).putDouble(value.doubleValue() + 0.0);
+                break;
+            case STRING:
+                String text = value.textValue();
+                hasher.putByte(STRING).putInt(text.length()).putString(text, StandardCharsets.UTF_8);
+                break;
+            case ARRAY:
+                hasher.putByte(ARRAY).putInt(value.size());
+                for (JsonNode element : value) {
+                    put(hasher, element);
+                }
+                break;
+            case OBJECT:
+                List<String> names = new ArrayList<>(value.size());
+                Iterator<String> iterator = value.fieldNames();
+                while (iterator.hasNext()) {
+                    names.add(iterator.next());
+                }
+                Collections.sort(names);
+
+                hasher.putByte(OBJECT).putInt(names.size());
+                for (String name : names) {
+                    hasher.putInt(name.length()).putString(name, StandardCharsets.UTF_8);
+                    put(hasher, value.get(name));
+                }
+                break;
+            default:
+                // Binary and POJO nodes are not produced by the service, hash their text as a fallback.
+                String other = value.asText();
+                hasher.putByte(STRING).putInt(other.length()).putString(other, StandardCharsets.UTF_8);
+                break;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.query;
+
+/**
+ * Kind of DISTINCT of a query in the Azure Cosmos DB database service.
+ */
+public enum DistinctQueryType {
+    /**
+     * The query has no DISTINCT.
+     */
+    None,
+
+    /**
+     * Duplicate results of the query are adjacent, as the query is ordered by the distinct values.
+     */
+    Ordered,
+
+    /**
+     * Duplicate results of the query can be anywhere in the results.
+     */
+    Unordered
+}
@@ -0,0 +1,247 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.query;
+
+import com.azure.data.cosmos.BridgeInternal;
+import com.azure.data.cosmos.CosmosClientException;
+import com.azure.data.cosmos.FeedResponse;
+import com.azure.data.cosmos.Resource;
+import com.azure.data.cosmos.internal.Constants;
+import com.azure.data.cosmos.internal.Document;
+import com.azure.data.cosmos.internal.HttpConstants;
+import com.azure.data.cosmos.internal.QueryMetrics;
+import com.azure.data.cosmos.internal.Undefined;
+import com.azure.data.cosmos.internal.query.aggregation.AggregateOperator;
+import com.azure.data.cosmos.internal.query.aggregation.Aggregator;
+import com.azure.data.cosmos.internal.query.aggregation.AverageAggregator;
+import com.azure.data.cosmos.internal.query.aggregation.CountAggregator;
+import com.azure.data.cosmos.internal.query.aggregation.MaxAggregator;
+import com.azure.data.cosmos.internal.query.aggregation.MinAggregator;
+import com.azure.data.cosmos.internal.query.aggregation.SumAggregator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Merges the groups of a GROUP BY query computed by each partition.
+ *
+ * Each partition returns its groups as {"groupByItems": [...], "payload": ...}. Groups are keyed by the
+ * {@link DistinctHash} of their group by items, so only the hash and the running value of each alias of the select
+ * list are kept per group: aggregates are merged with the aggregators of aggregate queries, other aliases are group by
+ * expressions, whose value is the same in the whole group. All groups are known once every partition was drained,
+ * the query therefore cannot be resumed from a continuation token.
+ */
+public class GroupByDocumentQueryExecutionContext<T extends Resource> implements IDocumentQueryExecutionComponent<T> {
+    private static final String GROUP_BY_ITEMS_PROPERTY_NAME = "groupByItems";
+    private static final String PAYLOAD_PROPERTY_NAME = "payload";
+    private static final String ITEM_PROPERTY_NAME = "item";
+
+    private final IDocumentQueryExecutionComponent<T> component;
+    private final Map<String, AggregateOperator> aliasToAggregateType;
+    private final List<String> aliases;
+    private final boolean hasSelectValue;
+    private final Map<HashCode, Group> groups = new LinkedHashMap<>();
+    private final ConcurrentMap<String, QueryMetrics> queryMetricsMap = new ConcurrentHashMap<>();
+
+    public GroupByDocumentQueryExecutionContext(IDocumentQueryExecutionComponent<T> component,
+            Map<String, AggregateOperator> aliasToAggregateType, List<String> aliases, boolean hasSelectValue) {
+        if (hasSelectValue && aliasToAggregateType.size() != 1) {
+            throw new IllegalArgumentException("A GROUP BY query with SELECT VALUE must have exactly one alias.");
+        }
+
+        this.component = component;
+        this.aliasToAggregateType = aliasToAggregateType;
+        this.aliases = aliases != null ? aliases : new ArrayList<>(aliasToAggregateType.keySet());
+        this.hasSelectValue = hasSelectValue;
+    }
+
+    public static <T extends Resource> Flux<IDocumentQueryExecutionComponent<T>> createAsync(
+            Function<String, Flux<IDocumentQueryExecutionComponent<T>>> createSourceComponentFunction,
+            QueryInfo queryInfo, String continuationToken) {
+        if (continuationToken != null) {
+            String message = "Continuation token is not supported for a GROUP BY query.";
+            CosmosClientException dce = BridgeInternal.createCosmosClientException(HttpConstants.StatusCodes.BADREQUEST,
+                    message);
+            return Flux.error(dce);
+        }
+
+        return createSourceComponentFunction
+                .apply(null)
+                .map(component -> new GroupByDocumentQueryExecutionContext<>(component,
+                        queryInfo.getGroupByAliasToAggregateType(), queryInfo.getGroupByAliases(),
+                        queryInfo.hasSelectValue()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Flux<FeedResponse<T>> drainAsync(int maxPageSize) {
+        return this.component.drainAsync(maxPageSize)
+                .reduce(0.0, (requestCharge, page) -> {
+                    for (T result : page.results()) {
+                        ObjectNode groupByResult = BridgeInternal.getPropertyBag(result);
+                        HashCode key = DistinctHash.hash(groupByResult.get(GROUP_BY_ITEMS_PROPERTY_NAME));
+                        this.groups.computeIfAbsent(key, k -> new Group())
+                                .add(groupByResult.get(PAYLOAD_PROPERTY_NAME));
+                    }
+
+                    ConcurrentMap<String, QueryMetrics> pageQueryMetrics =
+                            BridgeInternal.queryMetricsFromFeedResponse(page);
+                    for (Map.Entry<String, QueryMetrics> entry : pageQueryMetrics.entrySet()) {
+                        QueryMetrics queryMetrics = this.queryMetricsMap.get(entry.getKey());
+                        if (queryMetrics != null) {
+                            queryMetrics.add(entry.getValue());
+                        } else {
+                            this.queryMetricsMap.put(entry.getKey(), entry.getValue());
+                        }
+                    }
+
+                    return requestCharge + page.requestCharge();
+                })
+                .flatMapMany(requestCharge -> {
+                    List<Document> results = new ArrayList<>(this.groups.size());
+                    for (Group group : this.groups.values()) {
+                        Document result = group.getResult();
+                        if (result != null) {
+                            results.add(result);
+                        }
+                    }
+                    this.groups.clear();
+
+                    List<List<Document>> pages = results.isEmpty()
+                            ? Collections.singletonList(results)
+                            : Lists.partition(results, maxPageSize);
+                    List<FeedResponse<T>> responses = new ArrayList<>(pages.size());
+                    for (List<Document> page : pages) {
+                        // The request charge and the query metrics of the whole query are reported by the first page.
+                        HashMap<String, String> headers = new HashMap<>();
+                        headers.put(HttpConstants.HttpHeaders.REQUEST_CHARGE,
+                                Double.toString(responses.isEmpty() ? requestCharge : 0));
+                        FeedResponse<Document> frp = BridgeInternal.createFeedResponse(page, headers);
+                        if (responses.isEmpty()) {
+                            for (Map.Entry<String, QueryMetrics> entry : this.queryMetricsMap.entrySet()) {
+                                BridgeInternal.putQueryMetricsIntoMap(frp, entry.getKey(), entry.getValue());
+                            }
+                        }
+                        responses.add((FeedResponse<T>) frp);
+                    }
+
+                    return Flux.fromIterable(responses);
+                });
+    }
+
+    private static Aggregator createAggregator(AggregateOperator aggregateOperator) {
+        switch (aggregateOperator) {
+            case Average:
+                return new AverageAggregator();
+            case Count:
+                return new CountAggregator();
+            case Max:
+                return new MaxAggregator();
+            case Min:
+                return new MinAggregator();
+            case Sum:
+                return new SumAggregator();
+            default:
+                throw new IllegalStateException("Unexpected value: " + aggregateOperator.toString());
+        }
+    }
+
+    private static Object getValue(JsonNode value) {
+        if (value == null || value.isMissingNode()) {
+            return Undefined.Value();
+        }
+
+        return value.isNull() ? null : BridgeInternal.getValue(value);
+    }
+
+    /*
+     * The value of an alias of the select list, within a group.
+     */
+    private static final class AliasValue {
+        private final Aggregator aggregator;
+        private Object value = Undefined.Value();
+        private boolean initialized;
+
+        AliasValue(AggregateOperator aggregateOperator) {
+            this.aggregator = aggregateOperator != null ? createAggregator(aggregateOperator) : null;
+        }
+
+        void add(JsonNode value) {
+            if (this.aggregator != null) {
+                // Partial aggregates are wrapped as the results of aggregate queries.
+                if (value != null && value.isArray() && value.size() == 1) {
+                    value = value.get(0);
+                }
+                if (value != null && value.isObject()) {
+                    value = value.get(ITEM_PROPERTY_NAME);
+                }
+                this.aggregator.aggregate(getValue(value));
+            } else if (!this.initialized) {
+                // Group by expressions have the same value in the whole group.
+                this.value = getValue(value);
+                this.initialized = true;
+            }
+        }
+
+        Object getResult() {
+            return this.aggregator != null ? this.aggregator.getResult() : this.value;
+        }
+    }
+
+    /*
+     * A group, with the value of each alias of the select list.
+     */
+    private final class Group {
+        private final Map<String, AliasValue> values = new LinkedHashMap<>();
+
+        Group() {
+            for (String alias : aliases) {
+                this.values.put(alias, new AliasValue(aliasToAggregateType.get(alias)));
+            }
+        }
+
+        void add(JsonNode payload) {
+            if (hasSelectValue) {
+                this.values.values().iterator().next().add(payload);
+                return;
+            }
+
+            for (Map.Entry<String, AliasValue> entry : this.values.entrySet()) {
+                entry.getValue().add(payload != null ? payload.get(entry.getKey()) : null);
+            }
+        }
+
+        Document getResult() {
+            Document result = new Document();
+            if (hasSelectValue) {
+                Object value = this.values.values().iterator().next().getResult();
+                if (Undefined.Value().equals(value)) {
+                    return null;
+                }
+                BridgeInternal.setProperty(result, Constants.Properties.AGGREGATE, value);
+                return result;
+            }
+
+            for (Map.Entry<String, AliasValue> entry : this.values.entrySet()) {
+                Object value = entry.getValue().getResult();
+                if (!Undefined.Value().equals(value)) {
+                    BridgeInternal.setProperty(result, entry.getKey(), value);
+                }
+            }
+            return result;
+        }
+    }
+}
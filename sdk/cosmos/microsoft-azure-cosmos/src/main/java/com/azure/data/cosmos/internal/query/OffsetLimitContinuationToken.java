@@ -0,0 +1,85 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.query;
+
+import com.azure.data.cosmos.BridgeInternal;
+import com.azure.data.cosmos.JsonSerializable;
+import com.azure.data.cosmos.internal.Utils.ValueHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * While this class is public, but it is not part of our published public APIs.
+ * This is meant to be internally used only by our sdk.
+ */
+public final class OffsetLimitContinuationToken extends JsonSerializable {
+    private static final String OffsetPropertyName = "offset";
+    private static final String LimitPropertyName = "limit";
+    private static final String SourceTokenPropertyName = "sourceToken";
+    private static final Logger logger = LoggerFactory.getLogger(OffsetLimitContinuationToken.class);
+
+    public OffsetLimitContinuationToken(int offset, int limit, String sourceToken) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must be a non negative number.");
+        }
+
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must be a non negative number.");
+        }
+
+        // sourceToken is allowed to be null.
+        this.setOffset(offset);
+        this.setLimit(limit);
+        this.setSourceToken(sourceToken);
+    }
+
+    private OffsetLimitContinuationToken(String serializedOffsetLimitContinuationToken) {
+        super(serializedOffsetLimitContinuationToken);
+    }
+
+    public static boolean tryParse(String serializedOffsetLimitContinuationToken,
+            ValueHolder<OffsetLimitContinuationToken> outOffsetLimitContinuationToken) {
+        boolean parsed;
+        try {
+            OffsetLimitContinuationToken offsetLimitContinuationToken =
+                    new OffsetLimitContinuationToken(serializedOffsetLimitContinuationToken);
+            offsetLimitContinuationToken.getSourceToken();
+            parsed = offsetLimitContinuationToken.getOffset() >= 0 && offsetLimitContinuationToken.getLimit() >= 0;
+            outOffsetLimitContinuationToken.v = parsed ? offsetLimitContinuationToken : null;
+        } catch (Exception ex) {
+            logger.debug(
+                    "Received exception {} when trying to parse: {}",
+                    ex.getMessage(),
+                    serializedOffsetLimitContinuationToken);
+            parsed = false;
+            outOffsetLimitContinuationToken.v = null;
+        }
+
+        return parsed;
+    }
+
+    public int getOffset() {
+        return super.getInt(OffsetPropertyName);
+    }
+
+    public int getLimit() {
+        return super.getInt(LimitPropertyName);
+    }
+
+    public String getSourceToken() {
+        return super.getString(SourceTokenPropertyName);
+    }
+
+    private void setOffset(int offset) {
+        BridgeInternal.setProperty(this, OffsetPropertyName, offset);
+    }
+
+    private void setLimit(int limit) {
+        BridgeInternal.setProperty(this, LimitPropertyName, limit);
+    }
+
+    private void setSourceToken(String sourceToken) {
+        BridgeInternal.setProperty(this, SourceTokenPropertyName, sourceToken);
+    }
+}
@@ -0,0 +1,110 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.query;
+
+import com.azure.data.cosmos.BridgeInternal;
+import com.azure.data.cosmos.CosmosClientException;
+import com.azure.data.cosmos.FeedResponse;
+import com.azure.data.cosmos.Resource;
+import com.azure.data.cosmos.internal.HttpConstants;
+import com.azure.data.cosmos.internal.Utils.ValueHolder;
+import reactor.core.publisher.Flux;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Skips the first OFFSET results of a query and returns at most LIMIT of the following ones, as results stream by,
+ * without buffering them.
+ */
+public class OffsetLimitDocumentQueryExecutionContext<T extends Resource>
+        implements IDocumentQueryExecutionComponent<T> {
+
+    private final IDocumentQueryExecutionComponent<T> component;
+    private int offset;
+    private int limit;
+
+    public OffsetLimitDocumentQueryExecutionContext(IDocumentQueryExecutionComponent<T> component, int offset,
+            int limit) {
+        this.component = component;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    public static <T extends Resource> Flux<IDocumentQueryExecutionComponent<T>> createAsync(
+            Function<String, Flux<IDocumentQueryExecutionComponent<T>>> createSourceComponentFunction,
+            int offset, int limit, String offsetLimitContinuationToken) {
+        OffsetLimitContinuationToken continuationToken;
+
+        if (offsetLimitContinuationToken == null) {
+            continuationToken = new OffsetLimitContinuationToken(offset, limit, null);
+        } else {
+            ValueHolder<OffsetLimitContinuationToken> outContinuationToken = new ValueHolder<>();
+            if (!OffsetLimitContinuationToken.tryParse(offsetLimitContinuationToken, outContinuationToken)) {
+                String message = String.format("INVALID JSON in continuation token %s for OffsetLimit~Context",
+                        offsetLimitContinuationToken);
+                CosmosClientException dce = BridgeInternal.createCosmosClientException(
+                        HttpConstants.StatusCodes.BADREQUEST, message);
+                return Flux.error(dce);
+            }
+
+            continuationToken = outContinuationToken.v;
+        }
+
+        if (continuationToken.getOffset() > offset || continuationToken.getLimit() > limit) {
+            String message = String.format(
+                    "offset %d and limit %d in continuation token can not be greater than the offset %d and limit %d"
+                            + " in the query.",
+                    continuationToken.getOffset(), continuationToken.getLimit(), offset, limit);
+            CosmosClientException dce = BridgeInternal.createCosmosClientException(
+                    HttpConstants.StatusCodes.BADREQUEST, message);
+            return Flux.error(dce);
+        }
+
+        return createSourceComponentFunction
+                .apply(continuationToken.getSourceToken())
+                .map(component -> new OffsetLimitDocumentQueryExecutionContext<>(component,
+                        continuationToken.getOffset(), continuationToken.getLimit()));
+    }
+
+    @Override
+    public Flux<FeedResponse<T>> drainAsync(int maxPageSize) {
+        if (this.component instanceof ParallelDocumentQueryExecutionContextBase<?>) {
+            // No partition has to return more than the results skipped and taken.
+            ((ParallelDocumentQueryExecutionContextBase<T>) this.component)
+                    .setTop((int) Math.min(Integer.MAX_VALUE, (long) this.offset + this.limit));
+        }
+
+        if (this.limit == 0) {
+            return Flux.empty();
+        }
+
+        return this.component.drainAsync(maxPageSize)
+                .map(page -> {
+                    List<T> results = page.results();
+                    int skipped = Math.min(this.offset, results.size());
+                    int taken = Math.min(this.limit, results.size() - skipped);
+                    this.offset -= skipped;
+                    this.limit -= taken;
+
+                    Map<String, String> headers = new HashMap<>(page.responseHeaders());
+                    String sourceContinuationToken = page.continuationToken();
+                    if (this.limit > 0 && sourceContinuationToken != null) {
+                        OffsetLimitContinuationToken continuationToken = new OffsetLimitContinuationToken(this.offset,
+                                this.limit, sourceContinuationToken);
+                        headers.put(HttpConstants.HttpHeaders.CONTINUATION, continuationToken.toJson());
+                    } else {
+                        // Null out the continuation token
+                        headers.put(HttpConstants.HttpHeaders.CONTINUATION, null);
+                    }
+
+                    return BridgeInternal.createFeedResponseWithQueryMetrics(
+                            results.subList(skipped, skipped + taken), headers,
+                            BridgeInternal.queryMetricsFromFeedResponse(page));
+                })
+                .takeUntil(page -> this.limit == 0);
+    }
+}
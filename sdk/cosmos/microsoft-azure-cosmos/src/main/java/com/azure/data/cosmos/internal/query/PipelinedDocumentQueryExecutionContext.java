@@ -73,7 +73,12 @@ public class PipelinedDocumentQueryExecutionContext<T extends Resource> implemen
         }
 
         Function<String, Flux<IDocumentQueryExecutionComponent<T>>> createAggregateComponentFunction;
-        if (queryInfo.hasAggregates()) {
+        if (queryInfo.hasGroupBy()) {
+            createAggregateComponentFunction = (continuationToken) -> {
+                return GroupByDocumentQueryExecutionContext.createAsync(createBaseComponentFunction, queryInfo,
+                        continuationToken);
+            };
+        } else if (queryInfo.hasAggregates()) {
             createAggregateComponentFunction = (continuationToken) -> {
                 return AggregateDocumentQueryExecutionContext.createAsync(createBaseComponentFunction,
                         queryInfo.getAggregates(), continuationToken);
@@ -82,14 +87,35 @@ public class PipelinedDocumentQueryExecutionContext<T extends Resource> implemen
             createAggregateComponentFunction = createBaseComponentFunction;
         }
 
+        Function<String, Flux<IDocumentQueryExecutionComponent<T>>> createDistinctComponentFunction;
+        if (queryInfo.hasDistinct()) {
+            createDistinctComponentFunction = (continuationToken) -> {
+                return DistinctDocumentQueryExecutionContext.createAsync(createAggregateComponentFunction,
+                        queryInfo.getDistinctQueryType(), continuationToken);
+            };
+        } else {
+            createDistinctComponentFunction = createAggregateComponentFunction;
+        }
+
+        Function<String, Flux<IDocumentQueryExecutionComponent<T>>> createOffsetLimitComponentFunction;
+        if (queryInfo.hasOffset() || queryInfo.hasLimit()) {
+            createOffsetLimitComponentFunction = (continuationToken) -> {
+                return OffsetLimitDocumentQueryExecutionContext.createAsync(createDistinctComponentFunction,
+                        Utils.getValueOrDefault(queryInfo.getOffset(), 0),
+                        Utils.getValueOrDefault(queryInfo.getLimit(), Integer.MAX_VALUE), continuationToken);
+            };
+        } else {
+            createOffsetLimitComponentFunction = createDistinctComponentFunction;
+        }
+
         Function<String, Flux<IDocumentQueryExecutionComponent<T>>> createTopComponentFunction;
         if (queryInfo.hasTop()) {
             createTopComponentFunction = (continuationToken) -> {
-                return TopDocumentQueryExecutionContext.createAsync(createAggregateComponentFunction,
+                return TopDocumentQueryExecutionContext.createAsync(createOffsetLimitComponentFunction,
                         queryInfo.getTop(), continuationToken);
             };
         } else {
-            createTopComponentFunction = createAggregateComponentFunction;
+            createTopComponentFunction = createOffsetLimitComponentFunction;
         }
 
         int actualPageSize = Utils.getValueOrDefault(feedOptions.maxItemCount(),
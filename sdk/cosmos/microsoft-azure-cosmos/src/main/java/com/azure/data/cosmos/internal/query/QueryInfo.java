@@ -3,12 +3,19 @@
 
 package com.azure.data.cosmos.internal.query;
 
+import com.azure.data.cosmos.BridgeInternal;
 import com.azure.data.cosmos.JsonSerializable;
 import com.azure.data.cosmos.internal.query.aggregation.AggregateOperator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Used internally to encapsulates a query's information in the Azure Cosmos DB database service.
@@ -19,6 +26,12 @@ public final class QueryInfo extends JsonSerializable {
     private Collection<AggregateOperator> aggregates;
     private Collection<String> orderByExpressions;
     private String rewrittenQuery;
+    private DistinctQueryType distinctQueryType;
+    private Integer offset;
+    private Integer limit;
+    private List<String> groupByExpressions;
+    private List<String> groupByAliases;
+    private Map<String, AggregateOperator> groupByAliasToAggregateType;
 
     public QueryInfo() { }
 
@@ -68,4 +81,80 @@ public final class QueryInfo extends JsonSerializable {
                 ? this.orderByExpressions
                 : (this.orderByExpressions = super.getCollection("orderByExpressions", String.class));
     }
-}
\ No newline at end of file
+
+    public DistinctQueryType getDistinctQueryType() {
+        if (this.distinctQueryType == null) {
+            String distinctType = super.getString("distinctType");
+            this.distinctQueryType = distinctType != null
+                    ? DistinctQueryType.valueOf(distinctType)
+                    : DistinctQueryType.None;
+        }
+
+        return this.distinctQueryType;
+    }
+
+    public boolean hasDistinct() {
+        return this.getDistinctQueryType() != DistinctQueryType.None;
+    }
+
+    public Integer getOffset() {
+        return this.offset != null ? this.offset : (this.offset = super.getInt("offset"));
+    }
+
+    public Integer getLimit() {
+        return this.limit != null ? this.limit : (this.limit = super.getInt("limit"));
+    }
+
+    public boolean hasOffset() {
+        return this.getOffset() != null;
+    }
+
+    public boolean hasLimit() {
+        return this.getLimit() != null;
+    }
+
+    public List<String> getGroupByExpressions() {
+        return this.groupByExpressions != null
+                ? this.groupByExpressions
+                : (this.groupByExpressions = super.getList("groupByExpressions", String.class));
+    }
+
+    public List<String> getGroupByAliases() {
+        return this.groupByAliases != null
+                ? this.groupByAliases
+                : (this.groupByAliases = super.getList("groupByAliases", String.class));
+    }
+
+    /**
+     * Gets the aggregate computed by each alias of the select list of a GROUP BY query.
+     *
+     * @return the aggregate operator of each alias, or null for aliases which are not aggregates.
+     */
+    public Map<String, AggregateOperator> getGroupByAliasToAggregateType() {
+        if (this.groupByAliasToAggregateType == null) {
+            Map<String, AggregateOperator> aliasToAggregateType = new LinkedHashMap<>();
+            ObjectNode aliases = BridgeInternal.getObject(this, "groupByAliasToAggregateType");
+            if (aliases != null) {
+                Iterator<Map.Entry<String, JsonNode>> fields = aliases.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    aliasToAggregateType.put(field.getKey(), field.getValue().isTextual()
+                            ? AggregateOperator.valueOf(field.getValue().textValue())
+                            : null);
+                }
+            }
+            this.groupByAliasToAggregateType = Collections.unmodifiableMap(aliasToAggregateType);
+        }
+
+        return this.groupByAliasToAggregateType;
+    }
+
+    public boolean hasGroupBy() {
+        Collection<String> groupByExpressions = this.getGroupByExpressions();
+        return groupByExpressions != null && groupByExpressions.size() > 0;
+    }
+
+    public boolean hasSelectValue() {
+        return Boolean.TRUE.equals(super.getBoolean("hasSelectValue"));
+    }
+}
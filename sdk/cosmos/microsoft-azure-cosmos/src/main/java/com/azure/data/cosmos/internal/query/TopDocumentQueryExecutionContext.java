@@ -61,16 +61,16 @@ public class TopDocumentQueryExecutionContext<T extends Resource> implements IDo
 
     @Override
     public Flux<FeedResponse<T>> drainAsync(int maxPageSize) {
-        ParallelDocumentQueryExecutionContextBase<T> context;
+        IDocumentQueryExecutionComponent<T> context = this.component;
 
-        if (this.component instanceof AggregateDocumentQueryExecutionContext<?>) {
-            context = (ParallelDocumentQueryExecutionContextBase<T>) ((AggregateDocumentQueryExecutionContext<T>) this.component)
-                    .getComponent();
-        } else {
-            context = (ParallelDocumentQueryExecutionContextBase<T>) this.component;
+        if (context instanceof AggregateDocumentQueryExecutionContext<?>) {
+            context = ((AggregateDocumentQueryExecutionContext<T>) context).getComponent();
         }
 
-        context.setTop(this.top);
+        // The top can only be pushed to the partitions when no DISTINCT, GROUP BY or OFFSET stands in between.
+        if (context instanceof ParallelDocumentQueryExecutionContextBase<?>) {
+            ((ParallelDocumentQueryExecutionContextBase<T>) context).setTop(this.top);
+        }
 
         return this.component.drainAsync(maxPageSize).takeUntil(new Predicate<FeedResponse<T>>() {
 
@@ -0,0 +1,340 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal;
+
+import com.azure.data.cosmos.BridgeInternal;
+import com.azure.data.cosmos.ConnectionPolicy;
+import com.azure.data.cosmos.CosmosClientException;
+import com.azure.data.cosmos.NotFoundException;
+import com.azure.data.cosmos.PartitionKeyDefinition;
+import com.azure.data.cosmos.Resource;
+import com.azure.data.cosmos.internal.caches.IPartitionKeyRangeCache;
+import com.azure.data.cosmos.internal.caches.RxClientCollectionCache;
+import com.azure.data.cosmos.internal.routing.CollectionRoutingMap;
+import com.azure.data.cosmos.internal.routing.PartitionKeyInternalHelper;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkExecutorTest {
+    private static final int TIMEOUT = 10000;
+    private static final String COLLECTION_LINK = "dbs/db/colls/coll";
+
+    private PartitionKeyDefinition partitionKeyDefinition;
+    private IPartitionKeyRangeCache partitionKeyRangeCache;
+    private AsyncDocumentClient client;
+    private Queue<PendingSend> pendingSends;
+    private List<Long> sendTimes;
+    private Function<Document, Mono<ResourceResponse<Document>>> sendBehavior;
+
+    @BeforeMethod(groups = { "unit" })
+    public void beforeMethod() {
+        partitionKeyDefinition = new PartitionKeyDefinition();
+        partitionKeyDefinition.paths(Collections.singletonList("/pk"));
+        DocumentCollection collection = new DocumentCollection();
+        collection.setPartitionKey(partitionKeyDefinition);
+        collection.resourceId("collectionRid");
+
+        // Partitions "a" and "b" resolve to their own range, "c" fails to resolve and other keys have no range.
+        Map<String, PartitionKeyRange> ranges = new HashMap<>();
+        ranges.put(effectivePartitionKey("a"), new PartitionKeyRange("0", "", "80"));
+        ranges.put(effectivePartitionKey("b"), new PartitionKeyRange("1", "80", "FF"));
+        String failingEffectivePartitionKey = effectivePartitionKey("c");
+        CollectionRoutingMap routingMap = Mockito.mock(CollectionRoutingMap.class);
+        Mockito.when(routingMap.getRangeByEffectivePartitionKey(Matchers.anyString())).then(invocation -> {
+            String effectivePartitionKey = invocation.getArgumentAt(0, String.class);
+            if (effectivePartitionKey.equals(failingEffectivePartitionKey)) {
+                throw new IllegalStateException("unresolvable");
+            }
+            return ranges.get(effectivePartitionKey);
+        });
+        Mockito.when(routingMap.getOrderedPartitionKeyRanges()).thenReturn(Arrays.asList(
+            new PartitionKeyRange("0", "", "80"), new PartitionKeyRange("1", "80", "FF")));
+        partitionKeyRangeCache = Mockito.mock(IPartitionKeyRangeCache.class);
+        Mockito.when(partitionKeyRangeCache.tryLookupAsync("collectionRid", null, null))
+            .thenReturn(Mono.just(routingMap));
+
+        ResourceResponse<DocumentCollection> collectionResponse = resourceResponse(collection, DocumentCollection.class);
+        client = Mockito.mock(AsyncDocumentClient.class);
+        Mockito.when(client.readCollection(COLLECTION_LINK, null)).thenReturn(Flux.just(collectionResponse));
+        Mockito.when(client.getPartitionKeyRangeCache()).thenReturn(partitionKeyRangeCache);
+
+        // By default, sends stay pending until the test completes them.
+        pendingSends = new ConcurrentLinkedQueue<>();
+        sendTimes = Collections.synchronizedList(new ArrayList<>());
+        sendBehavior = document -> {
+            MonoProcessor<ResourceResponse<Document>> response = MonoProcessor.create();
+            pendingSends.add(new PendingSend(document, response));
+            return response;
+        };
+        Mockito.when(client.upsertDocument(Matchers.eq(COLLECTION_LINK), Matchers.any(), Matchers.any(),
+            Matchers.eq(true))).then(invocation -> {
+                sendTimes.add(System.nanoTime());
+                return sendBehavior.apply(invocation.getArgumentAt(1, Document.class)).flux();
+            });
+    }
+
+    @Test(groups = { "unit" }, timeOut = TIMEOUT)
+    public void concurrencyLimitGrowsAfterSuccesses() {
+        BulkExecutor executor = new BulkExecutor(client, COLLECTION_LINK, 1, 3, 0);
+        List<BulkExecutor.ItemResult<Integer>> results = new ArrayList<>();
+        executor.execute(operations("a", 10)).subscribe(results::add);
+
+        assertThat(pendingSends).hasSize(1);
+        // One success at a limit of one raises it to two.
+        completeNext();
+        assertThat(pendingSends).hasSize(2);
+        completeNext();
+        assertThat(pendingSends).hasSize(2);
+        // Two successes at a limit of two raise it to three, the maximum.
+        completeNext();
+        assertThat(pendingSends).hasSize(3);
+        while (!pendingSends.isEmpty()) {
+            completeNext();
+            assertThat(pendingSends.size()).isLessThanOrEqualTo(3);
+        }
+
+        assertThat(results).hasSize(10);
+        assertThat(results).allMatch(result -> result.getResponse() != null && result.getError() == null);
+    }
+
+    @Test(groups = { "unit" }, timeOut = TIMEOUT)
+    public void concurrencyLimitHalvesWhenThrottled() {
+        BulkExecutor executor = new BulkExecutor(client, COLLECTION_LINK, 4, 4, 1);
+        Disposable execution = executor.execute(operations("a", 10)).subscribe();
+
+        assertThat(pendingSends).hasSize(4);
+        // The throttled operation is retried much later, after the limit was checked.
+        pendingSends.poll().response.onError(throttled(60000));
+        assertThat(pendingSends).hasSize(3);
+        completeNext();
+        assertThat(pendingSends).hasSize(2);
+        // Two successes at the halved limit of two raise it to three again.
+        completeNext();
+        assertThat(pendingSends).hasSize(3);
+
+        execution.dispose();
+    }
+
+    @Test(groups = { "unit" }, timeOut = TIMEOUT)
+    public void throttlingReachesExecutorThroughClientRetryPolicy() throws Exception {
+        // The client retry policy of a document write, with the default throttling retries of the client.
+        GlobalEndpointManager globalEndpointManager = Mockito.mock(GlobalEndpointManager.class);
+        Mockito.when(globalEndpointManager.resolveServiceEndpoint(Matchers.any()))
+            .thenReturn(new URL("https://localhost:8081/"));
+        IRetryPolicyFactory retryPolicyFactory = new ResetSessionTokenRetryPolicyFactory(
+            Mockito.mock(ISessionContainer.class), Mockito.mock(RxClientCollectionCache.class),
+            new RetryPolicy(globalEndpointManager, new ConnectionPolicy()));
+        Mockito.when(client.upsertDocument(Matchers.eq(COLLECTION_LINK), Matchers.any(), Matchers.any(),
+            Matchers.eq(true))).then(invocation -> {
+                Document document = invocation.getArgumentAt(1, Document.class);
+                IDocumentClientRetryPolicy retryPolicy = RxDocumentClientImpl.getDocumentWriteRetryPolicy(
+                    retryPolicyFactory, Mockito.mock(RxClientCollectionCache.class), COLLECTION_LINK,
+                    invocation.getArgumentAt(2, RequestOptions.class));
+                return ObservableHelper.inlineIfPossibleAsObs(() -> {
+                    retryPolicy.onBeforeSendRequest(RxDocumentServiceRequest.create(OperationType.Upsert,
+                        ResourceType.Document, COLLECTION_LINK, document, new HashMap<>()));
+                    return sendBehavior.apply(document).flux();
+                }, retryPolicy);
+            });
+
+        BulkExecutor executor = new BulkExecutor(client, COLLECTION_LINK, 4, 4, 1);
+        Disposable execution = executor.execute(operations("a", 10)).subscribe();
+
+        assertThat(pendingSends).hasSize(4);
+        // The client does not retry the throttled operation although its delay is within the default maximum wait
+        // time of the client, the executor lowers the concurrency limit to two.
+        pendingSends.poll().response.onError(throttled(5000));
+        assertThat(pendingSends).hasSize(3);
+        completeNext();
+        assertThat(pendingSends).hasSize(2);
+
+        execution.dispose();
+    }
+
+    @Test(groups = { "unit" }, timeOut = TIMEOUT)
+    public void throttledOperationIsRetriedAfterRequestedDelay() {
+        Queue<Mono<ResourceResponse<Document>>> responses = new ConcurrentLinkedQueue<>();
+        ResourceResponse<Document> response = resourceResponse(new Document(), Document.class);
+        responses.add(Mono.error(throttled(200)));
+        responses.add(Mono.just(response));
+        sendBehavior = document -> responses.poll();
+
+        BulkExecutor executor = new BulkExecutor(client, COLLECTION_LINK, 1, 1, 1);
+        List<BulkExecutor.ItemResult<Integer>> results = executor.execute(operations("a", 1)).collectList().block();
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getResponse()).isNotNull();
+        assertThat(results.get(0).getError()).isNull();
+        assertThat(sendTimes).hasSize(2);
+        assertThat(sendTimes.get(1) - sendTimes.get(0)).isGreaterThanOrEqualTo(200_000_000L);
+    }
+
+    @Test(groups = { "unit" }, timeOut = TIMEOUT)
+    public void errorIsReportedPerItemAfterMaxThrottleRetries() {
+        sendBehavior = document -> "a".equals(document.getString("pk"))
+            ? Mono.error(throttled(1))
+            : Mono.just(resourceResponse(document, Document.class));
+
+        BulkExecutor executor = new BulkExecutor(client, COLLECTION_LINK, 1, 1, 2);
+        List<BulkExecutor.ItemResult<Integer>> results = executor
+            .execute(Flux.concat(operations("a", 1), operations("b", 1)))
+            .collectList()
+            .block();
+
+        assertThat(results).hasSize(2);
+        BulkExecutor.ItemResult<Integer> throttled = results.stream()
+            .filter(result -> result.getError() != null)
+            .findFirst()
+            .get();
+        assertThat(throttled.getResponse()).isNull();
+        assertThat(throttled.getError()).isInstanceOf(CosmosClientException.class);
+        assertThat(((CosmosClientException) throttled.getError()).statusCode())
+            .isEqualTo(HttpConstants.StatusCodes.TOO_MANY_REQUESTS);
+        assertThat(results).filteredOn(result -> result.getResponse() != null).hasSize(1);
+        // The throttled operation was sent once and retried twice, the other one was sent once.
+        assertThat(sendTimes).hasSize(4);
+    }
+
+    @Test(groups = { "unit" }, timeOut = TIMEOUT)
+    public void unresolvablePartitionKeysShareOneGroup() {
+        BulkExecutor executor = new BulkExecutor(client, COLLECTION_LINK, 1, 1, 0);
+        List<BulkExecutor.ItemResult<Integer>> results = new ArrayList<>();
+        executor.execute(Flux.concat(operations("c", 1), operations("unknown", 1), operations("a", 1)))
+            .subscribe(results::add);
+
+        // The operations without a partition key range are sent one at a time, apart from those of partition "a".
+        assertThat(pendingPartitionKeys()).containsExactlyInAnyOrder("c", "a");
+        completeNext();
+        assertThat(pendingPartitionKeys()).containsExactlyInAnyOrder("unknown", "a");
+        completeNext();
+        completeNext();
+        assertThat(results).hasSize(3);
+    }
+
+    @Test(groups = { "unit" }, timeOut = TIMEOUT)
+    public void stalledPartitionDoesNotHoldUpOthers() {
+        // Reads up to (2 partitions + 1) * 100 * 4 operations ahead.
+        BulkExecutor executor = new BulkExecutor(client, COLLECTION_LINK, 1, 100, 0);
+        // Many more operations for partition "a" than groupBy prefetches, followed by operations of other groups.
+        Disposable execution = executor
+            .execute(Flux.concat(operations("a", 1000), operations("b", 1), operations("unknown", 1)))
+            .subscribe();
+
+        assertThat(pendingPartitionKeys()).containsExactlyInAnyOrder("a", "b", "unknown");
+
+        execution.dispose();
+    }
+
+    @Test(groups = { "unit" }, timeOut = TIMEOUT)
+    public void readAheadIsBounded() {
+        // Reads up to (2 partitions + 1) * 1 * 4 operations ahead.
+        BulkExecutor executor = new BulkExecutor(client, COLLECTION_LINK, 1, 1, 0);
+        AtomicInteger read = new AtomicInteger();
+        Disposable execution = executor
+            .execute(Flux.concat(operations("a", 1000), operations("b", 1)).doOnNext(operation -> read.incrementAndGet()))
+            .subscribe();
+
+        // Partition "a" holds every operation read ahead, the input is not consumed any further than those and the
+        // operations partition "a" already took.
+        assertThat(pendingPartitionKeys()).containsExactly("a");
+        assertThat(read.get()).isBetween(12, 16);
+
+        execution.dispose();
+    }
+
+    @Test(groups = { "unit" }, timeOut = TIMEOUT)
+    public void unresolvablePartitionKeyRangesFailExecution() {
+        Mockito.when(partitionKeyRangeCache.tryLookupAsync("collectionRid", null, null)).thenReturn(Mono.empty());
+        BulkExecutor executor = new BulkExecutor(client, COLLECTION_LINK, 1, 1, 0);
+
+        StepVerifier.create(executor.execute(operations("a", 1)))
+            .expectError(NotFoundException.class)
+            .verify();
+        assertThat(pendingSends).isEmpty();
+    }
+
+    @Test(groups = { "unit" }, timeOut = TIMEOUT)
+    public void failedOperationIsReportedWithoutBeingSent() {
+        sendBehavior = document -> Mono.just(resourceResponse(document, Document.class));
+        IllegalArgumentException error = new IllegalArgumentException("not serializable");
+        BulkExecutor executor = new BulkExecutor(client, COLLECTION_LINK, 1, 1, 0);
+
+        List<BulkExecutor.ItemResult<Integer>> results = executor
+            .execute(Flux.concat(Flux.just(BulkExecutor.ItemOperation.failed(error, -1)), operations("a", 1)))
+            .collectList()
+            .block();
+
+        assertThat(results).hasSize(2);
+        assertThat(results).filteredOn(result -> result.getError() == error).hasSize(1);
+        assertThat(results).filteredOn(result -> result.getResponse() != null).hasSize(1);
+        assertThat(sendTimes).hasSize(1);
+    }
+
+    private Flux<BulkExecutor.ItemOperation<Integer>> operations(String partitionKey, int count) {
+        return Flux.range(0, count).map(i -> new BulkExecutor.ItemOperation<>(true,
+            new Document(String.format("{\"id\":\"%s-%d\",\"pk\":\"%s\"}", partitionKey, i, partitionKey)), null, i));
+    }
+
+    private void completeNext() {
+        PendingSend send = pendingSends.poll();
+        assertThat(send).isNotNull();
+        send.response.onNext(resourceResponse(send.document, Document.class));
+    }
+
+    private List<String> pendingPartitionKeys() {
+        return pendingSends.stream().map(send -> send.document.getString("pk")).collect(Collectors.toList());
+    }
+
+    private String effectivePartitionKey(String partitionKey) {
+        Document document = new Document(String.format("{\"pk\":\"%s\"}", partitionKey));
+        return PartitionKeyInternalHelper.getEffectivePartitionKeyString(
+            RxDocumentClientImpl.getPartitionKeyInternal(document, null, partitionKeyDefinition),
+            partitionKeyDefinition);
+    }
+
+    private static CosmosClientException throttled(long retryAfterInMilliseconds) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(HttpConstants.HttpHeaders.RETRY_AFTER_IN_MILLISECONDS, String.valueOf(retryAfterInMilliseconds));
+        return BridgeInternal.createCosmosClientException("throttled", null, headers,
+            HttpConstants.StatusCodes.TOO_MANY_REQUESTS, null);
+    }
+
+    private static <T extends Resource> ResourceResponse<T> resourceResponse(T resource, Class<T> cls) {
+        RxDocumentServiceResponse response = Mockito.mock(RxDocumentServiceResponse.class);
+        Mockito.when(response.getResource(cls)).thenReturn(resource);
+        return new ResourceResponse<>(response, cls);
+    }
+
+    private static final class PendingSend {
+        private final Document document;
+        private final MonoProcessor<ResourceResponse<Document>> response;
+
+        PendingSend(Document document, MonoProcessor<ResourceResponse<Document>> response) {
+            this.document = document;
+            this.response = response;
+        }
+    }
+}
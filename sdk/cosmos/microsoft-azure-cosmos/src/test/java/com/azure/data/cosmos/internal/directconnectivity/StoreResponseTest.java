@@ -9,6 +9,7 @@ import org.testng.annotations.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -30,6 +31,22 @@ public class StoreResponseTest {
         assertThat(sp.getHeaderValue("key1")).isEqualTo("value1");
     }
 
+    @Test(groups = { "unit" })
+    public void byteArrayContent() {
+        String content = "{\"id\":\"\u00e9t\u00e9\"}";
+        byte[] contentBytes = content.getBytes(StandardCharsets.UTF_8);
+        HashMap<String, String> headerMap = new HashMap<>();
+        headerMap.put("key1", "value1");
+
+        StoreResponse sp = new StoreResponse(200, new ArrayList<>(headerMap.entrySet()), contentBytes);
+
+        assertThat(sp.getStatus()).isEqualTo(200);
+        assertThat(sp.getResponseStream()).isNull();
+        assertThat(sp.getResponseBodyAsByteArray()).isSameAs(contentBytes);
+        assertThat(sp.getResponseBody()).isEqualTo(content);
+        assertThat(sp.getHeaderValue("key1")).isEqualTo("value1");
+    }
+
     @Test(groups = { "unit" })
     public void streamContent() throws Exception {
 
@@ -0,0 +1,111 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.query;
+
+import com.azure.data.cosmos.BridgeInternal;
+import com.azure.data.cosmos.FeedResponse;
+import com.azure.data.cosmos.internal.Document;
+import com.azure.data.cosmos.internal.Utils.ValueHolder;
+import org.testng.annotations.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.drain;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.page;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.results;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.source;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.verifyBadRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DistinctDocumentQueryExecutionContextTest {
+
+    @Test(groups = { "unit" })
+    public void orderedDistinctAcrossPages() {
+        DistinctDocumentQueryExecutionContext<Document> distinct = new DistinctDocumentQueryExecutionContext<>(
+                source(page("t1", "{\"a\": 1}", "{\"a\": 1}", "{\"a\": 2}"),
+                        page("t2", "{\"a\": 2}", "{\"a\": 2}"),
+                        page(null, "{\"a\": 2}", "{\"a\": 3}")),
+                DistinctQueryType.Ordered, null);
+
+        List<FeedResponse<Document>> pages = drain(distinct, 10);
+
+        assertThat(values(results(pages))).containsExactly(1, 2, 3);
+        assertThat(pages.get(1).results()).isEmpty();
+        ValueHolder<DistinctContinuationToken> continuationToken = new ValueHolder<>();
+        assertThat(DistinctContinuationToken.tryParse(pages.get(1).continuationToken(), continuationToken)).isTrue();
+        assertThat(continuationToken.v.getSourceToken()).isEqualTo("t2");
+        assertThat(continuationToken.v.getLastHash()).isEqualTo(hash("{\"a\": 2}"));
+        assertThat(pages.get(2).continuationToken()).isNull();
+    }
+
+    @Test(groups = { "unit" })
+    public void orderedDistinctResumesFromContinuationToken() {
+        String continuationToken = new DistinctContinuationToken(hash("{\"a\": 2}"), "t2").toJson();
+        AtomicReference<String> sourceToken = new AtomicReference<>();
+
+        List<FeedResponse<Document>> pages = DistinctDocumentQueryExecutionContext.<Document>createAsync(token -> {
+            sourceToken.set(token);
+            return Flux.just(source(page(null, "{\"a\": 2}", "{\"a\": 3}")));
+        }, DistinctQueryType.Ordered, continuationToken)
+                .flatMap(distinct -> distinct.drainAsync(10))
+                .collectList()
+                .block();
+
+        assertThat(sourceToken.get()).isEqualTo("t2");
+        assertThat(values(results(pages))).containsExactly(3);
+    }
+
+    @Test(groups = { "unit" })
+    public void unorderedDistinctAcrossPages() {
+        DistinctDocumentQueryExecutionContext<Document> distinct = new DistinctDocumentQueryExecutionContext<>(
+                source(page("t1", "{\"a\": 1}", "{\"a\": 2}", "{\"a\": 1}"),
+                        page(null, "{\"a\": 3}", "{\"a\": 2}", "{\"a\": 1}", "{\"a\": 4}")),
+                DistinctQueryType.Unordered, null);
+
+        List<FeedResponse<Document>> pages = drain(distinct, 10);
+
+        assertThat(values(results(pages))).containsExactly(1, 2, 3, 4);
+        // The hashes of the previous pages cannot be resumed from.
+        assertThat(pages.get(0).continuationToken()).isNull();
+    }
+
+    @Test(groups = { "unit" })
+    public void unorderedDistinctKeepsEveryDistinctResult() {
+        List<FeedResponse<Document>> sourcePages = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String[] results = new String[100];
+            for (int j = 0; j < results.length; j++) {
+                results[j] = String.format("{\"a\": %d}", i * results.length + j);
+            }
+            sourcePages.add(page(null, results));
+        }
+        sourcePages.add(page(null, "{\"a\": 0}", "{\"a\": 9999}"));
+        @SuppressWarnings("unchecked")
+        FeedResponse<Document>[] pages = sourcePages.toArray(new FeedResponse[0]);
+
+        List<Document> results = results(drain(new DistinctDocumentQueryExecutionContext<>(source(pages),
+                DistinctQueryType.Unordered, null), 10));
+
+        assertThat(results).hasSize(10000);
+    }
+
+    @Test(groups = { "unit" })
+    public void unorderedDistinctRejectsContinuationToken() {
+        String continuationToken = new DistinctContinuationToken(null, "t1").toJson();
+        verifyBadRequest(DistinctDocumentQueryExecutionContext.<Document>createAsync(
+                token -> Flux.just(source()), DistinctQueryType.Unordered, continuationToken));
+    }
+
+    private static String hash(String json) {
+        return DistinctHash.hash(BridgeInternal.getPropertyBag(new Document(json))).toString();
+    }
+
+    private static List<Integer> values(List<Document> results) {
+        return results.stream().map(result -> result.getInt("a")).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,55 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.query;
+
+import com.azure.data.cosmos.internal.Utils;
+import com.azure.data.cosmos.internal.Utils.ValueHolder;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DistinctHashTest {
+
+    @Test(groups = { "unit" })
+    public void equalValues() throws Exception {
+        assertThat(DistinctHash.hash(parse("{\"a\": 1, \"b\": [true, null, \"x\"]}")))
+                .isEqualTo(DistinctHash.hash(parse("{\"b\": [true, null, \"x\"], \"a\": 1.0}")));
+        assertThat(DistinctHash.hash(parse("0"))).isEqualTo(DistinctHash.hash(parse("-0.0")));
+    }
+
+    @Test(groups = { "unit" })
+    public void differentValues() throws Exception {
+        assertThat(DistinctHash.hash(parse("1"))).isNotEqualTo(DistinctHash.hash(parse("\"1\"")));
+        assertThat(DistinctHash.hash(parse("null"))).isNotEqualTo(DistinctHash.hash(null));
+        assertThat(DistinctHash.hash(parse("[1, 2]"))).isNotEqualTo(DistinctHash.hash(parse("[2, 1]")));
+        assertThat(DistinctHash.hash(parse("[\"ab\", \"c\"]")))
+                .isNotEqualTo(DistinctHash.hash(parse("[\"a\", \"bc\"]")));
+        assertThat(DistinctHash.hash(parse("{\"a\": {}}"))).isNotEqualTo(DistinctHash.hash(parse("{\"a\": []}")));
+    }
+
+    @Test(groups = { "unit" })
+    public void continuationTokens() {
+        String lastHash = DistinctHash.hash(null).toString();
+        ValueHolder<DistinctContinuationToken> distinctToken = new ValueHolder<>();
+        assertThat(DistinctContinuationToken.tryParse(
+                new DistinctContinuationToken(lastHash, "source").toJson(), distinctToken)).isTrue();
+        assertThat(distinctToken.v.getLastHash()).isEqualTo(lastHash);
+        assertThat(distinctToken.v.getSourceToken()).isEqualTo("source");
+
+        ValueHolder<OffsetLimitContinuationToken> offsetLimitToken = new ValueHolder<>();
+        assertThat(OffsetLimitContinuationToken.tryParse(
+                new OffsetLimitContinuationToken(3, 5, "source").toJson(), offsetLimitToken)).isTrue();
+        assertThat(offsetLimitToken.v.getOffset()).isEqualTo(3);
+        assertThat(offsetLimitToken.v.getLimit()).isEqualTo(5);
+        assertThat(offsetLimitToken.v.getSourceToken()).isEqualTo("source");
+
+        assertThat(OffsetLimitContinuationToken.tryParse("{\"limit\": 5}", offsetLimitToken)).isFalse();
+        assertThat(OffsetLimitContinuationToken.tryParse("not json", offsetLimitToken)).isFalse();
+    }
+
+    private static JsonNode parse(String json) throws Exception {
+        return Utils.getSimpleObjectMapper().readTree(json);
+    }
+}
@@ -0,0 +1,103 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.query;
+
+import com.azure.data.cosmos.FeedResponse;
+import com.azure.data.cosmos.internal.Constants;
+import com.azure.data.cosmos.internal.Document;
+import com.azure.data.cosmos.internal.query.aggregation.AggregateOperator;
+import org.testng.annotations.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.drain;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.page;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.results;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.source;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.verifyBadRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GroupByDocumentQueryExecutionContextTest {
+
+    @Test(groups = { "unit" })
+    public void mergesPartialGroupsOfPartitions() {
+        QueryInfo queryInfo = new QueryInfo("{"
+                + "\"groupByExpressions\": [\"c.city\"],"
+                + "\"groupByAliases\": [\"city\", \"total\", \"average\", \"count\"],"
+                + "\"groupByAliasToAggregateType\": {\"city\": null, \"total\": \"Sum\", \"average\": \"Average\","
+                + " \"count\": \"Count\"},"
+                + "\"hasSelectValue\": false}");
+        assertThat(queryInfo.getGroupByAliasToAggregateType())
+                .containsEntry("city", null)
+                .containsEntry("average", AggregateOperator.Average);
+
+        // Each page holds the partial groups of a partition.
+        List<FeedResponse<Document>> pages = GroupByDocumentQueryExecutionContext.<Document>createAsync(
+                token -> Flux.just(source(
+                        page("p1",
+                                group("Seattle", "\"city\": \"Seattle\", \"total\": {\"item\": 10},"
+                                        + " \"average\": {\"item\": {\"sum\": 10, \"count\": 2}},"
+                                        + " \"count\": {\"item\": 2}"),
+                                group("Portland", "\"city\": \"Portland\", \"total\": {\"item\": 1},"
+                                        + " \"average\": {\"item\": {\"sum\": 1, \"count\": 1}},"
+                                        + " \"count\": {\"item\": 1}")),
+                        page(null,
+                                group("Seattle", "\"city\": \"Seattle\", \"total\": {\"item\": 20},"
+                                        + " \"average\": {\"item\": {\"sum\": 20, \"count\": 2}},"
+                                        + " \"count\": {\"item\": 2}")))),
+                queryInfo, null)
+                .flatMap(groupBy -> groupBy.drainAsync(1))
+                .collectList()
+                .block();
+
+        // All groups are returned once every partition was drained, in pages of the requested size.
+        assertThat(pages).hasSize(2);
+        List<Document> results = results(pages);
+        assertThat(results.get(0).getString("city")).isEqualTo("Seattle");
+        assertThat(results.get(0).getDouble("total")).isEqualTo(30);
+        assertThat(results.get(0).getDouble("average")).isEqualTo(7.5);
+        assertThat(results.get(0).getLong("count")).isEqualTo(4);
+        assertThat(results.get(1).getString("city")).isEqualTo("Portland");
+        assertThat(results.get(1).getDouble("total")).isEqualTo(1);
+        assertThat(results.get(1).getDouble("average")).isEqualTo(1);
+        assertThat(results.get(1).getLong("count")).isEqualTo(1);
+    }
+
+    @Test(groups = { "unit" })
+    public void mergesPartialGroupsOfSelectValue() {
+        QueryInfo queryInfo = new QueryInfo("{"
+                + "\"groupByExpressions\": [\"c.city\"],"
+                + "\"groupByAliases\": [\"$1\"],"
+                + "\"groupByAliasToAggregateType\": {\"$1\": \"Max\"},"
+                + "\"hasSelectValue\": true}");
+        assertThat(queryInfo.hasSelectValue()).isTrue();
+
+        GroupByDocumentQueryExecutionContext<Document> groupBy = new GroupByDocumentQueryExecutionContext<>(
+                source(page("p1", selectValueGroup("Seattle", 3), selectValueGroup("Portland", 8)),
+                        page(null, selectValueGroup("Seattle", 5), selectValueGroup("Portland", 2))),
+                queryInfo.getGroupByAliasToAggregateType(), queryInfo.getGroupByAliases(),
+                queryInfo.hasSelectValue());
+
+        List<Document> results = results(drain(groupBy, 10));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getInt(Constants.Properties.AGGREGATE)).isEqualTo(5);
+        assertThat(results.get(1).getInt(Constants.Properties.AGGREGATE)).isEqualTo(8);
+    }
+
+    @Test(groups = { "unit" })
+    public void groupByRejectsContinuationToken() {
+        verifyBadRequest(GroupByDocumentQueryExecutionContext.<Document>createAsync(
+                token -> Flux.just(source()), new QueryInfo(), "p1"));
+    }
+
+    private static String group(String city, String payload) {
+        return String.format("{\"groupByItems\": [{\"item\": \"%s\"}], \"payload\": {%s}}", city, payload);
+    }
+
+    private static String selectValueGroup(String city, int value) {
+        return String.format("{\"groupByItems\": [{\"item\": \"%s\"}], \"payload\": [{\"item\": %d}]}", city, value);
+    }
+}
@@ -0,0 +1,83 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.query;
+
+import com.azure.data.cosmos.FeedResponse;
+import com.azure.data.cosmos.internal.Document;
+import com.azure.data.cosmos.internal.Utils.ValueHolder;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.drain;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.page;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.results;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.source;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.verifyBadRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffsetLimitDocumentQueryExecutionContextTest {
+
+    @Test(groups = { "unit" })
+    public void offsetLimitAcrossPages() {
+        ParallelDocumentQueryExecutionContextBase<Document> source = source(
+                page("t1", "{\"a\": 0}", "{\"a\": 1}"),
+                page("t2", "{\"a\": 2}", "{\"a\": 3}"),
+                page("t3", "{\"a\": 4}", "{\"a\": 5}"),
+                page("t4", "{\"a\": 6}", "{\"a\": 7}"),
+                page(null, "{\"a\": 8}", "{\"a\": 9}"));
+
+        List<FeedResponse<Document>> pages = drain(new OffsetLimitDocumentQueryExecutionContext<>(source, 3, 4), 10);
+
+        assertThat(values(results(pages))).containsExactly(3, 4, 5, 6);
+        // No partition has to return more than the results skipped and taken.
+        Mockito.verify(source).setTop(7);
+        // The source is not drained past the limit.
+        assertThat(pages).hasSize(4);
+        ValueHolder<OffsetLimitContinuationToken> continuationToken = new ValueHolder<>();
+        assertThat(OffsetLimitContinuationToken.tryParse(pages.get(1).continuationToken(), continuationToken))
+                .isTrue();
+        assertThat(continuationToken.v.getOffset()).isEqualTo(0);
+        assertThat(continuationToken.v.getLimit()).isEqualTo(3);
+        assertThat(continuationToken.v.getSourceToken()).isEqualTo("t2");
+        assertThat(pages.get(3).continuationToken()).isNull();
+    }
+
+    @Test(groups = { "unit" })
+    public void offsetLimitResumesFromContinuationToken() {
+        String continuationToken = new OffsetLimitContinuationToken(1, 2, "t2").toJson();
+        AtomicReference<String> sourceToken = new AtomicReference<>();
+        AtomicReference<ParallelDocumentQueryExecutionContextBase<Document>> source = new AtomicReference<>();
+
+        List<FeedResponse<Document>> pages = OffsetLimitDocumentQueryExecutionContext.<Document>createAsync(token -> {
+            sourceToken.set(token);
+            source.set(source(page("t3", "{\"a\": 4}", "{\"a\": 5}"), page(null, "{\"a\": 6}", "{\"a\": 7}")));
+            return Flux.just(source.get());
+        }, 3, 4, continuationToken)
+                .flatMap(offsetLimit -> offsetLimit.drainAsync(10))
+                .collectList()
+                .block();
+
+        assertThat(sourceToken.get()).isEqualTo("t2");
+        assertThat(values(results(pages))).containsExactly(5, 6);
+        Mockito.verify(source.get()).setTop(3);
+    }
+
+    @Test(groups = { "unit" })
+    public void offsetLimitRejectsContinuationTokenBeyondQuery() {
+        String continuationToken = new OffsetLimitContinuationToken(1, 5, "t2").toJson();
+        verifyBadRequest(OffsetLimitDocumentQueryExecutionContext.<Document>createAsync(
+                token -> Flux.just(source()), 3, 4, continuationToken));
+        verifyBadRequest(OffsetLimitDocumentQueryExecutionContext.<Document>createAsync(
+                token -> Flux.just(source()), 3, 4, "{\"offset\": -1}"));
+    }
+
+    private static List<Integer> values(List<Document> results) {
+        return results.stream().map(result -> result.getInt("a")).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,65 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.query;
+
+import com.azure.data.cosmos.CosmosClientException;
+import com.azure.data.cosmos.FeedResponse;
+import com.azure.data.cosmos.internal.Document;
+import com.azure.data.cosmos.internal.HttpConstants;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Feeds pages of documents to the query execution components under test, as the partitions of a query would.
+ */
+final class QueryExecutionComponentTestHelper {
+
+    private QueryExecutionComponentTestHelper() {
+    }
+
+    static FeedResponse<Document> page(String continuationToken, String... results) {
+        List<Document> documents = Arrays.stream(results).map(Document::new).collect(Collectors.toList());
+        return FeedResponseBuilder.queryFeedResponseBuilder(Document.class)
+                .withResults(documents)
+                .withContinuationToken(continuationToken)
+                .build();
+    }
+
+    /**
+     * Creates a source component returning the pages, which records the top pushed down to it.
+     */
+    @SuppressWarnings("unchecked")
+    static ParallelDocumentQueryExecutionContextBase<Document> source(FeedResponse<Document>... pages) {
+        ParallelDocumentQueryExecutionContextBase<Document> source =
+                Mockito.mock(ParallelDocumentQueryExecutionContextBase.class);
+        Mockito.when(source.drainAsync(Matchers.anyInt())).thenReturn(Flux.fromArray(pages));
+        return source;
+    }
+
+    static List<FeedResponse<Document>> drain(IDocumentQueryExecutionComponent<Document> component, int maxPageSize) {
+        return component.drainAsync(maxPageSize).collectList().block();
+    }
+
+    static List<Document> results(List<FeedResponse<Document>> pages) {
+        List<Document> results = new ArrayList<>();
+        for (FeedResponse<Document> page : pages) {
+            results.addAll(page.results());
+        }
+        return results;
+    }
+
+    static void verifyBadRequest(Flux<?> flux) {
+        StepVerifier.create(flux)
+                .expectErrorMatches(error -> error instanceof CosmosClientException
+                        && ((CosmosClientException) error).statusCode() == HttpConstants.StatusCodes.BADREQUEST)
+                .verify();
+    }
+}
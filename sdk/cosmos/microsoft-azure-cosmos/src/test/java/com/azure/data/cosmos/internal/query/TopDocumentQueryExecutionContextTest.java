@@ -0,0 +1,68 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.cosmos.internal.query;
+
+import com.azure.data.cosmos.FeedResponse;
+import com.azure.data.cosmos.internal.Document;
+import com.azure.data.cosmos.internal.query.aggregation.AggregateOperator;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.drain;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.page;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.results;
+import static com.azure.data.cosmos.internal.query.QueryExecutionComponentTestHelper.source;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TopDocumentQueryExecutionContextTest {
+
+    @Test(groups = { "unit" })
+    public void topIsPushedToPartitions() {
+        ParallelDocumentQueryExecutionContextBase<Document> source = source(
+                page("t1", "{\"a\": 0}", "{\"a\": 1}"),
+                page("t2", "{\"a\": 2}", "{\"a\": 3}"),
+                page(null, "{\"a\": 4}"));
+
+        List<FeedResponse<Document>> pages = drain(new TopDocumentQueryExecutionContext<>(source, 3), 10);
+
+        Mockito.verify(source).setTop(3);
+        assertThat(results(pages)).hasSize(3);
+        assertThat(pages).hasSize(2);
+        assertThat(pages.get(1).continuationToken()).isNull();
+    }
+
+    @Test(groups = { "unit" })
+    public void topIsPushedThroughAggregate() {
+        ParallelDocumentQueryExecutionContextBase<Document> source = source(page(null, "{\"item\": 1}"));
+
+        drain(new TopDocumentQueryExecutionContext<>(new AggregateDocumentQueryExecutionContext<>(source,
+                Collections.singletonList(AggregateOperator.Count)), 1), 10);
+
+        Mockito.verify(source).setTop(1);
+    }
+
+    @Test(groups = { "unit" })
+    public void topIsNotPushedThroughDistinctGroupByOrOffset() {
+        ParallelDocumentQueryExecutionContextBase<Document> distinctSource = source(page(null, "{\"a\": 0}"));
+        drain(new TopDocumentQueryExecutionContext<>(new DistinctDocumentQueryExecutionContext<>(distinctSource,
+                DistinctQueryType.Unordered, null), 1), 10);
+        Mockito.verify(distinctSource, Mockito.never()).setTop(Matchers.anyInt());
+
+        ParallelDocumentQueryExecutionContextBase<Document> groupBySource = source(page(null));
+        drain(new TopDocumentQueryExecutionContext<>(new GroupByDocumentQueryExecutionContext<>(groupBySource,
+                Collections.singletonMap("a", AggregateOperator.Count), null, false), 1), 10);
+        Mockito.verify(groupBySource, Mockito.never()).setTop(Matchers.anyInt());
+
+        // OFFSET pushes down the results it skips and takes, not the top above it.
+        ParallelDocumentQueryExecutionContextBase<Document> offsetSource = source(page(null, "{\"a\": 0}"));
+        drain(new TopDocumentQueryExecutionContext<>(new OffsetLimitDocumentQueryExecutionContext<>(offsetSource,
+                2, 10), 1), 10);
+        Mockito.verify(offsetSource).setTop(12);
+        Mockito.verify(offsetSource, Mockito.never()).setTop(1);
+    }
+}
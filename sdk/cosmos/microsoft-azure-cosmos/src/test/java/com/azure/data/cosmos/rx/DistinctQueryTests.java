@@ -0,0 +1,127 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.data.cosmos.rx;
+
+import com.azure.data.cosmos.BridgeInternal;
+import com.azure.data.cosmos.CosmosClient;
+import com.azure.data.cosmos.CosmosClientBuilder;
+import com.azure.data.cosmos.CosmosContainer;
+import com.azure.data.cosmos.CosmosItemProperties;
+import com.azure.data.cosmos.FeedOptions;
+import com.azure.data.cosmos.FeedResponse;
+import com.azure.data.cosmos.internal.RetryAnalyzer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DistinctQueryTests extends TestSuiteBase {
+    private static final int NUMBER_OF_DOCUMENTS = 100;
+    private static final int NUMBER_OF_DISTINCT_VALUES = 10;
+
+    private CosmosContainer createdCollection;
+    private ArrayList<CosmosItemProperties> docs = new ArrayList<CosmosItemProperties>();
+
+    private String partitionKey = "mypk";
+    private String field = "field";
+
+    private CosmosClient client;
+
+    @Factory(dataProvider = "clientBuildersWithDirect")
+    public DistinctQueryTests(CosmosClientBuilder clientBuilder) {
+        super(clientBuilder);
+    }
+
+    @Test(groups = { "simple" }, timeOut = TIMEOUT, retryAnalyzer = RetryAnalyzer.class)
+    public void queryDocumentsWithDistinct() throws Exception {
+        FeedOptions options = new FeedOptions();
+        options.enableCrossPartitionQuery(true);
+        options.maxItemCount(7);
+        options.maxDegreeOfParallelism(2);
+
+        List<FeedResponse<CosmosItemProperties>> pages = createdCollection
+            .queryItems(String.format("SELECT DISTINCT c.%s FROM c", field), options)
+            .collectList()
+            .block();
+
+        List<Integer> values = pages.stream()
+            .flatMap(page -> page.results().stream())
+            .map(result -> result.getInt(field))
+            .collect(Collectors.toList());
+        assertThat(values).containsExactlyInAnyOrderElementsOf(expectedValues());
+    }
+
+    @Test(groups = { "simple" }, timeOut = TIMEOUT * 10, retryAnalyzer = RetryAnalyzer.class)
+    public void queryDocumentsWithOrderedDistinctContinuationTokens() throws Exception {
+        String query = String.format("SELECT DISTINCT c.%s FROM c ORDER BY c.%s", field, field);
+        for (int pageSize : new int[] { 1, 3, 20 }) {
+            List<Integer> values = queryWithContinuationTokens(query, pageSize).stream()
+                .map(result -> result.getInt(field))
+                .collect(Collectors.toList());
+
+            assertThat(values).describedAs("page size %d", pageSize).containsExactlyElementsOf(expectedValues());
+        }
+    }
+
+    private List<Integer> expectedValues() {
+        return IntStream.range(0, NUMBER_OF_DISTINCT_VALUES).boxed().collect(Collectors.toList());
+    }
+
+    private List<CosmosItemProperties> queryWithContinuationTokens(String query, int pageSize) {
+        String requestContinuation = null;
+        List<CosmosItemProperties> receivedDocuments = new ArrayList<CosmosItemProperties>();
+
+        do {
+            FeedOptions options = new FeedOptions();
+            options.maxItemCount(pageSize);
+            options.enableCrossPartitionQuery(true);
+            options.maxDegreeOfParallelism(2);
+            options.requestContinuation(requestContinuation);
+
+            FeedResponse<CosmosItemProperties> firstPage = createdCollection.queryItems(query, options).blockFirst();
+            requestContinuation = firstPage.continuationToken();
+            receivedDocuments.addAll(firstPage.results());
+        } while (requestContinuation != null);
+
+        return receivedDocuments;
+    }
+
+    public void bulkInsert() {
+        generateTestData();
+        voidBulkInsertBlocking(createdCollection, docs);
+    }
+
+    public void generateTestData() {
+        for (int i = 0; i < NUMBER_OF_DOCUMENTS; i++) {
+            CosmosItemProperties d = new CosmosItemProperties();
+            d.id(UUID.randomUUID().toString());
+            BridgeInternal.setProperty(d, field, i % NUMBER_OF_DISTINCT_VALUES);
+            BridgeInternal.setProperty(d, partitionKey, i);
+            docs.add(d);
+        }
+    }
+
+    @AfterClass(groups = { "simple" }, timeOut = SHUTDOWN_TIMEOUT, alwaysRun = true)
+    public void afterClass() {
+        safeClose(client);
+    }
+
+    @BeforeClass(groups = { "simple" }, timeOut = SETUP_TIMEOUT)
+    public void beforeClass() throws Exception {
+        client = clientBuilder().build();
+        createdCollection = getSharedMultiPartitionCosmosContainer(client);
+        truncateCollection(createdCollection);
+
+        bulkInsert();
+
+        waitIfNeededForReplicasToCatchUp(clientBuilder());
+    }
+}
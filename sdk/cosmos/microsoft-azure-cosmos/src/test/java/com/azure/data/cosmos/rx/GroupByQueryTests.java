@@ -0,0 +1,131 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.azure.data.cosmos.rx;
+
+import com.azure.data.cosmos.BridgeInternal;
+import com.azure.data.cosmos.CosmosClient;
+import com.azure.data.cosmos.CosmosClientBuilder;
+import com.azure.data.cosmos.CosmosContainer;
+import com.azure.data.cosmos.CosmosItemProperties;
+import com.azure.data.cosmos.FeedOptions;
+import com.azure.data.cosmos.internal.RetryAnalyzer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GroupByQueryTests extends TestSuiteBase {
+    private static final int NUMBER_OF_DOCUMENTS = 30;
+    private static final String[] CITIES = { "Seattle", "Portland", "Vancouver" };
+
+    private CosmosContainer createdCollection;
+    private ArrayList<CosmosItemProperties> docs = new ArrayList<CosmosItemProperties>();
+
+    private String partitionKey = "mypk";
+    private String field = "field";
+    private String city = "city";
+
+    private CosmosClient client;
+
+    @Factory(dataProvider = "clientBuildersWithDirect")
+    public GroupByQueryTests(CosmosClientBuilder clientBuilder) {
+        super(clientBuilder);
+    }
+
+    @Test(groups = { "simple" }, timeOut = TIMEOUT, retryAnalyzer = RetryAnalyzer.class)
+    public void queryDocumentsWithGroupBy() throws Exception {
+        String query = String.format(
+            "SELECT c.%s, COUNT(1) AS count, SUM(c.%s) AS total, AVG(c.%s) AS average FROM c GROUP BY c.%s",
+            city, field, field, city);
+
+        Map<String, CosmosItemProperties> groups = query(query, 2).stream()
+            .collect(Collectors.toMap(result -> result.getString(city), Function.identity()));
+
+        assertThat(groups).hasSize(CITIES.length);
+        for (String name : CITIES) {
+            List<Integer> values = valuesOf(name);
+            CosmosItemProperties group = groups.get(name);
+            assertThat(group.getLong("count")).isEqualTo(values.size());
+            assertThat(group.getDouble("total")).isEqualTo(values.stream().mapToInt(Integer::intValue).sum());
+            assertThat(group.getDouble("average"))
+                .isEqualTo(values.stream().mapToInt(Integer::intValue).average().getAsDouble());
+        }
+    }
+
+    @Test(groups = { "simple" }, timeOut = TIMEOUT, retryAnalyzer = RetryAnalyzer.class)
+    public void queryDocumentsWithGroupBySelectValue() throws Exception {
+        String query = String.format("SELECT VALUE MAX(c.%s) FROM c GROUP BY c.%s", field, city);
+
+        List<Integer> maxima = query(query, 1).stream()
+            .map(result -> result.getInt("_aggregate"))
+            .collect(Collectors.toList());
+
+        List<Integer> expectedMaxima = new ArrayList<>();
+        for (String name : CITIES) {
+            expectedMaxima.add(valuesOf(name).stream().mapToInt(Integer::intValue).max().getAsInt());
+        }
+        assertThat(maxima).containsExactlyInAnyOrderElementsOf(expectedMaxima);
+    }
+
+    private List<CosmosItemProperties> query(String query, int pageSize) {
+        FeedOptions options = new FeedOptions();
+        options.enableCrossPartitionQuery(true);
+        options.maxItemCount(pageSize);
+        options.maxDegreeOfParallelism(2);
+
+        return createdCollection.queryItems(query, options)
+            .collectList()
+            .block()
+            .stream()
+            .flatMap(page -> page.results().stream())
+            .collect(Collectors.toList());
+    }
+
+    private List<Integer> valuesOf(String name) {
+        return docs.stream()
+            .filter(d -> name.equals(d.getString(city)))
+            .map(d -> d.getInt(field))
+            .collect(Collectors.toList());
+    }
+
+    public void bulkInsert() {
+        generateTestData();
+        voidBulkInsertBlocking(createdCollection, docs);
+    }
+
+    public void generateTestData() {
+        for (int i = 0; i < NUMBER_OF_DOCUMENTS; i++) {
+            CosmosItemProperties d = new CosmosItemProperties();
+            d.id(UUID.randomUUID().toString());
+            BridgeInternal.setProperty(d, city, CITIES[i % CITIES.length]);
+            BridgeInternal.setProperty(d, field, i);
+            BridgeInternal.setProperty(d, partitionKey, i);
+            docs.add(d);
+        }
+    }
+
+    @AfterClass(groups = { "simple" }, timeOut = SHUTDOWN_TIMEOUT, alwaysRun = true)
+    public void afterClass() {
+        safeClose(client);
+    }
+
+    @BeforeClass(groups = { "simple" }, timeOut = SETUP_TIMEOUT)
+    public void beforeClass() throws Exception {
+        client = clientBuilder().build();
+        createdCollection = getSharedMultiPartitionCosmosContainer(client);
+        truncateCollection(createdCollection);
+
+        bulkInsert();
+
+        waitIfNeededForReplicasToCatchUp(clientBuilder());
+    }
+}